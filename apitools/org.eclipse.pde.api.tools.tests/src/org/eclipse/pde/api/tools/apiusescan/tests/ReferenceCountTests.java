@@ -18,6 +18,8 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.File;
+
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.osgi.util.NLS;
@@ -28,6 +30,7 @@ import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
 import org.eclipse.pde.api.tools.internal.search.IReferenceCollection;
 import org.eclipse.pde.api.tools.internal.search.IReferenceDescriptor;
 import org.eclipse.pde.api.tools.internal.search.UseScanManager;
+import org.eclipse.pde.api.tools.internal.util.Util;
 import org.eclipse.pde.api.tools.model.tests.TestSuiteHelper;
 import org.junit.Before;
 import org.junit.Test;
@@ -139,4 +142,36 @@ public class ReferenceCountTests {
 		assertFalse("References for org.eclipse.equinox.app.IApplication should have been purged from the cache", //$NON-NLS-1$
 				useScanRefs.hasReferencesTo("org.eclipse.equinox.app.IApplication")); //$NON-NLS-1$
 	}
+
+	/**
+	 * Tests that the references of a scan generated again at the same location
+	 * are read from the new scan instead of the index of the previous one
+	 */
+	@Test
+	public void testRegeneratedScan() throws Exception {
+		String location = ExternalDependencyTestUtils.setupReport("reportAll", true); //$NON-NLS-1$
+		if (location == null) {
+			fail("Could not setup the report : reportAll.zip"); //$NON-NLS-1$
+		}
+		IApiComponent apiComponent = fBaseline.getApiComponent(ExternalDependencyTestUtils.PROJECT_NAME);
+		String[] apiUseTypes = new String[] { "tests.apiusescan.coretestproject.TestInterfaceImpl" }; //$NON-NLS-1$
+		try {
+			IReferenceDescriptor[] dependencies = fUseScanManager.getExternalDependenciesFor(apiComponent, apiUseTypes, new NullProgressMonitor());
+			assertEquals("Incorrect number of references in reportAll", 6, dependencies.length); //$NON-NLS-1$
+
+			// replace the scan by reportOne at the same location
+			File scanDir = new File(location).getParentFile();
+			File reportsDir = scanDir.getParentFile();
+			Util.delete(scanDir);
+			Util.unzip(ExternalDependencyTestUtils.fReportLocation + "reportOne.zip", reportsDir.getAbsolutePath()); //$NON-NLS-1$
+			assertTrue("Could not replace the report", new File(reportsDir, "reportOne").renameTo(scanDir)); //$NON-NLS-1$ //$NON-NLS-2$
+			// only drop the references cached by the component, not the index
+			apiComponent.getExternalDependencies().clear();
+
+			dependencies = fUseScanManager.getExternalDependenciesFor(apiComponent, apiUseTypes, new NullProgressMonitor());
+			assertEquals("Incorrect number of references in the regenerated scan", 2, dependencies.length); //$NON-NLS-1$
+		} finally {
+			fUseScanManager.clearCache();
+		}
+	}
 }
@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.builder.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.pde.api.tools.internal.builder.ReferenceAnalyzer;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.problems.IApiProblem;
+import org.eclipse.pde.api.tools.model.tests.TestSuiteHelper;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that the concurrent API use analysis of the {@link ReferenceAnalyzer}
+ * reports the same problems as the sequential one
+ */
+public class ReferenceAnalyzerTests {
+
+	private IApiBaseline fBaseline;
+
+	@Before
+	public void setUp() throws CoreException {
+		fBaseline = TestSuiteHelper.createTestingBaseline("test-plugins"); //$NON-NLS-1$
+	}
+
+	@After
+	public void tearDown() {
+		ApiTestingEnvironment.dispose(fBaseline);
+	}
+
+	@Test
+	public void testDefaultIsSequential() {
+		String threads = System.clearProperty(ReferenceAnalyzer.PARALLELISM_PROPERTY);
+		try {
+			assertEquals("The analysis should be sequential unless configured", 1, //$NON-NLS-1$
+					ReferenceAnalyzer.getDefaultParallelism());
+			System.setProperty(ReferenceAnalyzer.PARALLELISM_PROPERTY, "4"); //$NON-NLS-1$
+			assertEquals("The configured number of threads should be used", 4, //$NON-NLS-1$
+					ReferenceAnalyzer.getDefaultParallelism());
+		} finally {
+			if (threads == null) {
+				System.clearProperty(ReferenceAnalyzer.PARALLELISM_PROPERTY);
+			} else {
+				System.setProperty(ReferenceAnalyzer.PARALLELISM_PROPERTY, threads);
+			}
+		}
+	}
+
+	@Test
+	public void testParallelAnalysisReportsSameProblems() throws CoreException {
+		IApiComponent[] components = fBaseline.getApiComponents();
+		assertNotEquals("The testing baseline should have components", 0, components.length); //$NON-NLS-1$
+		for (IApiComponent component : components) {
+			if (component.isSystemComponent()) {
+				continue;
+			}
+			assertEquals("Problems of " + component.getSymbolicName() + " should not depend on the number of threads", //$NON-NLS-1$ //$NON-NLS-2$
+					analyze(component, 1), analyze(component, 4));
+		}
+	}
+
+	/**
+	 * Tests that the leaks of internal types from the API of component.a are
+	 * reported in the same order whatever the number of threads, to make sure
+	 * the compared problems are not trivially equal
+	 */
+	@Test
+	public void testParallelAnalysisReportsSameLeaks() throws CoreException {
+		IApiComponent component = fBaseline.getApiComponent("component.a"); //$NON-NLS-1$
+		assertNotNull("Missing API component component.a", component); //$NON-NLS-1$
+		List<String> sequential = analyze(component, 1);
+		assertFalse("The leaks of component.a should be reported", sequential.isEmpty()); //$NON-NLS-1$
+		assertEquals(sequential, analyze(component, 4));
+	}
+
+	/**
+	 * Analyzes the given component and returns a description of each problem
+	 * found, in the order they are reported
+	 */
+	private List<String> analyze(IApiComponent component, int parallelism) throws CoreException {
+		ReferenceAnalyzer analyzer = new ReferenceAnalyzer();
+		analyzer.setParallelism(parallelism);
+		List<String> problems = new ArrayList<>();
+		for (IApiProblem problem : analyzer.analyze(component, component, new NullProgressMonitor())) {
+			problems.add(problem.getTypeName() + ':' + problem.getLineNumber() + ':' + problem.getMessage());
+		}
+		return problems;
+	}
+}
@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.builder.tests.performance;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.pde.api.tools.internal.builder.ReferenceAnalyzer;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.problems.IApiProblem;
+import org.eclipse.test.performance.Dimension;
+
+import junit.framework.Test;
+
+/**
+ * Performance tests comparing the sequential and the concurrent API use
+ * analysis of the {@link ReferenceAnalyzer}
+ */
+public class ReferenceAnalyzerPerfTests extends PerformanceTest {
+
+	public ReferenceAnalyzerPerfTests(String name) {
+		super(name);
+	}
+
+	/**
+	 * @return the tests for this class
+	 */
+	public static Test suite() {
+		return buildTestSuite(ReferenceAnalyzerPerfTests.class);
+	}
+
+	@Override
+	protected String getBaselineLocation() {
+		return getTestSourcePath().append("bin-baseline.zip").toOSString(); //$NON-NLS-1$
+	}
+
+	@Override
+	protected String getWorkspaceLocation() {
+		return getTestSourcePath().append("source-ws.zip").toOSString(); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests the API use analysis of all projects of a 3.4 workspace with
+	 * source from debug.core and pre-reqs using a single thread.
+	 */
+	public void testSequentialAnalysis() throws Exception {
+		tagAsSummary("Sequential API Use Analysis", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		measureAnalysis(1);
+	}
+
+	/**
+	 * Tests the API use analysis of all projects of a 3.4 workspace with
+	 * source from debug.core and pre-reqs using one thread per processor.
+	 */
+	public void testParallelAnalysis() throws Exception {
+		tagAsSummary("Parallel API Use Analysis", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		measureAnalysis(Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Tests that the concurrent analysis reports the same problems in the
+	 * same order as the sequential one.
+	 */
+	public void testParallelAnalysisProblems() throws Exception {
+		fullBuild();
+		IApiComponent[] components = getComponents();
+		assertEquals("The problems should not depend on the number of threads", //$NON-NLS-1$
+				analyze(components, 1), analyze(components, Math.max(2, Runtime.getRuntime().availableProcessors())));
+	}
+
+	private void measureAnalysis(int parallelism) throws Exception {
+		// get everything built
+		fullBuild();
+		IApiComponent[] components = getComponents();
+
+		// WARM-UP
+		for (int j = 0; j < 2; j++) {
+			analyze(components, parallelism);
+		}
+
+		// TEST
+		for (int j = 0; j < 15; j++) {
+			startMeasuring();
+			analyze(components, parallelism);
+			stopMeasuring();
+		}
+
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private IApiComponent[] getComponents() {
+		IApiBaseline baseline = ApiPlugin.getDefault().getApiBaselineManager().getWorkspaceBaseline();
+		IProject[] projects = getEnv().getProjectBuildOrder();
+		List<IApiComponent> components = new ArrayList<>(projects.length);
+		for (IProject project : projects) {
+			IApiComponent component = baseline.getApiComponent(project.getName());
+			if (component != null) {
+				components.add(component);
+			}
+		}
+		return components.toArray(new IApiComponent[components.size()]);
+	}
+
+	/**
+	 * Analyzes the given components and returns a description of each problem
+	 * found, in the order they are reported
+	 */
+	private List<String> analyze(IApiComponent[] components, int parallelism) throws Exception {
+		List<String> problems = new ArrayList<>();
+		for (IApiComponent component : components) {
+			ReferenceAnalyzer analyzer = new ReferenceAnalyzer();
+			analyzer.setParallelism(parallelism);
+			for (IApiProblem problem : analyzer.analyze(component, component, null)) {
+				problems.add(problem.getResourcePath() + ':' + problem.getLineNumber() + ':' + problem.getMessage());
+			}
+		}
+		return problems;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2018 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,10 +14,16 @@
 package org.eclipse.pde.api.tools.builder.tests.usage;
 
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisBuilder.ApiAnalysisJob;
+import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisBuilder.ApiAnalysisMarkersJob;
 import org.eclipse.pde.api.tools.internal.problems.ApiProblemFactory;
 import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
 import org.eclipse.pde.api.tools.internal.provisional.problems.IApiProblem;
 import org.eclipse.pde.api.tools.model.tests.TestSuiteHelper;
+import org.eclipse.pde.internal.core.ICoreConstants;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PDEPreferencesManager;
 
 import junit.framework.Test;
 
@@ -39,6 +45,11 @@ public class DependentUsageTests extends UsageTest {
 	static final IPath XYZ_PATH = IPath.fromOSString("/usagetests/src/x/y/z/"); //$NON-NLS-1$
 	static final IPath MPPATH = IPath.fromOSString("/refproject/src/pack/multi/part"); //$NON-NLS-1$
 
+	/**
+	 * If the API analysis runs in background jobs that builds have to wait for
+	 */
+	boolean analysisAsJob = false;
+
 	public DependentUsageTests(String name) {
 		super(name);
 	}
@@ -122,6 +133,54 @@ public class DependentUsageTests extends UsageTest {
 		}
 	}
 
+	@Override
+	protected void fullBuild() {
+		super.fullBuild();
+		waitForAnalysis();
+	}
+
+	@Override
+	protected void incrementalBuild() {
+		super.incrementalBuild();
+		waitForAnalysis();
+	}
+
+	/**
+	 * Waits for the analysis jobs and the marker updates they scheduled
+	 */
+	private void waitForAnalysis() {
+		if (!analysisAsJob) {
+			return;
+		}
+		try {
+			Job.getJobManager().join(ApiAnalysisJob.class, null);
+			Job.getJobManager().join(ApiAnalysisMarkersJob.class, null);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			fail(e.getMessage());
+		}
+	}
+
+	/**
+	 * Tests that the problems of the dependent bundle are the same when the
+	 * analyses of the bundles run as jobs with a bounded concurrency
+	 *
+	 * Uses test1.java and classref.java
+	 */
+	public void testAddExtendRestrictionAnalyzedAsJob() throws Exception {
+		PDEPreferencesManager prefs = PDECore.getDefault().getPreferencesManager();
+		prefs.setValue(ICoreConstants.RUN_API_ANALYSIS_AS_JOB, true);
+		prefs.setValue(ICoreConstants.API_ANALYSIS_MAX_PARALLEL_JOBS, 2);
+		analysisAsJob = true;
+		try {
+			test1(true);
+		} finally {
+			analysisAsJob = false;
+			prefs.setValue(ICoreConstants.RUN_API_ANALYSIS_AS_JOB, false);
+			prefs.setToDefault(ICoreConstants.API_ANALYSIS_MAX_PARALLEL_JOBS);
+		}
+	}
+
 	/**
 	 * Tests adding an @noextend restriction to a class known to be used
 	 * by another bundle
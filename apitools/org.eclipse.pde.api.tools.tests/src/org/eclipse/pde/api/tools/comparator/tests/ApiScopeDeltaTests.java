@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2018 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.comparator.tests;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
@@ -247,4 +248,26 @@ public class ApiScopeDeltaTests extends DeltaTestSetup {
 			// expected as scope is null
 		}
 	}
+
+	/**
+	 * Components of the scope compared in parallel produce the same deltas as
+	 * a sequential comparison
+	 */
+	@Test
+	public void test8() throws CoreException {
+		deployBundles("test2"); //$NON-NLS-1$
+		IApiBaseline before = getBeforeState();
+		IApiBaseline after = getAfterState();
+		ApiScope scope = new ApiScope();
+		for (IApiComponent apiComponent : after.getApiComponents()) {
+			scope.addElement(apiComponent);
+		}
+		IDelta sequential = ApiComparator.compare(scope, before, VisibilityModifiers.API, true, false, 1, null);
+		assertNotNull("No delta", sequential); //$NON-NLS-1$
+		IDelta[] sequentialLeaves = collectLeaves(sequential);
+		assertEquals("Wrong size", 1, sequentialLeaves.length); //$NON-NLS-1$
+		IDelta parallel = ApiComparator.compare(scope, before, VisibilityModifiers.API, true, false, 4, null);
+		assertNotNull("No delta", parallel); //$NON-NLS-1$
+		assertArrayEquals("Different deltas", sequentialLeaves, collectLeaves(parallel)); //$NON-NLS-1$
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2018 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,18 +16,26 @@ package org.eclipse.pde.api.tools.model.tests;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.ExportPackageDescription;
+import org.eclipse.osgi.service.resolver.StateHelper;
 import org.eclipse.pde.api.tools.internal.BundleVersionRange;
 import org.eclipse.pde.api.tools.internal.RequiredComponentDescription;
+import org.eclipse.pde.api.tools.internal.model.ApiBaseline;
+import org.eclipse.pde.api.tools.internal.model.ApiModelFactory;
+import org.eclipse.pde.api.tools.internal.model.BundleComponent;
 import org.eclipse.pde.api.tools.internal.provisional.Factory;
 import org.eclipse.pde.api.tools.internal.provisional.IApiAnnotations;
 import org.eclipse.pde.api.tools.internal.provisional.IApiDescription;
@@ -37,6 +45,7 @@ import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeContainer;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+import org.eclipse.pde.api.tools.internal.util.Util;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -304,6 +313,106 @@ public class ApiBaselineTests {
 		fail("Missing prerequisite bundle"); //$NON-NLS-1$
 	}
 
+	/**
+	 * Tests that the packages resolved through the index of visible packages
+	 * are the ones found by scanning all packages visible to a bundle
+	 */
+	@Test
+	public void testResolvePackageMatchesVisiblePackages() throws CoreException {
+		StateHelper helper = ((ApiBaseline) fBaseline).getState().getStateHelper();
+		for (IApiComponent component : fBaseline.getApiComponents()) {
+			if (!(component instanceof BundleComponent bundleComponent) || bundleComponent.getBundleDescription() == null) {
+				continue;
+			}
+			Set<String> packageNames = new HashSet<>(Arrays.asList(component.getPackageNames()));
+			for (ExportPackageDescription pkg : helper.getVisiblePackages(bundleComponent.getBundleDescription())) {
+				packageNames.add(pkg.getName());
+			}
+			packageNames.add("does.not.exist"); //$NON-NLS-1$
+			for (String packageName : packageNames) {
+				assertEquals(component.getSymbolicName() + " resolving " + packageName, //$NON-NLS-1$
+						scanVisiblePackages(fBaseline, component, packageName),
+						getBundleExporters(fBaseline.resolvePackage(component, packageName)));
+			}
+		}
+	}
+
+	/**
+	 * Tests that resolved packages follow components added to the baseline,
+	 * both when they resolve a bundle that was unresolved and when they replace
+	 * the exporter of a package already resolved
+	 */
+	@Test
+	public void testResolvePackageAfterComponentsAdded() throws CoreException {
+		IApiBaseline baseline = ApiModelFactory.newApiBaseline("visiblepackages", TestSuiteHelper.getEEDescription(), null); //$NON-NLS-1$
+		try {
+			IApiComponent componentB = ApiModelFactory.newApiComponent(baseline, getTestBundle(TEST_PLUGINS, COMPONENT_B));
+			List<IApiComponent> components = new ArrayList<>();
+			components.add(componentB);
+			// leave out component.a so component.b is not resolved
+			Set<String> done = new HashSet<>(Set.of(COMPONENT_A, COMPONENT_B));
+			TestSuiteHelper.addAllRequired(baseline, done, componentB, components);
+			baseline.addApiComponents(components.toArray(new IApiComponent[components.size()]));
+			assertEquals(0, baseline.resolvePackage(componentB, COMPONENT_A).length);
+
+			IApiComponent componentA = ApiModelFactory.newApiComponent(baseline, getTestBundle(TEST_PLUGINS, COMPONENT_A));
+			baseline.addApiComponents(new IApiComponent[] { componentA });
+			IApiComponent[] exporters = baseline.resolvePackage(componentB, COMPONENT_A);
+			assertEquals("Wrong size", 1, exporters.length); //$NON-NLS-1$
+			assertSame(componentA, exporters[0]);
+
+			IApiComponent nestedA = ApiModelFactory.newApiComponent(baseline, getTestBundle("test-nested-jars", COMPONENT_A)); //$NON-NLS-1$
+			baseline.addApiComponents(new IApiComponent[] { nestedA });
+			assertSame(nestedA, baseline.getApiComponent(COMPONENT_A));
+			exporters = baseline.resolvePackage(componentB, COMPONENT_A);
+			assertEquals("Wrong size", 1, exporters.length); //$NON-NLS-1$
+			assertSame(nestedA, exporters[0]);
+		} finally {
+			baseline.dispose();
+		}
+	}
+
+	private static String getTestBundle(String directory, String id) {
+		return TestSuiteHelper.getPluginDirectoryPath().append(directory).append(id + '_' + _1_0_0 + ".jar").toOSString(); //$NON-NLS-1$
+	}
+
+	/**
+	 * Returns the ids of the components providing the given package to the
+	 * given component by scanning all packages visible to its bundle
+	 */
+	private static List<String> scanVisiblePackages(IApiBaseline baseline, IApiComponent component, String packageName)
+			throws CoreException {
+		List<String> exporters = new ArrayList<>();
+		BundleDescription bundle = ((BundleComponent) component).getBundleDescription();
+		StateHelper helper = ((ApiBaseline) baseline).getState().getStateHelper();
+		for (ExportPackageDescription pkg : helper.getVisiblePackages(bundle)) {
+			String pkgName = pkg.getName().equals(".") ? Util.DEFAULT_PACKAGE_NAME : pkg.getName(); //$NON-NLS-1$
+			if (packageName.equals(pkgName)) {
+				IApiComponent exporter = baseline.getApiComponent(pkg.getExporter().getSymbolicName());
+				if (exporter != null) {
+					exporters.add(exporter.getSymbolicName());
+				}
+			}
+		}
+		if (component.isFragment()) {
+			for (BundleDescription host : bundle.getHost().getHosts()) {
+				IApiComponent hostComponent = baseline.getApiComponent(host.getName());
+				if (hostComponent != null) {
+					exporters.addAll(scanVisiblePackages(baseline, hostComponent, packageName));
+				}
+			}
+		}
+		if (Arrays.binarySearch(component.getPackageNames(), packageName, null) >= 0) {
+			exporters.add(component.getSymbolicName());
+		}
+		return exporters;
+	}
+
+	private static List<String> getBundleExporters(IApiComponent[] components) {
+		return Arrays.stream(components).filter(component -> !component.isSystemComponent())
+				.map(IApiComponent::getSymbolicName).toList();
+	}
+
 	/**
 	 * Tests getting the location from an 'old' baseline
 	 */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2018 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,11 +13,18 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.model.tests;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.eclipse.pde.api.tools.internal.model.ApiModelCache;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiElement;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
@@ -44,15 +51,30 @@ public class ApiModelCacheTests {
 	 * using the default test component - created using {@link #TEST_COMP_ID}
 	 */
 	private void cacheType(String typename) throws Exception {
-		IApiType type = TestSuiteHelper.createTestingApiType(
-				TEST_BASELINE_ID,
-				TEST_COMP_ID,
+		cacheType(TEST_BASELINE_ID, TEST_COMP_ID, typename);
+	}
+
+	/**
+	 * Creates a testing {@link IApiType} with the given type name in the given
+	 * baseline and component and adds it to the cache
+	 */
+	private void cacheType(String baselineid, String componentid, String typename) throws Exception {
+		ApiModelCache.getCache().cacheElementInfo(createType(baselineid, componentid, typename));
+	}
+
+	/**
+	 * Creates a testing {@link IApiType} with the given type name in the given
+	 * baseline and component
+	 */
+	private IApiType createType(String baselineid, String componentid, String typename) throws Exception {
+		return TestSuiteHelper.createTestingApiType(
+				baselineid,
+				componentid,
 				typename,
 				"()V", //$NON-NLS-1$
 				null,
 				0,
 				null);
-		ApiModelCache.getCache().cacheElementInfo(type);
 	}
 
 	/**
@@ -160,4 +182,112 @@ public class ApiModelCacheTests {
 		assertTrue("The type 'a.b.c.testee1' should have been removed from the cache", ApiModelCache.getCache().removeElementInfo(element)); //$NON-NLS-1$
 		assertTrue("The cache should be empty", ApiModelCache.getCache().isEmpty()); //$NON-NLS-1$
 	}
+
+	/**
+	 * Tests that removing a component or a baseline only removes its own types
+	 */
+	@Test
+	public void testRemoveComponentAndBaseline() throws Exception {
+		ApiModelCache cache = ApiModelCache.getCache();
+		String otherComp = "othercomp-id"; //$NON-NLS-1$
+		String otherBaseline = "otherbaseline-id"; //$NON-NLS-1$
+		cacheType(TEST_BASELINE_ID, TEST_COMP_ID, "a.b.c.removed"); //$NON-NLS-1$
+		cacheType(TEST_BASELINE_ID, TEST_COMP_ID, "a.b.c.removed$inner"); //$NON-NLS-1$
+		cacheType(TEST_BASELINE_ID, otherComp, "a.b.c.kept"); //$NON-NLS-1$
+		cacheType(otherBaseline, TEST_COMP_ID, "a.b.c.kept"); //$NON-NLS-1$
+
+		assertTrue("The component should have been removed", cache.removeElementInfo(TEST_BASELINE_ID, TEST_COMP_ID, null, IApiElement.COMPONENT)); //$NON-NLS-1$
+		assertNull(cache.getElementInfo(TEST_BASELINE_ID, TEST_COMP_ID, "a.b.c.removed", IApiElement.TYPE)); //$NON-NLS-1$
+		assertNull(cache.getElementInfo(TEST_BASELINE_ID, TEST_COMP_ID, "a.b.c.removed$inner", IApiElement.TYPE)); //$NON-NLS-1$
+		assertNotNull(cache.getElementInfo(TEST_BASELINE_ID, otherComp, "a.b.c.kept", IApiElement.TYPE)); //$NON-NLS-1$
+		assertNotNull(cache.getElementInfo(otherBaseline, TEST_COMP_ID, "a.b.c.kept", IApiElement.TYPE)); //$NON-NLS-1$
+		assertFalse("The component was already removed", cache.removeElementInfo(TEST_BASELINE_ID, TEST_COMP_ID, null, IApiElement.COMPONENT)); //$NON-NLS-1$
+
+		assertTrue("The baseline should have been removed", cache.removeElementInfo(TEST_BASELINE_ID, null, null, IApiElement.BASELINE)); //$NON-NLS-1$
+		assertNull(cache.getElementInfo(TEST_BASELINE_ID, otherComp, "a.b.c.kept", IApiElement.TYPE)); //$NON-NLS-1$
+		assertNotNull(cache.getElementInfo(otherBaseline, TEST_COMP_ID, "a.b.c.kept", IApiElement.TYPE)); //$NON-NLS-1$
+
+		assertTrue("The type should have been removed", cache.removeElementInfo(otherBaseline, TEST_COMP_ID, "a.b.c.kept", IApiElement.TYPE)); //$NON-NLS-1$ //$NON-NLS-2$
+		assertTrue("The cache should be empty", cache.isEmpty()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that lookups are counted as hits and misses
+	 */
+	@Test
+	public void testHitAndMissCounts() throws Exception {
+		ApiModelCache cache = ApiModelCache.getCache();
+		cacheType("a.b.c.counted"); //$NON-NLS-1$
+		long hits = cache.getHitCount();
+		long misses = cache.getMissCount();
+		assertNotNull(cache.getElementInfo(TEST_BASELINE_ID, TEST_COMP_ID, "a.b.c.counted", IApiElement.TYPE)); //$NON-NLS-1$
+		assertNull(cache.getElementInfo(TEST_BASELINE_ID, TEST_COMP_ID, "a.b.c.notcached", IApiElement.TYPE)); //$NON-NLS-1$
+		assertEquals("one hit expected", hits + 1, cache.getHitCount()); //$NON-NLS-1$
+		assertEquals("one miss expected", misses + 1, cache.getMissCount()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that the least recently used type is evicted when the cache is
+	 * full and that evicted types are no longer indexed for removals
+	 */
+	@Test
+	public void testEvictLeastRecentlyUsed() throws Exception {
+		ApiModelCache cache = new ApiModelCache(3, 1);
+		cache.cacheElementInfo(createType(TEST_BASELINE_ID, TEST_COMP_ID, "a.b.c.first")); //$NON-NLS-1$
+		cache.cacheElementInfo(createType(TEST_BASELINE_ID, TEST_COMP_ID, "a.b.c.second")); //$NON-NLS-1$
+		cache.cacheElementInfo(createType(TEST_BASELINE_ID, TEST_COMP_ID, "a.b.c.third")); //$NON-NLS-1$
+		assertNotNull(cache.getElementInfo(TEST_BASELINE_ID, TEST_COMP_ID, "a.b.c.first", IApiElement.TYPE)); //$NON-NLS-1$
+		cache.cacheElementInfo(createType(TEST_BASELINE_ID, TEST_COMP_ID, "a.b.c.fourth")); //$NON-NLS-1$
+
+		assertEquals("one type should have been evicted", 1, cache.getEvictionCount()); //$NON-NLS-1$
+		assertEquals(3, cache.size());
+		assertNull("the least recently used type should have been evicted", //$NON-NLS-1$
+				cache.getElementInfo(TEST_BASELINE_ID, TEST_COMP_ID, "a.b.c.second", IApiElement.TYPE)); //$NON-NLS-1$
+		assertNotNull(cache.getElementInfo(TEST_BASELINE_ID, TEST_COMP_ID, "a.b.c.first", IApiElement.TYPE)); //$NON-NLS-1$
+		assertNotNull(cache.getElementInfo(TEST_BASELINE_ID, TEST_COMP_ID, "a.b.c.third", IApiElement.TYPE)); //$NON-NLS-1$
+		assertNotNull(cache.getElementInfo(TEST_BASELINE_ID, TEST_COMP_ID, "a.b.c.fourth", IApiElement.TYPE)); //$NON-NLS-1$
+
+		assertFalse("the evicted type should not be removed again", //$NON-NLS-1$
+				cache.removeElementInfo(TEST_BASELINE_ID, TEST_COMP_ID, "a.b.c.second", IApiElement.TYPE)); //$NON-NLS-1$
+		assertTrue("The component should have been removed", cache.removeElementInfo(TEST_BASELINE_ID, TEST_COMP_ID, null, IApiElement.COMPONENT)); //$NON-NLS-1$
+		assertTrue("The cache should be empty", cache.isEmpty()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that types cached while their component is removed concurrently
+	 * are either removed with the component or removed by the next removal
+	 * of the component
+	 */
+	@Test
+	public void testConcurrentCacheAndRemove() throws Exception {
+		ApiModelCache cache = new ApiModelCache(10000, 4);
+		List<IApiType> types = new ArrayList<>();
+		for (int i = 0; i < 2000; i++) {
+			types.add(createType(TEST_BASELINE_ID, TEST_COMP_ID, "a.b.c.type" + i)); //$NON-NLS-1$
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(3);
+		try {
+			List<Future<?>> results = new ArrayList<>();
+			for (int t = 0; t < 2; t++) {
+				results.add(executor.submit(() -> {
+					for (IApiType type : types) {
+						cache.cacheElementInfo(type);
+					}
+					return null;
+				}));
+			}
+			results.add(executor.submit(() -> {
+				for (int i = 0; i < 500; i++) {
+					cache.removeElementInfo(TEST_BASELINE_ID, TEST_COMP_ID, null, IApiElement.COMPONENT);
+				}
+			}));
+			for (Future<?> result : results) {
+				result.get();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		cache.removeElementInfo(TEST_BASELINE_ID, TEST_COMP_ID, null, IApiElement.COMPONENT);
+		assertTrue("No type should be left after removing the component", cache.isEmpty()); //$NON-NLS-1$
+	}
 }
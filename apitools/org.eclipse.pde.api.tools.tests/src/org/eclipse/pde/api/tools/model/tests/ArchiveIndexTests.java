@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.model.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.eclipse.pde.api.tools.internal.model.ArchiveIndex;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests the persisted {@link ArchiveIndex} of archives
+ */
+public class ArchiveIndexTests {
+
+	@Rule
+	public TemporaryFolder tempFolder = new TemporaryFolder();
+
+	private final List<File> archives = new ArrayList<>();
+
+	@After
+	public void tearDown() throws Exception {
+		for (File archive : archives) {
+			Path indexFile = ArchiveIndex.getIndexFile(archive.getAbsolutePath());
+			if (indexFile != null) {
+				Files.deleteIfExists(indexFile);
+			}
+		}
+	}
+
+	/**
+	 * Tests that a persisted index describes the same packages and types as
+	 * the index built from the archive
+	 */
+	@Test
+	public void testPersistedIndexRoundTrip() throws Exception {
+		File archive = createArchive("a.jar", "Top.class", "a/A.class", "a/B.class", "a/b/c/C.class", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+				"a/b/c/C$Inner.class"); //$NON-NLS-1$
+		ArchiveIndex built = load(archive);
+		assertFalse("The first index must be built from the archive", built.isPersisted()); //$NON-NLS-1$
+		assertTrue("The index was not persisted", //$NON-NLS-1$
+				Files.isRegularFile(ArchiveIndex.getIndexFile(archive.getAbsolutePath())));
+
+		ArchiveIndex persisted = load(archive);
+		assertTrue("The persisted index was not used", persisted.isPersisted()); //$NON-NLS-1$
+		assertArrayEquals(new String[] { "", "a", "a.b.c" }, persisted.getPackageNames()); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertEquals(describe(built), describe(persisted));
+		assertEquals("a/b/c/C$Inner.class", persisted.getEntryName("a.b.c.C$Inner")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("Top.class", persisted.getEntryName("Top")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNull(persisted.getEntryName("a.Missing")); //$NON-NLS-1$
+		assertNull(persisted.getEntryName("missing.A")); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that the persisted index of an archive that changed is not used
+	 * and is replaced by the index of the changed archive
+	 */
+	@Test
+	public void testChangedArchiveIsIndexedAgain() throws Exception {
+		File archive = createArchive("b.jar", "a/A.class", "a/B.class"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		load(archive);
+		changeArchive(archive, "a/A.class", "d/D.class"); //$NON-NLS-1$ //$NON-NLS-2$
+
+		ArchiveIndex changed = load(archive);
+		assertFalse("The stale index was used", changed.isPersisted()); //$NON-NLS-1$
+		assertArrayEquals(new String[] { "a", "d" }, changed.getPackageNames()); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNull(changed.getEntryName("a.B")); //$NON-NLS-1$
+		assertEquals("d/D.class", changed.getEntryName("d.D")); //$NON-NLS-1$ //$NON-NLS-2$
+
+		ArchiveIndex persisted = load(archive);
+		assertTrue("The new index was not persisted", persisted.isPersisted()); //$NON-NLS-1$
+		assertEquals(describe(changed), describe(persisted));
+	}
+
+	/**
+	 * Tests that an index in use fails to read its type tables once the
+	 * persisted index was rewritten for a changed archive, which makes its
+	 * container index the archive again
+	 */
+	@Test
+	public void testIndexRewrittenWhileInUse() throws Exception {
+		File archive = createArchive("c.jar", "a/A.class"); //$NON-NLS-1$ //$NON-NLS-2$
+		load(archive);
+		ArchiveIndex inUse = load(archive);
+		assertTrue("The persisted index was not used", inUse.isPersisted()); //$NON-NLS-1$
+
+		changeArchive(archive, "a/A.class", "a/B.class"); //$NON-NLS-1$ //$NON-NLS-2$
+		load(archive);
+		assertThrows(IOException.class, () -> inUse.getEntryName("a.A")); //$NON-NLS-1$
+
+		ArchiveIndex reindexed = load(archive);
+		assertEquals("a/B.class", reindexed.getEntryName("a.B")); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	private File createArchive(String name, String... entries) throws IOException {
+		File archive = new File(tempFolder.getRoot(), name);
+		writeArchive(archive, entries);
+		archives.add(archive);
+		return archive;
+	}
+
+	private static void changeArchive(File archive, String... entries) throws IOException {
+		long lastModified = archive.lastModified();
+		writeArchive(archive, entries);
+		archive.setLastModified(lastModified + 2000);
+	}
+
+	private static void writeArchive(File archive, String... entries) throws IOException {
+		try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(archive))) {
+			for (String entry : entries) {
+				out.putNextEntry(new ZipEntry(entry));
+				// the index does not read the class files
+				out.write(new byte[] { (byte) 0xCA, (byte) 0xFE, (byte) 0xBA, (byte) 0xBE });
+				out.closeEntry();
+			}
+		}
+	}
+
+	private static ArchiveIndex load(File archive) throws IOException {
+		String location = archive.getAbsolutePath();
+		try (FileSystem fileSystem = FileSystems.newFileSystem(archive.toPath())) {
+			return ArchiveIndex.load(location, ArchiveIndex.getStampFile(location), fileSystem.getPath("/"), false); //$NON-NLS-1$
+		}
+	}
+
+	private static List<String> describe(ArchiveIndex index) throws IOException {
+		List<String> types = new ArrayList<>();
+		String[] packageNames = index.getPackageNames();
+		for (int i = 0; i < packageNames.length; i++) {
+			for (int j = 0; j < index.getTypeCount(i); j++) {
+				types.add(index.getTypeName(i, j) + '=' + index.getEntryName(i, j));
+			}
+		}
+		return types;
+	}
+}
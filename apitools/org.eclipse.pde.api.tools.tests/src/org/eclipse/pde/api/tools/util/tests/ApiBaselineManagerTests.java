@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,8 +17,16 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 
@@ -56,6 +64,7 @@ import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.pde.api.tools.builder.tests.ApiTestingEnvironment;
 import org.eclipse.pde.api.tools.internal.ApiBaselineManager;
+import org.eclipse.pde.api.tools.internal.model.ApiBaseline;
 import org.eclipse.pde.api.tools.internal.model.ApiModelFactory;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.Factory;
@@ -849,6 +858,135 @@ public class ApiBaselineManagerTests extends AbstractApiTest {
 		assertTrue("unexported package must be private", VisibilityModifiers.isPrivate(annot.getVisibility())); //$NON-NLS-1$
 	}
 
+	/**
+	 * Tests that a saved baseline is restored with the same components from
+	 * its binary file and from its XML file
+	 */
+	@Test
+	public void testPersistedBaselineRoundTrip() throws Exception {
+		String name = "roundtrip"; //$NON-NLS-1$
+		try {
+			List<String> expected = saveTestingBaseline(name, "test-plugins"); //$NON-NLS-1$
+			assertEquals(expected, getComponentIds(readBaseline(name, getBaselineFile(name, ".baseline")))); //$NON-NLS-1$
+			assertEquals(expected, getComponentIds(readBaseline(name, getBaselineFile(name, ".profile")))); //$NON-NLS-1$
+		} finally {
+			fPMmanager.removeApiBaseline(name);
+		}
+	}
+
+	/**
+	 * Tests that a binary baseline file written in another version of the
+	 * format is not read
+	 */
+	@Test
+	public void testPersistedBaselineVersionMismatch() throws Exception {
+		String name = "versionmismatch"; //$NON-NLS-1$
+		try {
+			saveTestingBaseline(name, "test-plugins"); //$NON-NLS-1$
+			byte[] bytes = getOtherVersion(getBaselineFile(name, ".baseline")); //$NON-NLS-1$
+			assertThrows(CoreException.class, () -> readBaseline(name, new ByteArrayInputStream(bytes)));
+		} finally {
+			fPMmanager.removeApiBaseline(name);
+		}
+	}
+
+	/**
+	 * Tests that a baseline whose binary file cannot be read is restored from
+	 * its XML file and that the binary file is written again on the next save
+	 */
+	@Test
+	public void testPersistedBaselineXmlFallback() throws Exception {
+		String name = "xmlfallback"; //$NON-NLS-1$
+		try {
+			List<String> expected = saveTestingBaseline(name, "test-plugins"); //$NON-NLS-1$
+			File binaryFile = getBaselineFile(name, ".baseline"); //$NON-NLS-1$
+			Files.write(binaryFile.toPath(), getOtherVersion(binaryFile));
+
+			ApiBaseline restored = (ApiBaseline) ApiModelFactory.newApiBaseline(name);
+			((ApiBaselineManager) fPMmanager).loadBaselineInfos(restored);
+			assertEquals(expected, getComponentIds(restored.getApiComponents()));
+
+			fPMmanager.addApiBaseline(restored);
+			((ApiBaselineManager) fPMmanager).saving(null);
+			assertEquals(expected, getComponentIds(readBaseline(name, binaryFile)));
+		} finally {
+			fPMmanager.removeApiBaseline(name);
+		}
+	}
+
+	/**
+	 * Tests that the files of a baseline are only written again if the
+	 * baseline changed
+	 */
+	@Test
+	public void testPersistedBaselineOnlyWrittenIfChanged() throws Exception {
+		String name = "writtenifchanged"; //$NON-NLS-1$
+		try {
+			saveTestingBaseline(name, "test-plugins"); //$NON-NLS-1$
+			File binaryFile = getBaselineFile(name, ".baseline"); //$NON-NLS-1$
+			File xmlFile = getBaselineFile(name, ".profile"); //$NON-NLS-1$
+			long written = binaryFile.lastModified() - 10000;
+			binaryFile.setLastModified(written);
+			xmlFile.setLastModified(written);
+
+			saveTestingBaseline(name, "test-plugins"); //$NON-NLS-1$
+			assertEquals(written, binaryFile.lastModified());
+			assertEquals(written, xmlFile.lastModified());
+
+			List<String> expected = saveTestingBaseline(name, "test-nested-jars"); //$NON-NLS-1$
+			assertNotEquals(written, binaryFile.lastModified());
+			assertNotEquals(written, xmlFile.lastModified());
+			assertEquals(expected, getComponentIds(readBaseline(name, xmlFile)));
+		} finally {
+			fPMmanager.removeApiBaseline(name);
+		}
+	}
+
+	/**
+	 * Adds a testing baseline with the bundles of the given directory to the
+	 * manager and saves it
+	 *
+	 * @return the ids of the persisted components of the baseline
+	 */
+	private List<String> saveTestingBaseline(String name, String directory) throws CoreException {
+		IApiBaseline baseline = TestSuiteHelper.createTestingBaseline(name, IPath.fromOSString(directory));
+		List<String> ids = getComponentIds(baseline.getApiComponents());
+		fPMmanager.addApiBaseline(baseline);
+		((ApiBaselineManager) fPMmanager).saving(null);
+		return ids;
+	}
+
+	private File getBaselineFile(String name, String extension) {
+		return ApiPlugin.getDefault().getStateLocation().append(".api_profiles").append(name + extension).toFile(); //$NON-NLS-1$
+	}
+
+	private IApiComponent[] readBaseline(String name, File file) throws Exception {
+		try (InputStream stream = new FileInputStream(file)) {
+			return readBaseline(name, stream);
+		}
+	}
+
+	private IApiComponent[] readBaseline(String name, InputStream stream) throws CoreException {
+		return ((ApiBaselineManager) fPMmanager).readBaselineComponents(new ApiBaseline(name), stream);
+	}
+
+	/**
+	 * @return the content of the given binary baseline file with another
+	 *         format version
+	 */
+	private static byte[] getOtherVersion(File binaryFile) throws Exception {
+		byte[] bytes = Files.readAllBytes(binaryFile.toPath());
+		ByteBuffer buffer = ByteBuffer.wrap(bytes);
+		// the version follows the magic number
+		buffer.putInt(4, buffer.getInt(4) + 1);
+		return bytes;
+	}
+
+	private static List<String> getComponentIds(IApiComponent[] components) {
+		return Arrays.stream(components).filter(component -> !component.isSystemComponent())
+				.map(IApiComponent::getSymbolicName).sorted().toList();
+	}
+
 	/**
 	 * sets the given package name to be an Exported-Package
 	 */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2021 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,10 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileFilter;
 import java.io.FileInputStream;
@@ -20,9 +24,11 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -103,6 +109,43 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 	 */
 	private static final String BASELINE_FILE_EXTENSION = ".profile"; //$NON-NLS-1$
 
+	/**
+	 * Constant representing the file extension for a baseline file in the
+	 * binary format. Value is: <code>.baseline</code>
+	 */
+	private static final String BINARY_BASELINE_FILE_EXTENSION = ".baseline"; //$NON-NLS-1$
+
+	/**
+	 * Leading bytes of a baseline file in the binary format
+	 */
+	private static final int BINARY_BASELINE_MAGIC = 0x41504942;
+
+	/**
+	 * Version of the binary baseline format, must be incremented whenever the
+	 * format changes
+	 */
+	private static final int BINARY_BASELINE_VERSION = 1;
+
+	/**
+	 * Persisted description of a baseline: its location and the components it
+	 * consists of, without any of the components being created.
+	 *
+	 * @param location the baseline location or <code>null</code>
+	 * @param components the persisted components
+	 */
+	private record BaselineDescription(String location, List<ComponentDescription> components) {
+	}
+
+	/**
+	 * Persisted description of a single baseline component.
+	 *
+	 * @param id the symbolic name
+	 * @param version the version
+	 * @param location the portable path of the component
+	 */
+	private record ComponentDescription(String id, String version, String location) {
+	}
+
 	/**
 	 * The main cache for the manager. The form of the cache is:
 	 *
@@ -119,6 +162,12 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 
 	private volatile Set<String> hasinfos;
 
+	/**
+	 * Descriptions of the baselines as last read from or written to their
+	 * files, so unchanged baselines are not written again
+	 */
+	private final Map<String, BaselineDescription> persisteddescriptions = new ConcurrentHashMap<>();
+
 	/**
 	 * The current default {@link IApiBaseline}
 	 */
@@ -204,6 +253,7 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 		if (baseline == null) {
 			return false;
 		}
+		persisteddescriptions.remove(name);
 		synchronized (this) {
 			baseline.dispose();
 			boolean success = true;
@@ -211,12 +261,14 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 				return success;
 			}
 			// remove from filesystem
-			File file = savelocation.append(name + BASELINE_FILE_EXTENSION).toFile();
-			if (file.exists()) {
-				try {
-					success &= Files.deleteIfExists(file.toPath());
-				} catch (IOException e) {
-					ApiPlugin.log(e);
+			for (String extension : new String[] { BINARY_BASELINE_FILE_EXTENSION, BASELINE_FILE_EXTENSION }) {
+				File file = savelocation.append(name + extension).toFile();
+				if (file.exists()) {
+					try {
+						success &= Files.deleteIfExists(file.toPath());
+					} catch (IOException e) {
+						ApiPlugin.log(e);
+					}
 				}
 			}
 			fNeedsSaving = true;
@@ -229,7 +281,9 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 
 	/**
 	 * Loads the infos for the given baseline from persisted storage (the
-	 * *.profile file)
+	 * *.baseline file, or the *.profile file of older versions). If the
+	 * *.baseline file cannot be read, for example because it was written in
+	 * another version of the binary format, the *.profile file is read instead.
 	 *
 	 * @param baseline the given baseline
 	 * @throws CoreException if an exception occurs while loading baseline infos
@@ -245,6 +299,17 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 			if (file.exists()) {
 				try (FileInputStream inputStream = new FileInputStream(file)) {
 					baseline.restoreFrom(inputStream);
+				} catch (CoreException e) {
+					File xmlFile = new File(file.getParentFile(), baseline.getName() + BASELINE_FILE_EXTENSION);
+					if (!file.getName().endsWith(BINARY_BASELINE_FILE_EXTENSION) || !xmlFile.exists()) {
+						throw e;
+					}
+					ApiPlugin.log(Status.warning("Restoring API baseline " + baseline.getName() + " from " + xmlFile, e)); //$NON-NLS-1$ //$NON-NLS-2$
+					try (FileInputStream inputStream = new FileInputStream(xmlFile)) {
+						baseline.restoreFrom(inputStream);
+					}
+					// write the binary file again on the next save
+					persisteddescriptions.remove(baseline.getName());
 				} catch (IOException e) {
 					ApiPlugin.log(e);
 				}
@@ -282,15 +347,29 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 				handlecache = new ConcurrentHashMap<>(8);
 				hasinfos = ConcurrentHashMap.newKeySet(8);
 				ConcurrentHashMap<String, IApiBaseline> bcache = new ConcurrentHashMap<>(8);
-				File[] baselines = savelocation.toFile().listFiles((FileFilter) pathname -> pathname.getName().endsWith(BASELINE_FILE_EXTENSION));
+				File[] baselines = savelocation.toFile().listFiles((FileFilter) pathname -> {
+					String name = pathname.getName();
+					return name.endsWith(BINARY_BASELINE_FILE_EXTENSION) || name.endsWith(BASELINE_FILE_EXTENSION);
+				});
 				if (baselines != null) {
-					IApiBaseline newbaseline = null;
+					Map<String, File> files = new HashMap<>();
 					for (File baseline : baselines) {
-						if (baseline.exists()) {
-							newbaseline = new ApiBaseline(IPath.fromOSString(baseline.getName()).removeFileExtension().toString());
-							handlecache.put(newbaseline.getName(), baseline.getAbsolutePath());
-							bcache.put(newbaseline.getName(), newbaseline);
+						String name = IPath.fromOSString(baseline.getName()).removeFileExtension().toString();
+						files.merge(name, baseline, ApiBaselineManager::getNewerBaselineFile);
+					}
+					for (Entry<String, File> entry : files.entrySet()) {
+						File baseline = entry.getValue();
+						if (baseline.getName().endsWith(BASELINE_FILE_EXTENSION)) {
+							baseline = convertBaselineFile(baseline);
+						}
+						ApiBaseline newbaseline = new ApiBaseline(entry.getKey());
+						// only the header is read, components are restored on first access
+						String location = readBaselineLocation(baseline);
+						if (location != null) {
+							newbaseline.setLocation(location);
 						}
+						handlecache.put(newbaseline.getName(), baseline.getAbsolutePath());
+						bcache.put(newbaseline.getName(), newbaseline);
 					}
 				}
 				String def = getDefaultProfilePref();
@@ -317,8 +396,10 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 	}
 
 	/**
-	 * Persists all of the cached elements to individual xml files named with
-	 * the id of the API baseline
+	 * Persists all of the cached elements to individual files named with the
+	 * id of the API baseline, both in the binary format and in the XML format
+	 * read by older versions. Baselines whose files already describe them are
+	 * not written again.
 	 */
 	private void persistStateCache() throws CoreException {
 		if (savelocation == null) {
@@ -338,8 +419,16 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 				if (!isBaselineLoaded(baseline)) {
 					continue;
 				}
-				Path file = dir.resolve(id + BASELINE_FILE_EXTENSION);
-				writeBaselineDescription(baseline, file);
+				BaselineDescription description = getBaselineDescription(baseline);
+				Path xmlFile = dir.resolve(id + BASELINE_FILE_EXTENSION);
+				Path file = dir.resolve(id + BINARY_BASELINE_FILE_EXTENSION);
+				if (!description.equals(persisteddescriptions.get(id)) || !Files.exists(xmlFile) || !Files.exists(file)) {
+					// the binary file is written last, so it is not older
+					// than the XML file
+					writeXmlBaselineDescription(baseline.getName(), description, xmlFile);
+					writeBaselineDescription(description, file);
+					persisteddescriptions.put(id, description);
+				}
 				// need to save the api baseline state in order to be able
 				// to reload it later
 				handlecache.put(baseline.getName(), file.toAbsolutePath().toString());
@@ -348,36 +437,73 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 	}
 
 	/**
-	 * Writes the current state of the {@link IApiBaseline} as XML to the given file
+	 * Writes the given baseline description in the binary format to the given
+	 * file
 	 */
-	private void writeBaselineDescription(IApiBaseline baseline, Path file) throws CoreException {
-		Document xml = getProfileXML(baseline);
+	private static void writeBaselineDescription(BaselineDescription description, Path file) throws CoreException {
 		try {
-			Util.writeDocumentToFile(xml, file);
+			Files.createDirectories(file.getParent());
+			Path tempFile = Files.createTempFile(file.getParent(), file.getFileName().toString(), null);
+			try {
+				try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+					out.writeInt(BINARY_BASELINE_MAGIC);
+					out.writeInt(BINARY_BASELINE_VERSION);
+					out.writeBoolean(description.location() != null);
+					if (description.location() != null) {
+						out.writeUTF(description.location());
+					}
+					out.writeInt(description.components().size());
+					for (ComponentDescription component : description.components()) {
+						out.writeUTF(component.id());
+						out.writeUTF(component.version());
+						out.writeUTF(component.location());
+					}
+				}
+				Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+			} finally {
+				Files.deleteIfExists(tempFile);
+			}
 		} catch (IOException e) {
 			throw new CoreException(Status.error("Error writing profile descrition", e)); //$NON-NLS-1$
 		}
 	}
 
 	/**
-	 * Returns an XML description of the given baseline.
-	 *
-	 * @param baseline the given API baseline
-	 * @return XML string representation of the given baseline
-	 * @throws CoreException if an exception occurs while retrieving the xml
-	 *             string representation
+	 * Writes the given baseline description as XML to the given file, which
+	 * older versions read
 	 */
-	private Document getProfileXML(IApiBaseline baseline) throws CoreException {
+	private static void writeXmlBaselineDescription(String name, BaselineDescription description, Path file)
+			throws CoreException {
 		Document document = Util.newDocument();
 		Element root = document.createElement(IApiXmlConstants.ELEMENT_APIPROFILE);
 		document.appendChild(root);
-		root.setAttribute(IApiXmlConstants.ATTR_NAME, baseline.getName());
+		root.setAttribute(IApiXmlConstants.ATTR_NAME, name);
 		root.setAttribute(IApiXmlConstants.ATTR_VERSION, IApiXmlConstants.API_PROFILE_CURRENT_VERSION);
-		String location = baseline.getLocation();
-		if (location != null) {
-			root.setAttribute(IApiXmlConstants.ATTR_LOCATION, location);
+		if (description.location() != null) {
+			root.setAttribute(IApiXmlConstants.ATTR_LOCATION, description.location());
+		}
+		for (ComponentDescription component : description.components()) {
+			Element celement = document.createElement(IApiXmlConstants.ELEMENT_APICOMPONENT);
+			celement.setAttribute(IApiXmlConstants.ATTR_ID, component.id());
+			celement.setAttribute(IApiXmlConstants.ATTR_VERSION, component.version());
+			celement.setAttribute(IApiXmlConstants.ATTR_LOCATION, component.location());
+			root.appendChild(celement);
 		}
-		Element celement = null;
+		try {
+			Util.writeDocumentToFile(document, file);
+		} catch (IOException e) {
+			throw new CoreException(Status.error("Error writing profile descrition", e)); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Returns the description of the given baseline to persist.
+	 *
+	 * @param baseline the given API baseline
+	 * @return description of the given baseline
+	 */
+	private static BaselineDescription getBaselineDescription(IApiBaseline baseline) {
+		List<ComponentDescription> descriptions = new ArrayList<>();
 		IApiComponent[] components = baseline.getApiComponents();
 		for (IApiComponent component : components) {
 			Set<IApiComponent> allComponentSet;
@@ -391,15 +517,67 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 			}
 			for (IApiComponent iApiComponent : allComponentSet) {
 				if (!iApiComponent.isSystemComponent()) {
-					celement = document.createElement(IApiXmlConstants.ELEMENT_APICOMPONENT);
-					celement.setAttribute(IApiXmlConstants.ATTR_ID, iApiComponent.getSymbolicName());
-					celement.setAttribute(IApiXmlConstants.ATTR_VERSION, iApiComponent.getVersion());
-					celement.setAttribute(IApiXmlConstants.ATTR_LOCATION, IPath.fromOSString(iApiComponent.getLocation()).toPortableString());
-					root.appendChild(celement);
+					descriptions.add(new ComponentDescription(iApiComponent.getSymbolicName(), iApiComponent.getVersion(),
+							IPath.fromOSString(iApiComponent.getLocation()).toPortableString()));
 				}
 			}
 		}
-		return document;
+		return new BaselineDescription(baseline.getLocation(), descriptions);
+	}
+
+	/**
+	 * Returns which of the binary and the XML file of a baseline to read. The
+	 * XML file is only newer if an older version modified the baseline.
+	 */
+	private static File getNewerBaselineFile(File file, File other) {
+		File binary = file.getName().endsWith(BINARY_BASELINE_FILE_EXTENSION) ? file : other;
+		File xml = binary == file ? other : file;
+		return xml.lastModified() > binary.lastModified() ? xml : binary;
+	}
+
+	/**
+	 * Writes a baseline file in the binary format from the given one in the
+	 * XML format, which is kept for older versions.
+	 *
+	 * @param xmlFile the <code>.profile</code> file
+	 * @return the binary file, or the given file if it could not be converted
+	 */
+	private File convertBaselineFile(File xmlFile) {
+		String name = IPath.fromOSString(xmlFile.getName()).removeFileExtension().toString();
+		Path binaryFile = xmlFile.toPath().resolveSibling(name + BINARY_BASELINE_FILE_EXTENSION);
+		try (InputStream stream = new BufferedInputStream(new FileInputStream(xmlFile))) {
+			BaselineDescription description = readXmlBaselineDescription(stream);
+			if (description == null) {
+				return xmlFile;
+			}
+			writeBaselineDescription(description, binaryFile);
+		} catch (IOException | CoreException e) {
+			ApiPlugin.log(Status.warning("Could not convert API baseline " + xmlFile, e)); //$NON-NLS-1$
+			return xmlFile;
+		}
+		if (ApiPlugin.DEBUG_BASELINE_MANAGER) {
+			System.out.println("Converted persisted baseline " + name + " to the binary format"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return binaryFile.toFile();
+	}
+
+	/**
+	 * Returns the location stored in the given persisted baseline without
+	 * reading its components, or <code>null</code> if it has none or the file
+	 * is not in the binary format.
+	 */
+	private static String readBaselineLocation(File file) {
+		if (!file.getName().endsWith(BINARY_BASELINE_FILE_EXTENSION)) {
+			return null;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file), 512))) {
+			if (in.readInt() == BINARY_BASELINE_MAGIC && in.readInt() == BINARY_BASELINE_VERSION && in.readBoolean()) {
+				return IPath.fromPortableString(in.readUTF()).toOSString();
+			}
+		} catch (IOException e) {
+			ApiPlugin.log(e);
+		}
+		return null;
 	}
 
 	/**
@@ -412,64 +590,33 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 	 */
 	public IApiComponent[] readBaselineComponents(ApiBaseline baseline, InputStream stream) throws CoreException {
 		long start = System.currentTimeMillis();
-		DocumentBuilder parser = getConfiguredParser();
 		IApiComponent[] restored = null;
+		BaselineDescription description;
 		try {
-			Document document = parser.parse(stream);
-			Element root = document.getDocumentElement();
-			if (root.getNodeName().equals(IApiXmlConstants.ELEMENT_APIPROFILE)) {
-				String baselineLocation = root.getAttribute(IApiXmlConstants.ATTR_LOCATION);
-				if (baselineLocation != null && !baselineLocation.equals(Util.EMPTY_STRING)) {
-					baseline.setLocation(IPath.fromPortableString(baselineLocation).toOSString());
-				}
-				// un-pooled components
-				NodeList children = root.getElementsByTagName(IApiXmlConstants.ELEMENT_APICOMPONENT);
-				List<IApiComponent> components = new ArrayList<>();
-				for (int j = 0; j < children.getLength(); j++) {
-					Element componentNode = (Element) children.item(j);
-					// this also contains components in pools, so don't process
-					// them
-					if (componentNode.getParentNode().equals(root)) {
-						String location = componentNode.getAttribute(IApiXmlConstants.ATTR_LOCATION);
-						IApiComponent component = ApiModelFactory.newApiComponent(baseline, IPath.fromPortableString(location).toOSString());
-						if (component != null) {
-							components.add(component);
-						}
-					}
-				}
-				// pooled components - only for xml file with version <= 1
-				// since version 2, pools have been removed
-				children = root.getElementsByTagName(IApiXmlConstants.ELEMENT_POOL);
-				IApiComponent component = null;
-				for (int j = 0; j < children.getLength(); j++) {
-					String location = ((Element) children.item(j)).getAttribute(IApiXmlConstants.ATTR_LOCATION);
-					IPath poolPath = IPath.fromPortableString(location);
-					NodeList componentNodes = root.getElementsByTagName(IApiXmlConstants.ELEMENT_APICOMPONENT);
-					for (int i = 0; i < componentNodes.getLength(); i++) {
-						Element compElement = (Element) componentNodes.item(i);
-						String id = compElement.getAttribute(IApiXmlConstants.ATTR_ID);
-						String ver = compElement.getAttribute(IApiXmlConstants.ATTR_VERSION);
-						StringBuilder name = new StringBuilder();
-						name.append(id);
-						name.append('_');
-						name.append(ver);
-						File file = poolPath.append(name.toString()).toFile();
-						if (!file.exists()) {
-							name.append(".jar"); //$NON-NLS-1$
-							file = poolPath.append(name.toString()).toFile();
-						}
-						component = ApiModelFactory.newApiComponent(baseline, file.getAbsolutePath());
-						if (component != null) {
-							components.add(component);
-						}
-					}
+			InputStream in = stream.markSupported() ? stream : new BufferedInputStream(stream);
+			in.mark(4);
+			boolean binary = new DataInputStream(in).readInt() == BINARY_BASELINE_MAGIC;
+			in.reset();
+			description = binary ? readBinaryBaselineDescription(in) : readXmlBaselineDescription(in);
+		} catch (IOException e) {
+			throw new CoreException(Status.error("Error restoring API baseline", e)); //$NON-NLS-1$
+		}
+		if (description != null) {
+			persisteddescriptions.put(baseline.getName(), description);
+			if (description.location() != null) {
+				baseline.setLocation(IPath.fromPortableString(description.location()).toOSString());
+			}
+			List<IApiComponent> components = new ArrayList<>(description.components().size());
+			for (ComponentDescription componentDescription : description.components()) {
+				IApiComponent component = ApiModelFactory.newApiComponent(baseline,
+						IPath.fromPortableString(componentDescription.location()).toOSString());
+				if (component != null) {
+					components.add(component);
 				}
-				restored = components.toArray(new IApiComponent[components.size()]);
-				// Avoid unstable bundle traversal order to simplify our life
-				Arrays.sort(restored, (o1, o2) -> o1.getName().compareTo(o2.getName()));
 			}
-		} catch (IOException | SAXException e) {
-			throw new CoreException(Status.error("Error restoring API baseline", e)); //$NON-NLS-1$
+			restored = components.toArray(new IApiComponent[components.size()]);
+			// Avoid unstable bundle traversal order to simplify our life
+			Arrays.sort(restored, (o1, o2) -> o1.getName().compareTo(o2.getName()));
 		}
 		if (ApiPlugin.DEBUG_BASELINE_MANAGER) {
 			System.out.println("Time to restore a persisted baseline : " + (System.currentTimeMillis() - start) + "ms"); //$NON-NLS-1$ //$NON-NLS-2$
@@ -477,6 +624,89 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 		return restored;
 	}
 
+	/**
+	 * Reads a baseline description in the binary format.
+	 */
+	private static BaselineDescription readBinaryBaselineDescription(InputStream stream) throws IOException {
+		DataInputStream in = new DataInputStream(stream);
+		if (in.readInt() != BINARY_BASELINE_MAGIC) {
+			throw new IOException("Not a binary API baseline"); //$NON-NLS-1$
+		}
+		int version = in.readInt();
+		if (version != BINARY_BASELINE_VERSION) {
+			throw new IOException("Unsupported API baseline format version " + version); //$NON-NLS-1$
+		}
+		String location = in.readBoolean() ? in.readUTF() : null;
+		int count = in.readInt();
+		List<ComponentDescription> components = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			components.add(new ComponentDescription(in.readUTF(), in.readUTF(), in.readUTF()));
+		}
+		return new BaselineDescription(location, components);
+	}
+
+	/**
+	 * Reads a baseline description in the XML format of older versions.
+	 *
+	 * @return the description or <code>null</code> if the stream does not
+	 *         contain a baseline
+	 */
+	private static BaselineDescription readXmlBaselineDescription(InputStream stream) throws IOException, CoreException {
+		DocumentBuilder parser = getConfiguredParser();
+		Document document;
+		try {
+			document = parser.parse(stream);
+		} catch (SAXException e) {
+			throw new IOException(e);
+		}
+		Element root = document.getDocumentElement();
+		if (!root.getNodeName().equals(IApiXmlConstants.ELEMENT_APIPROFILE)) {
+			return null;
+		}
+		String baselineLocation = root.getAttribute(IApiXmlConstants.ATTR_LOCATION);
+		if (baselineLocation != null && baselineLocation.equals(Util.EMPTY_STRING)) {
+			baselineLocation = null;
+		}
+		List<ComponentDescription> components = new ArrayList<>();
+		// un-pooled components
+		NodeList children = root.getElementsByTagName(IApiXmlConstants.ELEMENT_APICOMPONENT);
+		for (int j = 0; j < children.getLength(); j++) {
+			Element componentNode = (Element) children.item(j);
+			// this also contains components in pools, so don't process
+			// them
+			if (componentNode.getParentNode().equals(root)) {
+				components.add(new ComponentDescription(componentNode.getAttribute(IApiXmlConstants.ATTR_ID),
+						componentNode.getAttribute(IApiXmlConstants.ATTR_VERSION),
+						componentNode.getAttribute(IApiXmlConstants.ATTR_LOCATION)));
+			}
+		}
+		// pooled components - only for xml file with version <= 1
+		// since version 2, pools have been removed
+		children = root.getElementsByTagName(IApiXmlConstants.ELEMENT_POOL);
+		for (int j = 0; j < children.getLength(); j++) {
+			String location = ((Element) children.item(j)).getAttribute(IApiXmlConstants.ATTR_LOCATION);
+			IPath poolPath = IPath.fromPortableString(location);
+			NodeList componentNodes = root.getElementsByTagName(IApiXmlConstants.ELEMENT_APICOMPONENT);
+			for (int i = 0; i < componentNodes.getLength(); i++) {
+				Element compElement = (Element) componentNodes.item(i);
+				String id = compElement.getAttribute(IApiXmlConstants.ATTR_ID);
+				String ver = compElement.getAttribute(IApiXmlConstants.ATTR_VERSION);
+				StringBuilder name = new StringBuilder();
+				name.append(id);
+				name.append('_');
+				name.append(ver);
+				File file = poolPath.append(name.toString()).toFile();
+				if (!file.exists()) {
+					name.append(".jar"); //$NON-NLS-1$
+					file = poolPath.append(name.toString()).toFile();
+				}
+				components.add(new ComponentDescription(id, ver,
+						IPath.fromOSString(file.getAbsolutePath()).toPortableString()));
+			}
+		}
+		return new BaselineDescription(baselineLocation, components);
+	}
+
 	private static DocumentBuilder getConfiguredParser() throws CoreException {
 		try {
 			@SuppressWarnings("restriction")
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2024 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -48,6 +48,7 @@ import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.jobs.ISchedulingRule;
 import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobGroup;
 import org.eclipse.jdt.core.IClasspathAttribute;
 import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.ICompilationUnit;
@@ -177,6 +178,12 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 
 	private final ConcurrentLinkedQueue<Runnable> markersQueue = new ConcurrentLinkedQueue<>();
 
+	/**
+	 * Group of all {@link ApiAnalysisJob}s, bounding the number of projects
+	 * analyzed concurrently, or <code>null</code> if it is not bounded
+	 */
+	private static JobGroup analysisJobGroup;
+
 	/**
 	 * Bug 549838:  In case auto-building on a API tools settings change  is not desired,
 	 * specify VM property: {@code -Dorg.eclipse.disableAutoBuildOnSettingsChange=true}
@@ -547,6 +554,10 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 			// Intentionally not using project as rule to allow run in parallel with build
 			// locking entire workspace
 			setRule(new ApiAnalysisJobRule(project));
+			JobGroup group = getAnalysisJobGroup();
+			if (group != null) {
+				setJobGroup(group);
+			}
 		}
 
 		@Override
@@ -602,6 +613,39 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 		}
 	}
 
+	/**
+	 * Returns the job group shared by all analysis jobs if the number of
+	 * projects analyzed at the same time is bounded by
+	 * {@link ICoreConstants#API_ANALYSIS_MAX_PARALLEL_JOBS}, or
+	 * <code>null</code> if it is not. The problems of each project are still
+	 * collected by its own builder and reported by its own
+	 * {@link ApiAnalysisMarkersJob}.
+	 *
+	 * @return the analysis job group or <code>null</code>
+	 */
+	static synchronized JobGroup getAnalysisJobGroup() {
+		PDEPreferencesManager prefs = PDECore.getDefault().getPreferencesManager();
+		int maxThreads = prefs.getInt(ICoreConstants.API_ANALYSIS_MAX_PARALLEL_JOBS);
+		if (maxThreads <= 0) {
+			analysisJobGroup = null;
+			return null;
+		}
+		if (analysisJobGroup == null || analysisJobGroup.getMaxThreads() != maxThreads) {
+			if (ApiPlugin.DEBUG_BUILDER) {
+				System.out.println("ApiAnalysisBuilder: Analyzing up to " + maxThreads + " projects in parallel"); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			analysisJobGroup = new JobGroup(BuilderMessages.api_analysis_builder, maxThreads, 0) {
+				@Override
+				protected boolean shouldCancel(IStatus lastCompletedJobResult, int numberOfFailedJobs,
+						int numberOfCanceledJobs) {
+					// the analyses of other projects are unaffected by a failed one
+					return false;
+				}
+			};
+		}
+		return analysisJobGroup;
+	}
+
 	public static final class ApiAnalysisJobRule implements ISchedulingRule {
 
 		private final IProject project;
@@ -915,7 +959,7 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 	 * Creates or removes markers, uses the current project rule.
 	 * The tasks to do are maintained by markersQueue and executed in the submission order
 	 */
-	class ApiAnalysisMarkersJob extends WorkspaceJob {
+	public class ApiAnalysisMarkersJob extends WorkspaceJob {
 
 		public ApiAnalysisMarkersJob(Runnable task) {
 			super("Updating API analysis markers on " + currentproject.getName()); //$NON-NLS-1$
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,8 +14,13 @@
 package org.eclipse.pde.api.tools.internal.builder;
 
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -58,15 +63,53 @@ public class ReferenceAnalyzer {
 	 */
 	private static final IApiProblemDetector[] NO_PROBLEM_DETECTORS = new IApiProblemDetector[0];
 
+	/**
+	 * System property setting the number of threads used to extract and
+	 * resolve references by default. A value of one or less disables the
+	 * concurrent analysis, which is the default as the builder already
+	 * analyzes independent projects concurrently.
+	 */
+	public static final String PARALLELISM_PROPERTY = "org.eclipse.pde.api.tools.referenceAnalyzerThreads"; //$NON-NLS-1$
+
+	/**
+	 * Below this number of class files in a package the references are
+	 * extracted sequentially, as the overhead of a thread pool outweighs the
+	 * gain.
+	 */
+	private static final int MIN_PARALLEL_TYPES = 8;
+
+	/**
+	 * References extracted from one class file or the failure to do so.
+	 */
+	private record Extraction(List<IReference> references, CoreException failure) {
+	}
+
 	/**
 	 * Visits each class file, extracting references.
+	 * <p>
+	 * If a thread pool is used, the class files of a package are collected
+	 * and their references are extracted concurrently when the end of the
+	 * package is reached. The extracted references are then handed to the
+	 * problem detectors sequentially, in the order the class files were
+	 * visited, so the detectors see the same references in the same order as
+	 * in a sequential analysis.
+	 * </p>
 	 */
 	class Visitor extends ApiTypeContainerVisitor {
 
 		private IProgressMonitor fMonitor = null;
 
+		private final ForkJoinPool fPool;
+
+		private final List<IApiTypeRoot> fPending = new ArrayList<>();
+
 		public Visitor(IProgressMonitor monitor) {
+			this(monitor, null);
+		}
+
+		Visitor(IProgressMonitor monitor, ForkJoinPool pool) {
 			fMonitor = monitor;
+			fPool = pool;
 		}
 
 		@Override
@@ -77,51 +120,122 @@ public class ReferenceAnalyzer {
 
 		@Override
 		public void endVisitPackage(String packageName) {
+			flush();
 			fMonitor.worked(1);
 		}
 
 		@Override
 		public void visit(String packageName, IApiTypeRoot classFile) {
-			if (!fMonitor.isCanceled()) {
-				try {
-					IApiType type = classFile.getStructure();
-					if (type == null) {
-						// do nothing for bad class files
-						return;
-					}
-					// don't process inner/anonymous/local types, this is done
-					// in the extractor
-					if (type.isMemberType() || type.isLocal() || type.isAnonymous()) {
-						return;
-					}
-					List<IReference> references = type.extractReferences(fAllReferenceKinds, null);
-					// keep potential matches
-					for (IReference ref : references) {
+			if (fPool != null) {
+				fPending.add(classFile);
+			} else if (!fMonitor.isCanceled()) {
+				consider(classFile, extract(classFile));
+			}
+		}
+
+		/**
+		 * Extracts and considers the references of all class files collected
+		 * since the last flush.
+		 */
+		void flush() {
+			if (fPending.isEmpty()) {
+				return;
+			}
+			try {
+				if (fPending.size() < MIN_PARALLEL_TYPES) {
+					for (IApiTypeRoot classFile : fPending) {
 						if (fMonitor.isCanceled()) {
 							break;
 						}
-						// compute index of interested problem detectors
-						int index = getLog2(ref.getReferenceKind());
-						IApiProblemDetector[] detectors = fIndexedDetectors[index];
-						boolean added = false;
-						if (detectors != null) {
-							for (IApiProblemDetector detector : detectors) {
-								if (fMonitor.isCanceled()) {
-									break;
-								}
-								if (detector.considerReference(ref, fMonitor)) {
-									if (!added) {
-										fReferences.add(ref);
-										added = true;
-									}
+						consider(classFile, extract(classFile));
+					}
+					return;
+				}
+				List<Future<Extraction>> extractions = new ArrayList<>(fPending.size());
+				for (IApiTypeRoot classFile : fPending) {
+					extractions.add(fPool.submit(() -> extract(classFile)));
+				}
+				for (int i = 0; i < extractions.size(); i++) {
+					Extraction extraction = getExtraction(extractions.get(i));
+					if (fMonitor.isCanceled()) {
+						break;
+					}
+					consider(fPending.get(i), extraction);
+				}
+			} finally {
+				fPending.clear();
+			}
+		}
+
+		/**
+		 * Extracts the references of the given class file. May be called
+		 * concurrently.
+		 */
+		private Extraction extract(IApiTypeRoot classFile) {
+			if (fMonitor.isCanceled()) {
+				return new Extraction(Collections.emptyList(), null);
+			}
+			try {
+				IApiType type = classFile.getStructure();
+				// do nothing for bad class files and don't process
+				// inner/anonymous/local types, this is done in the extractor
+				if (type == null || type.isMemberType() || type.isLocal() || type.isAnonymous()) {
+					return new Extraction(Collections.emptyList(), null);
+				}
+				return new Extraction(type.extractReferences(fAllReferenceKinds, null), null);
+			} catch (CoreException e) {
+				return new Extraction(Collections.emptyList(), e);
+			}
+		}
+
+		/**
+		 * Hands the references extracted from the given class file to the
+		 * interested problem detectors, keeping potential matches.
+		 */
+		private void consider(IApiTypeRoot classFile, Extraction extraction) {
+			try {
+				if (extraction.failure() != null) {
+					throw extraction.failure();
+				}
+				for (IReference ref : extraction.references()) {
+					if (fMonitor.isCanceled()) {
+						break;
+					}
+					// compute index of interested problem detectors
+					int index = getLog2(ref.getReferenceKind());
+					IApiProblemDetector[] detectors = fIndexedDetectors[index];
+					boolean added = false;
+					if (detectors != null) {
+						for (IApiProblemDetector detector : detectors) {
+							if (fMonitor.isCanceled()) {
+								break;
+							}
+							if (detector.considerReference(ref, fMonitor)) {
+								if (!added) {
+									fReferences.add(ref);
+									added = true;
 								}
 							}
 						}
 					}
-				} catch (CoreException e) {
-					fStatus.add(e.getStatus());
-					AbstractProblemDetector.checkIfDisposed(classFile.getApiComponent(), fMonitor);
 				}
+			} catch (CoreException e) {
+				fStatus.add(e.getStatus());
+				AbstractProblemDetector.checkIfDisposed(classFile.getApiComponent(), fMonitor);
+			}
+		}
+
+		private Extraction getExtraction(Future<Extraction> extraction) {
+			try {
+				return extraction.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new OperationCanceledException();
+			} catch (ExecutionException e) {
+				if (e.getCause() instanceof RuntimeException runtimeException) {
+					throw runtimeException;
+				}
+				throw new IllegalStateException(e.getCause());
 			}
 		}
 	}
@@ -148,6 +262,33 @@ public class ReferenceAnalyzer {
 	 */
 	private IApiProblemDetector[][] fIndexedDetectors;
 
+	/**
+	 * Maximum number of threads used to extract and resolve references.
+	 */
+	private int fParallelism = getDefaultParallelism();
+
+	/**
+	 * Returns the number of threads used to extract and resolve references
+	 * unless another value is set, as given by the system property
+	 * {@link #PARALLELISM_PROPERTY}.
+	 *
+	 * @return the default maximum number of threads
+	 */
+	public static int getDefaultParallelism() {
+		return Integer.getInteger(PARALLELISM_PROPERTY, 1);
+	}
+
+	/**
+	 * Sets the maximum number of threads used to extract and resolve
+	 * references. The problems reported do not depend on this value, a value
+	 * of one or less analyzes the scope sequentially.
+	 *
+	 * @param parallelism the maximum number of threads
+	 */
+	public void setParallelism(int parallelism) {
+		fParallelism = parallelism;
+	}
+
 	/**
 	 * Indexes the problem detectors by the reference kinds they are interested
 	 * in. For example, a detector interested in a
@@ -204,12 +345,18 @@ public class ReferenceAnalyzer {
 		fStatus = new MultiStatus(ApiPlugin.PLUGIN_ID, 0, BuilderMessages.ReferenceAnalyzer_api_analysis_error, null);
 		String[] packageNames = scope.getPackageNames();
 		SubMonitor localMonitor = SubMonitor.convert(monitor, packageNames.length);
-		ApiTypeContainerVisitor visitor = new Visitor(localMonitor);
+		ForkJoinPool pool = fParallelism > 1 ? new ForkJoinPool(fParallelism) : null;
+		Visitor visitor = new Visitor(localMonitor, pool);
 		long start = System.currentTimeMillis();
 		try {
 			scope.accept(visitor);
+			visitor.flush();
 		} catch (CoreException e) {
 			fStatus.add(e.getStatus());
+		} finally {
+			if (pool != null) {
+				pool.shutdownNow();
+			}
 		}
 		long end = System.currentTimeMillis();
 		if (!fStatus.isOK()) {
@@ -244,7 +391,7 @@ public class ReferenceAnalyzer {
 			// 2. resolve problematic references
 			localMonitor.subTask(BuilderMessages.ReferenceAnalyzer_analyzing_api_checking_use);
 			if (fReferences.size() != 0) {
-				ReferenceResolver.resolveReferences(fReferences);
+				ReferenceResolver.resolveReferences(fReferences, fParallelism);
 			}
 			// 3. create problems
 			List<IApiProblem> allProblems = new LinkedList<>();
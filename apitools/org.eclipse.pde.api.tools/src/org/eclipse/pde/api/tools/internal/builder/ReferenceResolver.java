@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2013 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,8 +17,12 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.builder.IReference;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiMember;
@@ -31,6 +35,17 @@ import org.eclipse.pde.api.tools.internal.provisional.model.IApiMember;
  */
 public final class ReferenceResolver {
 
+	/**
+	 * Below this number of references the resolution is always sequential,
+	 * as the overhead of a thread pool outweighs the gain.
+	 */
+	private static final int MIN_PARALLEL_REFERENCES = 64;
+
+	@FunctionalInterface
+	private interface Resolver<T> {
+		void resolve(T element) throws CoreException;
+	}
+
 	/**
 	 * Constructor Private constructor, no instantiate
 	 */
@@ -44,6 +59,25 @@ public final class ReferenceResolver {
 	 * @throws CoreException if something goes wrong
 	 */
 	public static void resolveReferences(List<IReference> references) throws CoreException {
+		resolveReferences(references, 1);
+	}
+
+	/**
+	 * Resolves retained references.
+	 * <p>
+	 * If <code>parallelism</code> is greater than one, references with distinct
+	 * signatures and method overrides are resolved concurrently using up to
+	 * that many threads. Each reference is still resolved by exactly one
+	 * thread, so the resolutions are the same as for a sequential run.
+	 * </p>
+	 *
+	 * @param references list of {@link IReference} to resolve
+	 * @param parallelism the maximum number of threads used for the
+	 *            resolution, a value less than or equal to one resolves the
+	 *            references sequentially
+	 * @throws CoreException if something goes wrong
+	 */
+	public static void resolveReferences(List<IReference> references, int parallelism) throws CoreException {
 		// sort references by target type for 'shared' resolution
 		int refcount = references.size();
 		Map<String, List<IReference>> sigtoref = new LinkedHashMap<>(refcount);
@@ -70,41 +104,108 @@ public final class ReferenceResolver {
 		if (ApiPlugin.DEBUG_REFERENCE_RESOLVER) {
 			System.out.println("Reference resolver: split into " + methodDecls.size() + " method overrides and " + sigtoref.size() + " unique references (" + (end - start) + "ms)"); //$NON-NLS-1$//$NON-NLS-2$//$NON-NLS-3$ //$NON-NLS-4$
 		}
-		// resolve references
-		start = System.currentTimeMillis();
-		resolveReferenceSets(sigtoref);
-		end = System.currentTimeMillis();
-		if (ApiPlugin.DEBUG_REFERENCE_RESOLVER) {
-			System.out.println("Reference resolver: resolved unique references in " + (end - start) + "ms"); //$NON-NLS-1$//$NON-NLS-2$
-		}
-		// resolve method overrides
-		start = System.currentTimeMillis();
-		for (Reference reference : methodDecls) {
-			reference.resolve();
+		ForkJoinPool pool = parallelism > 1 && refcount >= MIN_PARALLEL_REFERENCES ? new ForkJoinPool(parallelism) : null;
+		try {
+			// resolve references
+			start = System.currentTimeMillis();
+			List<List<IReference>> sets = new ArrayList<>(sigtoref.values());
+			if (pool != null) {
+				resolveInParallel(pool, parallelism, sets, ReferenceResolver::resolveReferenceSet);
+			} else {
+				for (List<IReference> set : sets) {
+					resolveReferenceSet(set);
+				}
+			}
+			end = System.currentTimeMillis();
+			if (ApiPlugin.DEBUG_REFERENCE_RESOLVER) {
+				System.out.println("Reference resolver: resolved unique references in " + (end - start) + "ms"); //$NON-NLS-1$//$NON-NLS-2$
+			}
+			// resolve method overrides
+			start = System.currentTimeMillis();
+			if (pool != null) {
+				resolveInParallel(pool, parallelism, methodDecls, Reference::resolve);
+			} else {
+				for (Reference reference : methodDecls) {
+					reference.resolve();
+				}
+			}
+			end = System.currentTimeMillis();
+		} finally {
+			if (pool != null) {
+				pool.shutdownNow();
+			}
 		}
-		end = System.currentTimeMillis();
 		if (ApiPlugin.DEBUG_REFERENCE_RESOLVER) {
 			System.out.println("Reference resolver: resolved method overrides in " + (end - start) + "ms"); //$NON-NLS-1$//$NON-NLS-2$
 		}
 	}
 
 	/**
-	 * Resolves the collect sets of references.
+	 * Resolves the first reference of the given set of references with the
+	 * same signature and shares its resolution with the others.
 	 *
-	 * @param map the mapping of keys to sets of {@link IReference}s
+	 * @param refs the {@link IReference}s with the same signature key
 	 * @throws CoreException if something bad happens
 	 */
-	private static void resolveReferenceSets(Map<String, List<IReference>> map) throws CoreException {
-		IReference ref = null;
-		for (List<IReference> refs : map.values()) {
-			ref = refs.get(0);
-			((Reference) ref).resolve();
-			IApiMember resolved = ref.getResolvedReference();
-			if (resolved != null) {
-				for (IReference ref2 : refs) {
-					((Reference) ref2).setResolution(resolved);
+	private static void resolveReferenceSet(List<IReference> refs) throws CoreException {
+		IReference ref = refs.get(0);
+		((Reference) ref).resolve();
+		IApiMember resolved = ref.getResolvedReference();
+		if (resolved != null) {
+			for (IReference ref2 : refs) {
+				((Reference) ref2).setResolution(resolved);
+			}
+		}
+	}
+
+	/**
+	 * Applies the given resolver to all elements, splitting them into a few
+	 * chunks per thread of the given pool. If resolving fails, the exception
+	 * of the first failing chunk is thrown once all chunks are done.
+	 */
+	private static <T> void resolveInParallel(ForkJoinPool pool, int parallelism, List<T> elements, Resolver<T> resolver) throws CoreException {
+		int size = elements.size();
+		if (size == 0) {
+			return;
+		}
+		int chunkSize = Math.max(1, (size + parallelism * 4 - 1) / (parallelism * 4));
+		List<Future<CoreException>> chunks = new ArrayList<>(size / chunkSize + 1);
+		for (int from = 0; from < size; from += chunkSize) {
+			List<T> chunk = elements.subList(from, Math.min(size, from + chunkSize));
+			chunks.add(pool.submit(() -> {
+				try {
+					for (T element : chunk) {
+						resolver.resolve(element);
+					}
+					return null;
+				} catch (CoreException e) {
+					return e;
 				}
+			}));
+		}
+		CoreException failure = null;
+		for (Future<CoreException> chunk : chunks) {
+			CoreException e = getResult(chunk);
+			if (failure == null) {
+				failure = e;
+			}
+		}
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	private static <T> T getResult(Future<T> future) {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
 			}
+			throw new IllegalStateException(e.getCause());
 		}
 	}
 
@@ -136,6 +136,16 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 	 */
 	private final Map<String, Map<IApiComponent, IApiComponent[]>> fComponentsProvidingPackageCache;
 
+	/**
+	 * Index of the packages visible to a bundle in the resolved state.
+	 * <p>
+	 * Map of <code>BundleDescription -> Map(packageName -> exporter ids)</code>
+	 * </p>
+	 * The index of a bundle is built from the state the first time a package is
+	 * resolved for it and is discarded whenever the state is resolved again.
+	 */
+	private final Map<BundleDescription, Map<String, List<String>>> fVisiblePackagesIndex;
+
 	/**
 	 * Maps component id's to components.
 	 * <p>
@@ -180,6 +190,7 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 	public ApiBaseline(String name) {
 		super(null, IApiElement.BASELINE, name);
 		fComponentsProvidingPackageCache = new ConcurrentHashMap<>(8);
+		fVisiblePackagesIndex = new ConcurrentHashMap<>();
 		fSystemLibraryComponentList = new CopyOnWriteArrayList<>();
 		fComponentsById = new ConcurrentHashMap<>();
 		fAllComponentsById = new ConcurrentHashMap<>();
@@ -309,10 +320,11 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 
 
 	/**
-	 * Clears the package -> components cache
+	 * Clears the package -> components cache and the visible packages index
 	 */
 	private void clearComponentsCache() {
 		fComponentsProvidingPackageCache.clear();
+		fVisiblePackagesIndex.clear();
 	}
 
 	/**
@@ -367,6 +379,9 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 		}
 		resolveSystemLibrary(ees);
 		getState().resolve();
+		// the new components may export packages already resolved or replace
+		// their exporters
+		clearComponentsCache();
 	}
 
 	/**
@@ -575,17 +590,10 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 		if (component instanceof BundleComponent) {
 			BundleDescription bundle = ((BundleComponent) component).getBundleDescription();
 			if (bundle != null) {
-				StateHelper helper = getState().getStateHelper();
-				ExportPackageDescription[] visiblePackages = helper.getVisiblePackages(bundle);
-				for (ExportPackageDescription pkg : visiblePackages) {
-					String pkgName = pkg.getName();
-					if (pkgName.equals(".")) { //$NON-NLS-1$
-						// translate . to default package
-						pkgName = Util.DEFAULT_PACKAGE_NAME;
-					}
-					if (packageName.equals(pkgName)) {
-						BundleDescription bundleDescription = pkg.getExporter();
-						IApiComponent exporter = getApiComponent(bundleDescription.getSymbolicName());
+				List<String> exporters = getVisiblePackages(bundle).get(packageName);
+				if (exporters != null) {
+					for (String exporterId : exporters) {
+						IApiComponent exporter = getApiComponent(exporterId);
 						if (exporter != null) {
 							componentsList.add(exporter);
 						}
@@ -612,6 +620,27 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 		}
 	}
 
+	/**
+	 * Returns the packages visible to the given bundle, mapped to the ids of
+	 * the bundles exporting them in the order reported by the state.
+	 */
+	private Map<String, List<String>> getVisiblePackages(BundleDescription bundle) {
+		return fVisiblePackagesIndex.computeIfAbsent(bundle, b -> {
+			StateHelper helper = getState().getStateHelper();
+			ExportPackageDescription[] visiblePackages = helper.getVisiblePackages(b);
+			Map<String, List<String>> index = new HashMap<>(visiblePackages.length * 4 / 3 + 1);
+			for (ExportPackageDescription pkg : visiblePackages) {
+				String pkgName = pkg.getName();
+				if (pkgName.equals(".")) { //$NON-NLS-1$
+					// translate . to default package
+					pkgName = Util.DEFAULT_PACKAGE_NAME;
+				}
+				index.computeIfAbsent(pkgName, n -> new ArrayList<>(1)).add(pkg.getExporter().getSymbolicName());
+			}
+			return index;
+		});
+	}
+
 	/**
 	 * Returns whether the specified package is supplied by the system library.
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2019 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,11 +13,13 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal.model;
 
-import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.eclipse.core.runtime.CoreException;
-import org.eclipse.jdt.internal.core.util.LRUCache;
-import org.eclipse.pde.api.tools.internal.SynchronizedOverflowingLRUCache;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
@@ -25,46 +27,109 @@ import org.eclipse.pde.api.tools.internal.provisional.model.IApiElement;
 
 /**
  * Manages the caches of {@link IApiElement}s
+ * <p>
+ * Elements are keyed by baseline, component and type name and spread over a
+ * fixed number of segments by the hash of their key. Each segment is a least
+ * recently used map of its share of the capacity with its own lock, so
+ * lookups of different segments never block each other and the eviction of
+ * an element costs the same whatever the size of the cache.
+ * </p>
+ * <p>
+ * The keys are also indexed by baseline, component and top level type, so
+ * removing a type, a component or a baseline only visits its own entries. A
+ * key is indexed before its element is published and the element is dropped
+ * again if the key was removed from the index meanwhile, so a concurrent
+ * removal never leaves an element behind that the index does not know.
+ * </p>
  *
  * @since 1.0.2
  */
 public final class ApiModelCache {
 
 	/**
-	 * Cache used for {@link IApiElement}s
+	 * Key of a cached type. Member types are cached with their binary name,
+	 * <code>rootName</code> is the name of their top level type.
 	 */
-	static class Cache<K, V> extends SynchronizedOverflowingLRUCache<K, V> {
+	record Key(String baseline, String component, String typeName, String rootName) {
 
-		/**
-		 * Constructor
-		 */
-		public Cache(int size, int overflow) {
-			super(size, overflow);
+		Key(String baseline, String component, String typeName) {
+			this(baseline, component, typeName, getRootName(typeName));
 		}
 
-		@Override
-		protected boolean close(LRUCacheEntry<K, V> entry) {
-			return true;
+		boolean isMemberType() {
+			return !typeName.equals(rootName);
 		}
+	}
 
-		@Override
-		protected LRUCache<K, V> newInstance(int size, int newOverflow) {
-			return new Cache<>(size, newOverflow);
+	/**
+	 * A least recently used map holding a share of the elements, to be
+	 * accessed while holding its monitor
+	 */
+	private final class Segment extends LinkedHashMap<Key, IApiElement> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int fSegmentCapacity;
+
+		Segment(int capacity) {
+			super(16, 0.75f, true);
+			fSegmentCapacity = capacity;
 		}
 
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, IApiElement> eldest) {
+			if (size() > fSegmentCapacity) {
+				unindex(eldest.getKey());
+				fEvictions.increment();
+				return true;
+			}
+			return false;
+		}
 	}
 
-	static final int DEFAULT_CACHE_SIZE = 1000;
-	static final int DEFAULT_OVERFLOW = (int) (DEFAULT_CACHE_SIZE * 0.1f);
+	/**
+	 * The capacity of the nested caches this cache replaces: 6 baselines of
+	 * 500 components with 2000 types each, plus the member types of 1000
+	 * top level types with 1000 member types each
+	 */
+	static final int DEFAULT_CACHE_SIZE = 6 * 500 * 2000 + 1000 * 1000;
+	static final int DEFAULT_SEGMENTS = 16;
 	static ApiModelCache fInstance = null;
 
-	Cache<String, Cache<String, Cache<String, IApiElement>>> fRootCache;
-	Cache<String, Cache<String, ApiType>> fMemberTypeCache;
+	private final Segment[] fSegments;
+	/**
+	 * Types of system library components by <code>[componentid]/[typename]</code>,
+	 * shared by all baselines bound to the same execution environment
+	 */
+	private final Map<String, Key> fSystemTypes = new ConcurrentHashMap<>();
+	/**
+	 * Keys of the cached types by baseline, component and top level type name
+	 */
+	private final Map<String, Map<String, Map<String, Set<Key>>>> fKeys = new ConcurrentHashMap<>();
+	private final LongAdder fHits = new LongAdder();
+	private final LongAdder fMisses = new LongAdder();
+	private final LongAdder fEvictions = new LongAdder();
 
 	/**
 	 * Constructor - no instantiation
 	 */
 	private ApiModelCache() {
+		this(DEFAULT_CACHE_SIZE, DEFAULT_SEGMENTS);
+	}
+
+	/**
+	 * Creates a cache separate from the shared one, for testing purposes.
+	 *
+	 * @param capacity the maximum number of elements
+	 * @param segments the number of segments the capacity is split into, the
+	 *            least recently used elements of a single segment are evicted
+	 *            in exact order
+	 */
+	public ApiModelCache(int capacity, int segments) {
+		fSegments = new Segment[segments];
+		for (int i = 0; i < segments; i++) {
+			fSegments[i] = new Segment(Math.max(1, capacity / segments));
+		}
 	}
 
 	/**
@@ -79,18 +144,6 @@ public final class ApiModelCache {
 		return fInstance;
 	}
 
-	/**
-	 * Returns the key to use in a cache. The key is of the form:
-	 * <code>[baselineid].[componentid].[typename]</code><br>
-	 *
-	 * @return the member type cache key to use
-	 */
-	private String getCacheKey(String baseline, String component, String typename) {
-		StringBuilder buffer = new StringBuilder();
-		buffer.append(baseline).append('.').append(component).append('.').append(typename);
-		return buffer.toString();
-	}
-
 	/**
 	 * Caches the given {@link IApiElement} in the correct cache based on its
 	 * type.
@@ -103,9 +156,6 @@ public final class ApiModelCache {
 	public void cacheElementInfo(IApiElement element) throws CoreException {
 		switch (element.getType()) {
 			case IApiElement.TYPE: {
-				if (fRootCache == null) {
-					fRootCache = new Cache<>(DEFAULT_CACHE_SIZE / 150, DEFAULT_OVERFLOW / 150);
-				}
 				IApiComponent comp = element.getApiComponent();
 				if (comp != null) {
 					IApiBaseline baseline = comp.getBaseline();
@@ -113,45 +163,23 @@ public final class ApiModelCache {
 					if (id == null) {
 						return;
 					}
-					Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(baseline.getName());
-					if (compcache == null) {
-						compcache = new Cache<>(DEFAULT_CACHE_SIZE / 2, DEFAULT_OVERFLOW / 2);
-						fRootCache.put(baseline.getName(), compcache);
+					Key key = new Key(baseline.getName(), id, element.getName());
+					getRoots(key).compute(key.rootName(), (root, keys) -> {
+						Set<Key> result = keys != null ? keys : ConcurrentHashMap.newKeySet();
+						result.add(key);
+						return result;
+					});
+					Segment segment = getSegment(key);
+					synchronized (segment) {
+						segment.put(key, element);
 					}
-					Cache<String, IApiElement> typecache = compcache.get(id);
-					if (typecache == null) {
-						typecache = new Cache<>(DEFAULT_CACHE_SIZE * 2, DEFAULT_OVERFLOW);
-						compcache.put(comp.getSymbolicName(), typecache);
+					if (!isIndexed(key)) {
+						// removed concurrently
+						removeElement(key);
+						break;
 					}
-					ApiType type = (ApiType) element;
-					if (type.isMemberType() || isMemberType(type.getName()) /*
-																			 * cache
-																			 * even
-																			 * a
-																			 * root
-																			 * type
-																			 * with
-																			 * a
-																			 * '$'
-																			 * in
-																			 * its
-																			 * name
-																			 * here
-																			 * as
-																			 * well
-																			 */) {
-						if (this.fMemberTypeCache == null) {
-							this.fMemberTypeCache = new Cache<>(DEFAULT_CACHE_SIZE, DEFAULT_OVERFLOW);
-						}
-						String key = getCacheKey(baseline.getName(), id, getRootName(type.getName()));
-						Cache<String, ApiType> mcache = this.fMemberTypeCache.get(key);
-						if (mcache == null) {
-							mcache = new Cache<>(DEFAULT_CACHE_SIZE, DEFAULT_OVERFLOW);
-							this.fMemberTypeCache.put(key, mcache);
-						}
-						mcache.put(type.getName(), type);
-					} else {
-						typecache.put(element.getName(), element);
+					if (isSystemComponent(id) && !key.isMemberType()) {
+						fSystemTypes.put(getSystemKey(id, key.typeName()), key);
 					}
 				}
 				break;
@@ -167,7 +195,7 @@ public final class ApiModelCache {
 	 *
 	 * @return the pruned name or the original name
 	 */
-	private String getRootName(String typename) {
+	static String getRootName(String typename) {
 		int idx = typename.indexOf('$');
 		if (idx > -1) {
 			return typename.substring(0, idx);
@@ -175,13 +203,12 @@ public final class ApiModelCache {
 		return typename;
 	}
 
-	/**
-	 * Method to see if the type boundary char appears in the type name
-	 *
-	 * @return true if the type name contains '$' false otherwise
-	 */
-	private boolean isMemberType(String typename) {
-		return typename.indexOf('$') > -1;
+	private static boolean isSystemComponent(String componentid) {
+		return componentid.startsWith("JavaSE-"); //$NON-NLS-1$
+	}
+
+	private static String getSystemKey(String componentid, String typename) {
+		return componentid + '/' + typename;
 	}
 
 	/**
@@ -203,67 +230,116 @@ public final class ApiModelCache {
 		if (baselineid == null || componentid == null) {
 			return null;
 		}
-		switch (type) {
-			case IApiElement.TYPE: {
-				if (isMemberType(identifier)) {
-					if (this.fMemberTypeCache != null) {
-						Cache<String, ApiType> mcache = this.fMemberTypeCache
-								.get(getCacheKey(baselineid, componentid, getRootName(identifier)));
-						if (mcache != null) {
-							return mcache.get(identifier);
-						}
-					}
-				} else {
-					if (this.fRootCache != null) {
-						Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(baselineid);
-						if (compcache != null) {
-							Cache<String, IApiElement> typecache = compcache.get(componentid);
-							if (typecache != null && identifier != null) {
-								IApiElement ele = typecache.get(identifier);
-								if (ele != null) {
-									return ele;
-								}
-
-							}
-						}
-					}
-				}
-				break;
-			}
-			default:
-				break;
+		if (type == IApiElement.TYPE && identifier != null) {
+			IApiElement element = getElement(new Key(baselineid, componentid, identifier));
+			if (element != null) {
+				return element;
 			}
-		if (componentid.startsWith("JavaSE-") && this.fRootCache != null) { //$NON-NLS-1$
+		}
+		if (isSystemComponent(componentid) && identifier != null && identifier.indexOf('$') == -1) {
 			// for system component, retrieve element from any baseline instead
 			// of recreating the structure and caching the equivalent element info
-			IApiElement element = getElementInfoFromAnyBaseline(baselineid, componentid, identifier);
-			if (element != null) {
-				return element;
+			Key key = fSystemTypes.get(getSystemKey(componentid, identifier));
+			if (key != null && !key.baseline().equals(baselineid)) {
+				IApiElement element = getElement(key);
+				if (element != null) {
+					return element;
+				}
 			}
 		}
+		fMisses.increment();
 		return null;
 	}
 
-	private IApiElement getElementInfoFromAnyBaseline(String baselineid, String componentid, String updatedIdentifier) {
-		List<String> elements = fRootCache.keysSnapshot();
-		for (String otherBaselines : elements) {
-				if (otherBaselines.equals(baselineid)) {
-					continue;
-				}
-				Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(otherBaselines);
-				if (compcache != null) {
-					Cache<String, IApiElement> typecache = compcache.get(componentid);
-					if (typecache != null && updatedIdentifier != null) {
-						IApiElement ele = typecache.get(updatedIdentifier);
-						if (ele != null) {
-							return ele;
-						}
-					}
-				}
+	private IApiElement getElement(Key key) {
+		IApiElement element;
+		Segment segment = getSegment(key);
+		synchronized (segment) {
+			element = segment.get(key);
+		}
+		if (element != null) {
+			fHits.increment();
+		}
+		return element;
+	}
+
+	private Segment getSegment(Key key) {
+		return fSegments[Math.floorMod(key.hashCode(), fSegments.length)];
+	}
+
+	/**
+	 * Returns the keys of the given component by top level type name, creating
+	 * the map if needed
+	 */
+	private Map<String, Set<Key>> getRoots(Key key) {
+		return fKeys.computeIfAbsent(key.baseline(), b -> new ConcurrentHashMap<>())
+				.computeIfAbsent(key.component(), c -> new ConcurrentHashMap<>());
+	}
+
+	/**
+	 * @return whether the given key is in the index of keys
+	 */
+	private boolean isIndexed(Key key) {
+		Map<String, Map<String, Set<Key>>> components = fKeys.get(key.baseline());
+		Map<String, Set<Key>> roots = components != null ? components.get(key.component()) : null;
+		Set<Key> keys = roots != null ? roots.get(key.rootName()) : null;
+		return keys != null && keys.contains(key);
+	}
+
+	private boolean removeKey(Key key) {
+		unindex(key);
+		return removeElement(key);
+	}
+
+	/**
+	 * Removes the given key from the index of keys and from the system types
+	 * without removing its element
+	 */
+	private void unindex(Key key) {
+		Map<String, Map<String, Set<Key>>> components = fKeys.get(key.baseline());
+		Map<String, Set<Key>> roots = components != null ? components.get(key.component()) : null;
+		if (roots != null) {
+			roots.computeIfPresent(key.rootName(), (root, keys) -> {
+				keys.remove(key);
+				return keys.isEmpty() ? null : keys;
+			});
+		}
+		if (isSystemComponent(key.component())) {
+			fSystemTypes.remove(getSystemKey(key.component(), key.typeName()), key);
+		}
+	}
+
+	/**
+	 * Removes the element of the given key without updating the index of keys
+	 */
+	private boolean removeElement(Key key) {
+		Segment segment = getSegment(key);
+		synchronized (segment) {
+			if (segment.remove(key) == null) {
+				return false;
 			}
-		return null;
+		}
+		if (isSystemComponent(key.component())) {
+			fSystemTypes.remove(getSystemKey(key.component(), key.typeName()), key);
+		}
+		return true;
 	}
 
+	/**
+	 * Removes the elements of all given keys, which have already been removed
+	 * from the index of keys
+	 */
+	private boolean removeAll(Map<String, Set<Key>> roots) {
+		boolean removed = false;
+		if (roots != null) {
+			for (Set<Key> keys : roots.values()) {
+				for (Key key : keys) {
+					removed |= removeElement(key);
+				}
+			}
+		}
+		return removed;
+	}
 
 	/**
 	 * Removes the {@link IApiElement} from the given component (given its id)
@@ -282,60 +358,40 @@ public final class ApiModelCache {
 		switch (type) {
 			case IApiElement.TYPE: {
 				if (componentid != null && identifier != null) {
-					boolean removed = true;
-					// clean member type cache
-					if (this.fMemberTypeCache != null) {
-						if (isMemberType(identifier)) {
-							Cache<String, ApiType> mcache = this.fMemberTypeCache.get(getCacheKey(baselineid, componentid, getRootName(identifier)));
-							if (mcache != null) {
-								return mcache.remove(identifier) != null;
-							}
-						} else {
-							this.fMemberTypeCache.remove(getCacheKey(baselineid, componentid, getRootName(identifier)));
-						}
-					}
-					if (fRootCache != null) {
-						Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(baselineid);
-						if (compcache != null) {
-							Cache<String, IApiElement> typecache = compcache.get(componentid);
-							if (typecache != null) {
-								removed &= typecache.remove(identifier) != null;
-								if (typecache.isEmpty()) {
-									removed &= compcache.remove(componentid) != null;
+					Key key = new Key(baselineid, componentid, identifier);
+					if (!key.isMemberType()) {
+						// removing a root type also removes its member types
+						Map<String, Map<String, Set<Key>>> components = fKeys.get(baselineid);
+						Map<String, Set<Key>> roots = components != null ? components.get(componentid) : null;
+						Set<Key> keys = roots != null ? roots.get(key.rootName()) : null;
+						if (keys != null) {
+							for (Key member : keys) {
+								if (member.isMemberType()) {
+									removeKey(member);
 								}
-								if (compcache.isEmpty()) {
-									removed &= fRootCache.remove(baselineid) != null;
-								}
-								return removed;
 							}
-
 						}
-					} else {
-						return false;
 					}
+					return removeKey(key);
 				}
 				break;
 			}
 			case IApiElement.COMPONENT: {
-				flushMemberCache();
-				if (fRootCache != null && componentid != null) {
-					Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(baselineid);
-					if (compcache != null) {
-						boolean removed = compcache.remove(componentid) != null;
-						if (compcache.isEmpty()) {
-							removed &= fRootCache.remove(baselineid) != null;
-						}
-						return removed;
-					}
+				if (componentid != null) {
+					Map<String, Map<String, Set<Key>>> components = fKeys.get(baselineid);
+					return components != null && removeAll(components.remove(componentid));
 				}
 				break;
 			}
 			case IApiElement.BASELINE: {
-				flushMemberCache();
-				if (fRootCache != null) {
-					return fRootCache.remove(baselineid) != null;
+				Map<String, Map<String, Set<Key>>> components = fKeys.remove(baselineid);
+				boolean removed = false;
+				if (components != null) {
+					for (Map<String, Set<Key>> roots : components.values()) {
+						removed |= removeAll(roots);
+					}
 				}
-				break;
+				return removed;
 			}
 			default:
 				break;
@@ -356,26 +412,20 @@ public final class ApiModelCache {
 		switch (element.getType()) {
 			case IApiElement.COMPONENT:
 			case IApiElement.TYPE: {
-				if (fRootCache != null) {
-					IApiComponent comp = element.getApiComponent();
-					if (comp != null) {
-						try {
-							IApiBaseline baseline = comp.getBaseline();
-							return removeElementInfo(baseline.getName(), comp.getSymbolicName(), element.getName(), element.getType());
-						} catch (CoreException ce) {
-							ApiPlugin.log("Failed to remove element info for " + comp.getName(), ce); //$NON-NLS-1$
-						}
+				IApiComponent comp = element.getApiComponent();
+				if (comp != null) {
+					try {
+						IApiBaseline baseline = comp.getBaseline();
+						return removeElementInfo(baseline.getName(), comp.getSymbolicName(), element.getName(), element.getType());
+					} catch (CoreException ce) {
+						ApiPlugin.log("Failed to remove element info for " + comp.getName(), ce); //$NON-NLS-1$
 					}
 				}
 				break;
 			}
 			case IApiElement.BASELINE: {
-				flushMemberCache();
-				if (fRootCache != null) {
-					IApiBaseline baseline = (IApiBaseline) element;
-					return fRootCache.remove(baseline.getName()) != null;
-				}
-				break;
+				IApiBaseline baseline = (IApiBaseline) element;
+				return removeElementInfo(baseline.getName(), null, null, IApiElement.BASELINE);
 			}
 			default:
 				break;
@@ -387,19 +437,13 @@ public final class ApiModelCache {
 	 * Clears out all cached information.
 	 */
 	public void flushCaches() {
-		if (fRootCache != null) {
-			fRootCache.flush();
-		}
-		flushMemberCache();
-	}
-
-	/**
-	 * Flushes the cache of member types
-	 */
-	private void flushMemberCache() {
-		if (this.fMemberTypeCache != null) {
-			this.fMemberTypeCache.flush();
+		for (Segment segment : fSegments) {
+			synchronized (segment) {
+				segment.clear();
+			}
 		}
+		fSystemTypes.clear();
+		fKeys.clear();
 	}
 
 	/**
@@ -408,13 +452,47 @@ public final class ApiModelCache {
 	 * @return true if the cache has no entries, false otherwise
 	 */
 	public boolean isEmpty() {
-		boolean empty = true;
-		if (fRootCache != null) {
-			empty &= fRootCache.isEmpty();
-		}
-		if (this.fMemberTypeCache != null) {
-			empty &= this.fMemberTypeCache.isEmpty();
+		return size() == 0;
+	}
+
+	/**
+	 * @return the number of cached elements
+	 */
+	public int size() {
+		int size = 0;
+		for (Segment segment : fSegments) {
+			synchronized (segment) {
+				size += segment.size();
+			}
 		}
-		return empty;
+		return size;
+	}
+
+	/**
+	 * @return the number of successful lookups since the cache was created
+	 */
+	public long getHitCount() {
+		return fHits.sum();
+	}
+
+	/**
+	 * @return the number of lookups that did not find an element since the
+	 *         cache was created
+	 */
+	public long getMissCount() {
+		return fMisses.sum();
+	}
+
+	/**
+	 * @return the number of elements evicted because the cache was full
+	 */
+	public long getEvictionCount() {
+		return fEvictions.sum();
+	}
+
+	@Override
+	public String toString() {
+		return "ApiModelCache [size=" + size() + ", hits=" + getHitCount() + ", misses=" + getMissCount() //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				+ ", evictions=" + getEvictionCount() + "]"; //$NON-NLS-1$ //$NON-NLS-2$
 	}
 }
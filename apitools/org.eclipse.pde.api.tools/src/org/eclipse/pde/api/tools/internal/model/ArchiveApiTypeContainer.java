@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2017 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,19 +17,14 @@ import java.io.IOException;
 import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-import java.util.TreeMap;
-import java.util.stream.Stream;
+import java.util.Arrays;
 
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.model.ApiTypeContainerVisitor;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiElement;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeContainer;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
-import org.eclipse.pde.api.tools.internal.util.Signatures;
-import org.eclipse.pde.api.tools.internal.util.Util;
 
 /**
  * {@link IApiTypeContainer} container for an archive (jar or zip) file.
@@ -108,15 +103,10 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	String fLocation;
 
 	/**
-	 * Cache of package names to a map of class names to class files paths in that
-	 * package, or <code>null</code> if not yet initialized.
+	 * Index of the packages and types in this archive, or <code>null</code> if
+	 * not yet initialized.
 	 */
-	private Map<String, Map<String, String>> fPackages;
-
-	/**
-	 * Cache of package names in this archive.
-	 */
-	private String[] fPackageNames;
+	private ArchiveIndex fIndex;
 
 	/**
 	 * Constructs an {@link IApiTypeContainer} container for the given jar or zip
@@ -153,16 +143,14 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	@Override
 	public void accept(ApiTypeContainerVisitor visitor) throws CoreException {
 		if (visitor.visit(this)) {
-			init();
-			for (Map.Entry<String, Map<String, String>> entry : fPackages.entrySet()) {
-				String pkg = entry.getKey();
+			ArchiveIndex index = init();
+			String[] packageNames = index.getPackageNames();
+			for (int i = 0; i < packageNames.length; i++) {
+				String pkg = packageNames[i];
 				if (visitor.visitPackage(pkg)) {
-					Map<String, String> classes = entry.getValue();
-					List<ArchiveApiTypeRoot> classFiles = new ArrayList<>(classes.size());
-					for (Map.Entry<String, String> classEntry : classes.entrySet()) {
-						classFiles.add(new ArchiveApiTypeRoot(this, classEntry.getKey(), classEntry.getValue()));
-					}
-					for (ArchiveApiTypeRoot classfile : classFiles) {
+					int count = index.getTypeCount(i);
+					for (int j = 0; j < count; j++) {
+						ArchiveApiTypeRoot classfile = getTypeRoot(index, i, j);
 						visitor.visit(pkg, classfile);
 						visitor.end(pkg, classfile);
 					}
@@ -193,14 +181,15 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	 */
 	@Override
 	public IApiTypeRoot findTypeRoot(String qualifiedName) throws CoreException {
-		init();
-		String packageName = Signatures.getPackageName(qualifiedName);
-		Map<String, String> classFileNames = fPackages.get(packageName);
-		if (classFileNames != null) {
-			String fileName = classFileNames.get(qualifiedName);
-			if (fileName != null) {
-				return new ArchiveApiTypeRoot(this, qualifiedName, fileName);
-			}
+		ArchiveIndex index = init();
+		String fileName;
+		try {
+			fileName = index.getEntryName(qualifiedName);
+		} catch (IOException e) {
+			fileName = reindex(index, e).getEntryName(qualifiedName);
+		}
+		if (fileName != null) {
+			return new ArchiveApiTypeRoot(this, qualifiedName, fileName);
 		}
 		return null;
 	}
@@ -210,42 +199,56 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	 */
 	@Override
 	public String[] getPackageNames() throws CoreException {
-		init();
-		synchronized (this) {
-			if (fPackageNames == null) {
-				fPackageNames = fPackages.keySet().toArray(String[]::new);
+		return init().getPackageNames();
+	}
+
+	private ArchiveApiTypeRoot getTypeRoot(ArchiveIndex index, int pkgIndex, int typeIndex) throws CoreException {
+		try {
+			return new ArchiveApiTypeRoot(this, index.getTypeName(pkgIndex, typeIndex), index.getEntryName(pkgIndex, typeIndex));
+		} catch (IOException e) {
+			ArchiveIndex current = reindex(index, e);
+			if (!Arrays.equals(current.getPackageNames(), index.getPackageNames())
+					|| current.getTypeCount(pkgIndex) != index.getTypeCount(pkgIndex)) {
+				abort("Archive changed while being visited: " + fLocation, e); //$NON-NLS-1$
 			}
-			return fPackageNames;
+			return new ArchiveApiTypeRoot(this, current.getTypeName(pkgIndex, typeIndex), current.getEntryName(pkgIndex, typeIndex));
 		}
 	}
 
 	/**
-	 * Initializes cache of packages and types.
+	 * Initializes the index of packages and types, reusing the index persisted
+	 * for this archive if it is still valid.
 	 */
-	private synchronized void init() throws CoreException {
-		if (fPackages == null) {
-			fPackages = new TreeMap<>();
+	private synchronized ArchiveIndex init() throws CoreException {
+		if (fIndex == null) {
 			try {
 				Path location = getLocation();
 				boolean isJrt = "jrt".equals(location.toUri().getScheme()); //$NON-NLS-1$
-				try (Stream<Path> walk = Files.walk(location)) {
-					walk.forEach(it -> {
-						String name = location.relativize(it).toString();
-						if (name.endsWith(Util.DOT_CLASS_SUFFIX)) {
-							// In the JRT file system, the first segment will be the module name,
-							// which we must strip.
-							String className = name.substring(isJrt ? name.indexOf('/') + 1 : 0,
-									name.length() - Util.DOT_CLASS_SUFFIX.length()).replace('/', '.');
-							String pkg = Signatures.getPackageName(className);
-							Map<String, String> fileNames = fPackages.computeIfAbsent(pkg, p -> new TreeMap<>());
-							fileNames.put(className, name);
-						}
-					});
-				}
+				fIndex = ArchiveIndex.load(fLocation, ArchiveIndex.getStampFile(fLocation), location, isJrt);
+			} catch (IOException e) {
+				abort("Failed to process archive: " + fLocation, e); //$NON-NLS-1$
+			}
+		}
+		return fIndex;
+	}
+
+	/**
+	 * Replaces an index whose persisted type tables could no longer be read
+	 * by one built from the archive itself. The package table of the new index
+	 * is the same as long as the archive is unchanged.
+	 */
+	private synchronized ArchiveIndex reindex(ArchiveIndex failed, IOException cause) throws CoreException {
+		if (fIndex == failed) {
+			ApiPlugin.log("Failed to read archive index of: " + fLocation, cause); //$NON-NLS-1$
+			try {
+				Path location = getLocation();
+				boolean isJrt = "jrt".equals(location.toUri().getScheme()); //$NON-NLS-1$
+				fIndex = ArchiveIndex.build(fLocation, location, isJrt, -1, -1);
 			} catch (IOException e) {
 				abort("Failed to process archive: " + fLocation, e); //$NON-NLS-1$
 			}
 		}
+		return fIndex;
 	}
 
 	@Override
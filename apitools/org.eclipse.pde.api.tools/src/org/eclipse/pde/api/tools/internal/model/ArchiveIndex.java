@@ -0,0 +1,542 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.model;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.util.Signatures;
+import org.eclipse.pde.api.tools.internal.util.Util;
+
+/**
+ * Compact index of the class files contained in an archive or JRT image.
+ * <p>
+ * Package names are kept in a sorted array and interned, since the same
+ * packages appear in many archives of a baseline. The types of a package are
+ * stored as one sorted string table (all simple names concatenated plus their
+ * start offsets) and their entry names are derived from a prefix shared by the
+ * whole package, so no per type objects are retained.
+ * </p>
+ * <p>
+ * An index can be persisted in the API tools state location next to the
+ * baselines. A persisted index is only used while the size and modification
+ * time of the archive are unchanged; the type tables of its packages are read
+ * from disk the first time a package is accessed. The first time an index is
+ * loaded in a session, the persisted indexes of archives that no longer exist
+ * or have changed since are deleted.
+ * </p>
+ */
+public final class ArchiveIndex {
+
+	private static final String INDEX_FOLDER = ".archive_index"; //$NON-NLS-1$
+
+	private static final String INDEX_FILE_EXTENSION = ".index"; //$NON-NLS-1$
+
+	/** Must be incremented whenever the binary format changes */
+	private static final int FORMAT_VERSION = 1;
+
+	/** Whether the persisted indexes were pruned in this session */
+	private static boolean fgPruned;
+
+	/**
+	 * The types of one package.
+	 */
+	private static final class PackageTable {
+
+		/** entry name prefix shared by the types, e.g. <code>java.base/java/lang/</code> */
+		final String prefix;
+
+		/** number of types in the package */
+		final int count;
+
+		/** offset of the type table in the data section of the index file */
+		final long offset;
+
+		/** concatenated sorted simple names, <code>null</code> until loaded */
+		String names;
+
+		/** start of each simple name in {@link #names} plus the end of the last one */
+		int[] starts;
+
+		/** entry names not following the shared prefix or <code>null</code> if there are none */
+		String[] entryNames;
+
+		PackageTable(String prefix, int count, long offset) {
+			this.prefix = prefix;
+			this.count = count;
+			this.offset = offset;
+		}
+
+		boolean isLoaded() {
+			return names != null;
+		}
+
+		String getSimpleName(int index) {
+			return names.substring(starts[index], starts[index + 1]);
+		}
+
+		String getEntryName(int index) {
+			if (entryNames != null && entryNames[index] != null) {
+				return entryNames[index];
+			}
+			int start = starts[index];
+			int end = starts[index + 1];
+			StringBuilder buffer = new StringBuilder(prefix.length() + end - start + Util.DOT_CLASS_SUFFIX.length());
+			return buffer.append(prefix).append(names, start, end).append(Util.DOT_CLASS_SUFFIX).toString();
+		}
+
+		int indexOf(String simpleName) {
+			int low = 0;
+			int high = count - 1;
+			while (low <= high) {
+				int mid = (low + high) >>> 1;
+				int cmp = compare(mid, simpleName);
+				if (cmp < 0) {
+					low = mid + 1;
+				} else if (cmp > 0) {
+					high = mid - 1;
+				} else {
+					return mid;
+				}
+			}
+			return -1;
+		}
+
+		/**
+		 * Compares the simple name at the given index with the given name like
+		 * {@link String#compareTo(String)} without creating a substring.
+		 */
+		private int compare(int index, String simpleName) {
+			int start = starts[index];
+			int length = starts[index + 1] - start;
+			int min = Math.min(length, simpleName.length());
+			for (int i = 0; i < min; i++) {
+				char c1 = names.charAt(start + i);
+				char c2 = simpleName.charAt(i);
+				if (c1 != c2) {
+					return c1 - c2;
+				}
+			}
+			return length - simpleName.length();
+		}
+	}
+
+	/**
+	 * Mutable list of the types of one package used while walking an archive.
+	 */
+	private static final class PackageBuilder {
+		final TreeMap<String, String> types = new TreeMap<>();
+
+		PackageTable toTable() {
+			String[] simpleNames = types.keySet().toArray(String[]::new);
+			Map.Entry<String, String> first = types.firstEntry();
+			String prefix = prefixOf(first.getValue(), first.getKey());
+			PackageTable table = new PackageTable(prefix, simpleNames.length, -1);
+			fill(table, simpleNames, types.values().toArray(String[]::new));
+			return table;
+		}
+	}
+
+	/** sorted and interned package names */
+	private final String[] fPackageNames;
+
+	/** type tables, parallel to {@link #fPackageNames} */
+	private final PackageTable[] fPackages;
+
+	/** file the type tables are read from or <code>null</code> if all tables are loaded */
+	private final Path fIndexFile;
+
+	/** location and stamp of the archive this index was created for */
+	private final String fArchive;
+	private final long fSize;
+	private final long fLastModified;
+
+	/** start of the data section in {@link #fIndexFile} */
+	private final long fDataStart;
+
+	private ArchiveIndex(String[] packageNames, PackageTable[] packages, Path indexFile, String archive, long size,
+			long lastModified, long dataStart) {
+		fPackageNames = packageNames;
+		fPackages = packages;
+		fIndexFile = indexFile;
+		fArchive = archive;
+		fSize = size;
+		fLastModified = lastModified;
+		fDataStart = dataStart;
+	}
+
+	/**
+	 * Returns the index of the given archive. A persisted index is used if it
+	 * is still valid, otherwise the archive is walked and, when running in the
+	 * framework, the resulting index is persisted.
+	 *
+	 * @param archive location of the archive in the local file system
+	 * @param stampFile the file whose size and modification time identify the
+	 *            contents of the archive
+	 * @param root the root of the archive file system
+	 * @param isJrt whether the archive is a JRT image, whose entries are
+	 *            prefixed by the module name
+	 * @return the index of the archive, never <code>null</code>
+	 * @throws IOException if the archive could not be read
+	 */
+	public static ArchiveIndex load(String archive, Path stampFile, Path root, boolean isJrt) throws IOException {
+		long size = -1;
+		long lastModified = -1;
+		try {
+			size = Files.size(stampFile);
+			lastModified = Files.getLastModifiedTime(stampFile).toMillis();
+		} catch (IOException e) {
+			// no stamp, always walk the archive
+		}
+		Path indexFile = size < 0 ? null : getIndexFile(archive);
+		if (indexFile != null) {
+			prune(indexFile.getParent());
+			try {
+				ArchiveIndex index = read(indexFile, archive, size, lastModified);
+				if (index != null) {
+					return index;
+				}
+			} catch (NoSuchFileException e) {
+				// not indexed yet
+			} catch (IOException e) {
+				ApiPlugin.log("Failed to read archive index: " + indexFile, e); //$NON-NLS-1$
+			}
+		}
+		ArchiveIndex index = build(archive, root, isJrt, size, lastModified);
+		if (indexFile != null) {
+			try {
+				index.write(indexFile);
+			} catch (IOException e) {
+				ApiPlugin.log("Failed to write archive index: " + indexFile, e); //$NON-NLS-1$
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * Returns the file the index of the given archive is persisted in or
+	 * <code>null</code> if indexes are not persisted.
+	 */
+	public static Path getIndexFile(String archive) {
+		if (!ApiPlugin.isRunningInFramework()) {
+			return null;
+		}
+		Path folder = ApiPlugin.getDefault().getStateLocation().append(INDEX_FOLDER).toPath();
+		String fileName = Path.of(archive).getFileName().toString();
+		return folder.resolve(fileName + '_' + Integer.toHexString(archive.hashCode()) + INDEX_FILE_EXTENSION);
+	}
+
+	/**
+	 * Returns the file whose size and modification time change whenever the
+	 * contents of the given archive change. For a JRT image this is the
+	 * modules image rather than <code>jrt-fs.jar</code>.
+	 */
+	@SuppressWarnings("restriction")
+	public static Path getStampFile(String archive) {
+		Path path = Path.of(archive);
+		if (archive.endsWith(org.eclipse.jdt.internal.compiler.util.JRTUtil.JRT_FS_JAR)) {
+			Path modules = path.resolveSibling("modules"); //$NON-NLS-1$
+			if (Files.isRegularFile(modules)) {
+				return modules;
+			}
+		}
+		return path;
+	}
+
+	/**
+	 * Deletes the persisted indexes in the given folder whose archive no
+	 * longer exists or has changed, or which were written in an older format.
+	 * Only done once per session.
+	 */
+	private static synchronized void prune(Path folder) {
+		if (fgPruned) {
+			return;
+		}
+		fgPruned = true;
+		try (Stream<Path> files = Files.list(folder)) {
+			for (Path file : files.filter(f -> f.getFileName().toString().endsWith(INDEX_FILE_EXTENSION)).toList()) {
+				if (isStale(file)) {
+					Files.deleteIfExists(file);
+				}
+			}
+		} catch (NoSuchFileException e) {
+			// nothing persisted yet
+		} catch (IOException e) {
+			ApiPlugin.log("Failed to prune archive indexes: " + folder, e); //$NON-NLS-1$
+		}
+	}
+
+	private static boolean isStale(Path indexFile) {
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile), 512))) {
+			if (in.readInt() != FORMAT_VERSION) {
+				return true;
+			}
+			Path stampFile = getStampFile(in.readUTF());
+			return in.readLong() != Files.size(stampFile)
+					|| in.readLong() != Files.getLastModifiedTime(stampFile).toMillis();
+		} catch (IOException e) {
+			// unreadable or the archive is gone
+			return true;
+		}
+	}
+
+	/**
+	 * Walks the given archive file system and builds its index.
+	 */
+	public static ArchiveIndex build(String archive, Path root, boolean isJrt, long size, long lastModified) throws IOException {
+		TreeMap<String, PackageBuilder> packages = new TreeMap<>();
+		try (Stream<Path> walk = Files.walk(root)) {
+			walk.forEach(it -> {
+				String name = root.relativize(it).toString();
+				if (name.endsWith(Util.DOT_CLASS_SUFFIX)) {
+					// In the JRT file system, the first segment will be the
+					// module name, which we must strip.
+					String className = name.substring(isJrt ? name.indexOf('/') + 1 : 0,
+							name.length() - Util.DOT_CLASS_SUFFIX.length()).replace('/', '.');
+					String pkg = Signatures.getPackageName(className);
+					String simpleName = pkg.isEmpty() ? className : className.substring(pkg.length() + 1);
+					packages.computeIfAbsent(pkg, p -> new PackageBuilder()).types.put(simpleName, name);
+				}
+			});
+		}
+		String[] packageNames = new String[packages.size()];
+		PackageTable[] tables = new PackageTable[packages.size()];
+		int i = 0;
+		for (Map.Entry<String, PackageBuilder> entry : packages.entrySet()) {
+			packageNames[i] = entry.getKey().intern();
+			tables[i] = entry.getValue().toTable();
+			i++;
+		}
+		return new ArchiveIndex(packageNames, tables, null, archive, size, lastModified, -1);
+	}
+
+	/**
+	 * Returns the sorted names of all packages containing types.
+	 *
+	 * @return package names, must not be modified
+	 */
+	public String[] getPackageNames() {
+		return fPackageNames;
+	}
+
+	/**
+	 * Returns the entry name of the given type or <code>null</code> if the
+	 * archive does not contain it.
+	 */
+	public String getEntryName(String qualifiedName) throws IOException {
+		String pkg = Signatures.getPackageName(qualifiedName);
+		int pkgIndex = Arrays.binarySearch(fPackageNames, pkg);
+		if (pkgIndex < 0) {
+			return null;
+		}
+		PackageTable table = getTable(pkgIndex);
+		int index = table.indexOf(pkg.isEmpty() ? qualifiedName : qualifiedName.substring(pkg.length() + 1));
+		return index < 0 ? null : table.getEntryName(index);
+	}
+
+	/**
+	 * Returns the number of types in the package at the given index of
+	 * {@link #getPackageNames()}.
+	 */
+	public int getTypeCount(int pkgIndex) {
+		return fPackages[pkgIndex].count;
+	}
+
+	/**
+	 * Returns the qualified name of a type in the package at the given index of
+	 * {@link #getPackageNames()}. Types are sorted by name.
+	 */
+	public String getTypeName(int pkgIndex, int typeIndex) throws IOException {
+		String simpleName = getTable(pkgIndex).getSimpleName(typeIndex);
+		String pkg = fPackageNames[pkgIndex];
+		return pkg.isEmpty() ? simpleName : pkg + '.' + simpleName;
+	}
+
+	/**
+	 * Returns the entry name of a type in the package at the given index of
+	 * {@link #getPackageNames()}.
+	 */
+	public String getEntryName(int pkgIndex, int typeIndex) throws IOException {
+		return getTable(pkgIndex).getEntryName(typeIndex);
+	}
+
+	/**
+	 * Returns whether the type tables of this index are read from a persisted
+	 * index file rather than built from the archive.
+	 */
+	public boolean isPersisted() {
+		return fIndexFile != null;
+	}
+
+	private PackageTable getTable(int pkgIndex) throws IOException {
+		PackageTable table = fPackages[pkgIndex];
+		synchronized (table) {
+			if (!table.isLoaded()) {
+				readTable(table);
+			}
+		}
+		return table;
+	}
+
+	private static String prefixOf(String entryName, String simpleName) {
+		return entryName.substring(0, entryName.length() - simpleName.length() - Util.DOT_CLASS_SUFFIX.length());
+	}
+
+	private static boolean hasPrefix(String entryName, String prefix, String simpleName) {
+		return entryName.length() == prefix.length() + simpleName.length() + Util.DOT_CLASS_SUFFIX.length()
+				&& entryName.startsWith(prefix) && entryName.startsWith(simpleName, prefix.length());
+	}
+
+	/**
+	 * Fills the string table of the given package.
+	 *
+	 * @param entryNames entry names parallel to the simple names, entries may
+	 *            be <code>null</code> if they follow the prefix of the package
+	 */
+	private static void fill(PackageTable table, String[] simpleNames, String[] entryNames) {
+		StringBuilder names = new StringBuilder();
+		int[] starts = new int[simpleNames.length + 1];
+		String[] exceptions = null;
+		for (int i = 0; i < simpleNames.length; i++) {
+			starts[i] = names.length();
+			names.append(simpleNames[i]);
+			String entryName = entryNames[i];
+			if (entryName != null && !hasPrefix(entryName, table.prefix, simpleNames[i])) {
+				if (exceptions == null) {
+					exceptions = new String[simpleNames.length];
+				}
+				exceptions[i] = entryName;
+			}
+		}
+		starts[simpleNames.length] = names.length();
+		table.starts = starts;
+		table.entryNames = exceptions;
+		table.names = names.toString();
+	}
+
+	/*
+	 * Index file format:
+	 *
+	 * int version, string archive, long size, long lastModified, long data length,
+	 * int package count, (string package, string prefix, int type count, long offset)*,
+	 * data: ((string simple name, boolean has entry name, [string entry name])*)*
+	 */
+
+	private static ArchiveIndex read(Path indexFile, String archive, long size, long lastModified) throws IOException {
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+			if (!readHeader(in, archive, size, lastModified)) {
+				return null;
+			}
+			long dataLength = in.readLong();
+			int count = in.readInt();
+			String[] packageNames = new String[count];
+			PackageTable[] tables = new PackageTable[count];
+			for (int i = 0; i < count; i++) {
+				packageNames[i] = in.readUTF().intern();
+				tables[i] = new PackageTable(in.readUTF(), in.readInt(), in.readLong());
+			}
+			long dataStart = Files.size(indexFile) - dataLength;
+			return new ArchiveIndex(packageNames, tables, indexFile, archive, size, lastModified, dataStart);
+		}
+	}
+
+	private static boolean readHeader(DataInputStream in, String archive, long size, long lastModified) throws IOException {
+		return in.readInt() == FORMAT_VERSION && archive.equals(in.readUTF()) && in.readLong() == size
+				&& in.readLong() == lastModified;
+	}
+
+	private void readTable(PackageTable table) throws IOException {
+		if (fIndexFile == null) {
+			throw new IOException("Archive index is not loaded"); //$NON-NLS-1$
+		}
+		try (SeekableByteChannel channel = Files.newByteChannel(fIndexFile)) {
+			// the index may have been rewritten for a changed archive meanwhile
+			DataInputStream header = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel), 512));
+			if (!readHeader(header, fArchive, fSize, fLastModified)) {
+				throw new IOException("Archive index has changed: " + fIndexFile); //$NON-NLS-1$
+			}
+			channel.position(fDataStart + table.offset);
+			DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+			String[] simpleNames = new String[table.count];
+			String[] entryNames = new String[table.count];
+			for (int i = 0; i < table.count; i++) {
+				simpleNames[i] = in.readUTF();
+				if (in.readBoolean()) {
+					entryNames[i] = in.readUTF();
+				}
+			}
+			fill(table, simpleNames, entryNames);
+		}
+	}
+
+	private void write(Path indexFile) throws IOException {
+		ByteArrayOutputStream data = new ByteArrayOutputStream();
+		DataOutputStream dataOut = new DataOutputStream(data);
+		List<Long> offsets = new ArrayList<>(fPackages.length);
+		for (PackageTable table : fPackages) {
+			offsets.add(Long.valueOf(dataOut.size()));
+			for (int i = 0; i < table.count; i++) {
+				dataOut.writeUTF(table.getSimpleName(i));
+				String entryName = table.entryNames == null ? null : table.entryNames[i];
+				dataOut.writeBoolean(entryName != null);
+				if (entryName != null) {
+					dataOut.writeUTF(entryName);
+				}
+			}
+		}
+		dataOut.flush();
+
+		Files.createDirectories(indexFile.getParent());
+		Path tempFile = Files.createTempFile(indexFile.getParent(), indexFile.getFileName().toString(), null);
+		try {
+			try (OutputStream stream = Files.newOutputStream(tempFile);
+					DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream))) {
+				out.writeInt(FORMAT_VERSION);
+				out.writeUTF(fArchive);
+				out.writeLong(fSize);
+				out.writeLong(fLastModified);
+				out.writeLong(data.size());
+				out.writeInt(fPackages.length);
+				for (int i = 0; i < fPackages.length; i++) {
+					out.writeUTF(fPackageNames[i]);
+					out.writeUTF(fPackages[i].prefix);
+					out.writeInt(fPackages[i].count);
+					out.writeLong(offsets.get(i).longValue());
+				}
+				data.writeTo(out);
+			}
+			Files.move(tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(tempFile);
+		}
+	}
+}
@@ -13,12 +13,19 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal.provisional.comparator;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.jdt.core.Flags;
 import org.eclipse.pde.api.tools.internal.builder.AbstractProblemDetector;
@@ -99,6 +106,36 @@ public class ApiComparator {
 	 * @throws IllegalArgumentException if one of the two baselines is null
 	 */
 	public static IDelta compare(final IApiBaseline referenceBaseline, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final IProgressMonitor monitor) {
+		return compare(referenceBaseline, baseline, visibilityModifiers, force, 1, monitor);
+	}
+
+	/**
+	 * Returns a delta that corresponds to the difference between the given
+	 * baseline and the reference.
+	 * <p>
+	 * If <code>parallelism</code> is greater than one, the components are
+	 * compared concurrently using up to that many threads. The resulting delta
+	 * is the same as for a sequential comparison, its children are added in
+	 * the order of the components of the reference baseline.
+	 * </p>
+	 *
+	 * @param referenceBaseline the given API baseline which is used as the
+	 *            reference
+	 * @param baseline the given API baseline to compare with
+	 * @param visibilityModifiers the given visibility that triggers what
+	 *            visibility should be used for the comparison
+	 * @param force a flag to force the comparison of nested API components with
+	 *            the same versions
+	 * @param parallelism the maximum number of components compared at the same
+	 *            time, a value less than or equal to one compares them
+	 *            sequentially
+	 * @param monitor the given progress monitor to report progress
+	 *
+	 * @return a delta, an empty delta if no difference is found or null if the
+	 *         delta detection failed
+	 * @throws IllegalArgumentException if one of the two baselines is null
+	 */
+	public static IDelta compare(final IApiBaseline referenceBaseline, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final int parallelism, final IProgressMonitor monitor) {
 		SubMonitor localmonitor = SubMonitor.convert(monitor, 2);
 		if (referenceBaseline == null || baseline == null) {
 			throw new IllegalArgumentException("None of the baselines must be null"); //$NON-NLS-1$
@@ -107,43 +144,65 @@ public class ApiComparator {
 		IApiComponent[] apiComponents2 = baseline.getApiComponents();
 		Set<String> apiComponentsIds = new HashSet<>();
 		final Delta globalDelta = new Delta();
-		SubMonitor apiLoopMonitor = localmonitor.split(1).setWorkRemaining(apiComponents.length);
-		for (IApiComponent apiComponentMainLoop : apiComponents) {
-			apiLoopMonitor.split(1);
-			IApiComponent apiComponent = apiComponentMainLoop;
-			if (!apiComponent.isSystemComponent()) {
-				String id = apiComponent.getSymbolicName();
-				IApiComponent apiComponentBaseline = baseline.getApiComponent(id);
-				IDelta delta = null;
-				if (apiComponentBaseline == null) {
-					// report removal of an API component
-					delta = new Delta(null, IDelta.API_BASELINE_ELEMENT_TYPE, IDelta.REMOVED, IDelta.API_COMPONENT,
-							null, id, id);
-				} else {
-					apiComponentsIds.add(id);
-					String versionString = apiComponent.getVersion();
-					String versionString2 = apiComponentBaseline.getVersion();
-					IDelta bundleVersionChangesDelta = checkBundleVersionChanges(apiComponentBaseline, id,
-							versionString, versionString2);
-					if (bundleVersionChangesDelta != null) {
-						globalDelta.add(bundleVersionChangesDelta);
+		ForkJoinPool pool = parallelism > 1 ? new ForkJoinPool(parallelism) : null;
+		try {
+			List<Future<IDelta>> parallelDeltas = null;
+			if (pool != null) {
+				// workers only forward cancellation, progress is reported
+				// below while collecting the results in order
+				IProgressMonitor workerMonitor = new NullProgressMonitor() {
+					@Override
+					public boolean isCanceled() {
+						return super.isCanceled() || localmonitor.isCanceled();
 					}
-					if (!versionString.equals(versionString2) || force) {
-						long time = System.currentTimeMillis();
-						try {
-							delta = compare(apiComponent, apiComponentBaseline, referenceBaseline, baseline,
-									visibilityModifiers, localmonitor.split(1));
-						} finally {
-							if (ApiPlugin.DEBUG_API_COMPARATOR) {
-								System.out.println("Time spent for " + id + " " + versionString + " : " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-										+ (System.currentTimeMillis() - time) + "ms"); //$NON-NLS-1$
+				};
+				parallelDeltas = new ArrayList<>(apiComponents.length);
+				for (IApiComponent apiComponent : apiComponents) {
+					IApiComponent apiComponentBaseline = getComponentToCompare(apiComponent, baseline, force);
+					parallelDeltas.add(apiComponentBaseline == null ? null
+							: pool.submit(() -> compareComponent(apiComponent, apiComponentBaseline, referenceBaseline,
+									baseline, visibilityModifiers, workerMonitor)));
+				}
+			}
+			SubMonitor apiLoopMonitor = localmonitor.split(1).setWorkRemaining(apiComponents.length);
+			for (int i = 0; i < apiComponents.length; i++) {
+				apiLoopMonitor.split(1);
+				IApiComponent apiComponent = apiComponents[i];
+				if (!apiComponent.isSystemComponent()) {
+					String id = apiComponent.getSymbolicName();
+					IApiComponent apiComponentBaseline = baseline.getApiComponent(id);
+					IDelta delta = null;
+					if (apiComponentBaseline == null) {
+						// report removal of an API component
+						delta = new Delta(null, IDelta.API_BASELINE_ELEMENT_TYPE, IDelta.REMOVED, IDelta.API_COMPONENT,
+								null, id, id);
+					} else {
+						apiComponentsIds.add(id);
+						String versionString = apiComponent.getVersion();
+						String versionString2 = apiComponentBaseline.getVersion();
+						IDelta bundleVersionChangesDelta = checkBundleVersionChanges(apiComponentBaseline, id,
+								versionString, versionString2);
+						if (bundleVersionChangesDelta != null) {
+							globalDelta.add(bundleVersionChangesDelta);
+						}
+						if (parallelDeltas != null) {
+							Future<IDelta> parallelDelta = parallelDeltas.get(i);
+							if (parallelDelta != null) {
+								delta = getDelta(parallelDelta);
 							}
+						} else if (!versionString.equals(versionString2) || force) {
+							delta = compareComponent(apiComponent, apiComponentBaseline, referenceBaseline, baseline,
+									visibilityModifiers, localmonitor.split(1));
 						}
 					}
+					if (delta != null && delta != NO_DELTA) {
+						globalDelta.add(delta);
+					}
 				}
-				if (delta != null && delta != NO_DELTA) {
-					globalDelta.add(delta);
-				}
+			}
+		} finally {
+			if (pool != null) {
+				pool.shutdownNow();
 			}
 		}
 		SubMonitor elementLoopMonitor = localmonitor.split(1).setWorkRemaining(apiComponents2.length);
@@ -162,6 +221,48 @@ public class ApiComparator {
 		return globalDelta.isEmpty() ? NO_DELTA : globalDelta;
 	}
 
+	/**
+	 * Returns the component of the given baseline the given reference component
+	 * has to be compared with, or <code>null</code> if there is nothing to
+	 * compare.
+	 */
+	private static IApiComponent getComponentToCompare(IApiComponent apiComponent, IApiBaseline baseline, boolean force) {
+		if (apiComponent.isSystemComponent()) {
+			return null;
+		}
+		IApiComponent apiComponentBaseline = baseline.getApiComponent(apiComponent.getSymbolicName());
+		if (apiComponentBaseline == null || (!force && apiComponent.getVersion().equals(apiComponentBaseline.getVersion()))) {
+			return null;
+		}
+		return apiComponentBaseline;
+	}
+
+	private static IDelta compareComponent(IApiComponent apiComponent, IApiComponent apiComponentBaseline, IApiBaseline referenceBaseline, IApiBaseline baseline, int visibilityModifiers, IProgressMonitor monitor) {
+		long time = System.currentTimeMillis();
+		try {
+			return compare(apiComponent, apiComponentBaseline, referenceBaseline, baseline, visibilityModifiers, monitor);
+		} finally {
+			if (ApiPlugin.DEBUG_API_COMPARATOR) {
+				System.out.println("Time spent for " + apiComponent.getSymbolicName() + " " + apiComponent.getVersion() + " : " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+						+ (System.currentTimeMillis() - time) + "ms"); //$NON-NLS-1$
+			}
+		}
+	}
+
+	static IDelta getDelta(Future<IDelta> delta) {
+		try {
+			return delta.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
 	/**
 	 * Returns a delta that corresponds to the difference between the given
 	 * component and the reference baseline.
@@ -529,6 +630,40 @@ public class ApiComparator {
 	 *             visited
 	 */
 	public static IDelta compare(final IApiScope scope, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final boolean continueOnResolverError, final IProgressMonitor monitor) throws CoreException {
+		return compare(scope, baseline, visibilityModifiers, force, continueOnResolverError, 1, monitor);
+	}
+
+	/**
+	 * Returns a delta that corresponds to the comparison of the given scope
+	 * with the given baseline.
+	 * <p>
+	 * If <code>parallelism</code> is greater than one, the components
+	 * contained in the scope, and the components of baselines contained in the
+	 * scope, are compared concurrently using up to that many threads, see
+	 * {@link #compare(IApiBaseline, IApiBaseline, int, boolean, int, IProgressMonitor)}.
+	 * </p>
+	 *
+	 * @param scope the given scope for the comparison
+	 * @param baseline the given API baseline to compare with
+	 * @param visibilityModifiers the given visibility that triggers what
+	 *            visibility should be used for the comparison
+	 * @param force a flag to force the comparison of nested API components with
+	 *            the same versions
+	 * @param continueOnResolverError if <code>true</code> the comparison will
+	 *            continue even if a component in the scope has a resolver error
+	 * @param parallelism the maximum number of components compared at the same
+	 *            time, a value less than or equal to one compares them
+	 *            sequentially
+	 * @param monitor the given progress monitor to report progress
+	 *
+	 * @return a delta, an empty delta if no difference is found or null if the
+	 *         delta detection failed. If set to continue on resolver error a
+	 *         delta, possibly empty, will always be returned
+	 * @throws IllegalArgumentException if one of the two baselines is null
+	 *             CoreException if one of the element in the scope cannot be
+	 *             visited
+	 */
+	public static IDelta compare(final IApiScope scope, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final boolean continueOnResolverError, final int parallelism, final IProgressMonitor monitor) throws CoreException {
 
 		if (scope == null || baseline == null) {
 			throw new IllegalArgumentException("None of the scope or the baseline must be null"); //$NON-NLS-1$
@@ -537,7 +672,13 @@ public class ApiComparator {
 		final Set<IDelta> deltas = new HashSet<>();
 		final CompareApiScopeVisitor visitor = new CompareApiScopeVisitor(deltas, baseline, force, visibilityModifiers,
 				continueOnResolverError, localmonitor.split(1));
-		scope.accept(visitor);
+		visitor.setParallelism(parallelism);
+		try {
+			scope.accept(visitor);
+			visitor.joinComponentComparisons();
+		} finally {
+			visitor.shutdown();
+		}
 
 		// If set to continue on error, return whatever deltas were
 		// collected
@@ -13,7 +13,11 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal.provisional.comparator;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.SubMonitor;
@@ -39,6 +43,9 @@ public class CompareApiScopeVisitor extends ApiScopeVisitor {
 	boolean force;
 	boolean continueOnResolverError = false;
 	boolean containsErrors = false;
+	int parallelism = 1;
+	ForkJoinPool pool;
+	List<Future<IDelta>> componentDeltas = new ArrayList<>();
 	SubMonitor monitor;
 
 	public CompareApiScopeVisitor(final Set<IDelta> deltas, final IApiBaseline baseline, final boolean force, final int visibilityModifiers, final boolean continueOnResolverError, final SubMonitor monitor) {
@@ -50,10 +57,23 @@ public class CompareApiScopeVisitor extends ApiScopeVisitor {
 		this.monitor = monitor;
 	}
 
+	/**
+	 * Sets the maximum number of components that are compared at the same
+	 * time. This applies to the components of a visited baseline as well as
+	 * to visited components, whose deltas are only added once
+	 * {@link #joinComponentComparisons()} returns.
+	 *
+	 * @param parallelism the number of threads, a value less than or equal to
+	 *            one compares the components sequentially
+	 */
+	public void setParallelism(int parallelism) {
+		this.parallelism = parallelism;
+	}
+
 	@Override
 	public boolean visit(IApiBaseline baseline) throws CoreException {
 		this.monitor.setWorkRemaining(100).split(1);
-		IDelta delta = ApiComparator.compare(this.referenceBaseline, baseline, this.visibilityModifiers, this.force, null);
+		IDelta delta = ApiComparator.compare(this.referenceBaseline, baseline, this.visibilityModifiers, this.force, this.parallelism, null);
 		if (delta != null) {
 			delta.accept(new DeltaVisitor() {
 				@Override
@@ -109,6 +129,18 @@ public class CompareApiScopeVisitor extends ApiScopeVisitor {
 		}
 
 		subMonitor.split(50);
+		if (this.parallelism > 1) {
+			if (this.pool == null) {
+				this.pool = new ForkJoinPool(this.parallelism);
+			}
+			this.componentDeltas.add(this.pool.submit(() -> compareComponent(referenceComponent, component)));
+		} else {
+			addLeaves(compareComponent(referenceComponent, component));
+		}
+		return false;
+	}
+
+	private IDelta compareComponent(IApiComponent referenceComponent, IApiComponent component) {
 		final Delta globalDelta = new Delta();
 		globalDelta.add(ApiComparator.compare(referenceComponent, component, this.visibilityModifiers, null));
 		if (referenceComponent != null) {
@@ -119,7 +151,11 @@ public class CompareApiScopeVisitor extends ApiScopeVisitor {
 				globalDelta.add(bundleVersionChangesDelta);
 			}
 		}
-		globalDelta.accept(new DeltaVisitor() {
+		return globalDelta;
+	}
+
+	private void addLeaves(IDelta delta) {
+		delta.accept(new DeltaVisitor() {
 			@Override
 			public void endVisit(IDelta localDelta) {
 				if (localDelta.getChildren().length == 0) {
@@ -127,7 +163,32 @@ public class CompareApiScopeVisitor extends ApiScopeVisitor {
 				}
 			}
 		});
-		return false;
+	}
+
+	/**
+	 * Waits for the comparisons of visited components that run concurrently
+	 * and adds their deltas. Does nothing if the components were compared
+	 * sequentially.
+	 */
+	void joinComponentComparisons() {
+		try {
+			for (Future<IDelta> delta : this.componentDeltas) {
+				addLeaves(ApiComparator.getDelta(delta));
+			}
+		} finally {
+			shutdown();
+		}
+	}
+
+	/**
+	 * Stops the comparisons of visited components that are still running.
+	 */
+	void shutdown() {
+		this.componentDeltas.clear();
+		if (this.pool != null) {
+			this.pool.shutdownNow();
+			this.pool = null;
+		}
 	}
 
 	@Override
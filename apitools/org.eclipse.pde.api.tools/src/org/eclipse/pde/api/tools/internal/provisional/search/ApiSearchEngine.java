@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2015 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,14 +18,19 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.pde.api.tools.internal.AntFilterStore;
+import org.eclipse.pde.api.tools.internal.builder.ReferenceAnalyzer;
 import org.eclipse.pde.api.tools.internal.builder.ReferenceResolver;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.builder.IReference;
@@ -54,6 +59,13 @@ public final class ApiSearchEngine {
 
 	/**
 	 * Visitor used to extract references from the component is is passed to
+	 * <p>
+	 * If a thread pool is used, the accepted types of a package are collected
+	 * and their references are extracted and resolved concurrently when the
+	 * end of the package is reached. The resolved references are then passed
+	 * to the requestor and reported sequentially, in the order the types were
+	 * visited.
+	 * </p>
 	 */
 	class ReferenceExtractor extends ApiTypeContainerVisitor {
 		static final int COLLECTOR_MAX = 2500;
@@ -62,16 +74,23 @@ public final class ApiSearchEngine {
 		private IApiSearchReporter reporter = null;
 		IApiElement element = null;
 		private SubMonitor monitor = null;
+		private ForkJoinPool pool = null;
+		private final List<IApiType> pending = new ArrayList<>();
 
 		/**
 		 * Constructor
 		 */
 		public ReferenceExtractor(IApiSearchRequestor requestor, IApiSearchReporter reporter, IApiElement element, IProgressMonitor monitor) {
+			this(requestor, reporter, element, monitor, null);
+		}
+
+		ReferenceExtractor(IApiSearchRequestor requestor, IApiSearchReporter reporter, IApiElement element, IProgressMonitor monitor, ForkJoinPool pool) {
 			collector = new ArrayList<>();
 			this.requestor = requestor;
 			this.reporter = reporter;
 			this.element = element;
 			this.monitor = SubMonitor.convert(monitor);
+			this.pool = pool;
 		}
 
 		@Override
@@ -89,6 +108,10 @@ public final class ApiSearchEngine {
 				if (type == null || !requestor.acceptMember(type)) {
 					return;
 				}
+				if (pool != null) {
+					pending.add(type);
+					return;
+				}
 				collector.addAll(acceptReferences(requestor, type, getResolvedReferences(requestor, type, monitor.split(1)), monitor.split(1)));
 			} catch (CoreException ce) {
 				ApiPlugin.log(ce);
@@ -97,7 +120,7 @@ public final class ApiSearchEngine {
 
 		@Override
 		public void end(String packageName, IApiTypeRoot typeroot) {
-			if (this.collector.size() >= COLLECTOR_MAX) {
+			if (pool == null && this.collector.size() >= COLLECTOR_MAX) {
 				reportResults();
 			}
 		}
@@ -109,9 +132,64 @@ public final class ApiSearchEngine {
 
 		@Override
 		public void endVisitPackage(String packageName) {
+			flush();
 			reportResults();
 		}
 
+		/**
+		 * Extracts and resolves the references of all types collected since
+		 * the last flush concurrently and accepts them in the order the types
+		 * were visited.
+		 */
+		void flush() {
+			if (pending.isEmpty()) {
+				return;
+			}
+			try {
+				List<Future<List<IReference>>> resolved = new ArrayList<>(pending.size());
+				for (IApiType type : pending) {
+					resolved.add(pool.submit(() -> {
+						if (monitor.isCanceled()) {
+							return Collections.emptyList();
+						}
+						try {
+							return getResolvedReferences(requestor, type, null);
+						} catch (CoreException ce) {
+							ApiPlugin.log(ce);
+							return null;
+						}
+					}));
+				}
+				for (int i = 0; i < resolved.size(); i++) {
+					List<IReference> references = getReferences(resolved.get(i));
+					monitor.split(1);
+					if (references == null) {
+						continue;
+					}
+					collector.addAll(acceptReferences(requestor, pending.get(i), references, monitor.split(1)));
+					if (this.collector.size() >= COLLECTOR_MAX) {
+						reportResults();
+					}
+				}
+			} finally {
+				pending.clear();
+			}
+		}
+
+		private List<IReference> getReferences(Future<List<IReference>> references) {
+			try {
+				return references.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new OperationCanceledException();
+			} catch (ExecutionException e) {
+				if (e.getCause() instanceof RuntimeException runtimeException) {
+					throw runtimeException;
+				}
+				throw new IllegalStateException(e.getCause());
+			}
+		}
+
 		private void reportResults() {
 			reporter.reportResults(this.element, collector.toArray(new IReference[collector.size()]));
 			collector.clear();
@@ -123,6 +201,23 @@ public final class ApiSearchEngine {
 	 */
 	private String fRequestorContext = null;
 
+	/**
+	 * Maximum number of threads used to extract and resolve the references of
+	 * a component
+	 */
+	private int fParallelism = ReferenceAnalyzer.getDefaultParallelism();
+
+	/**
+	 * Sets the maximum number of threads used to extract and resolve the
+	 * references of a component. The reported references do not depend on
+	 * this value, a value of one or less searches sequentially.
+	 *
+	 * @param parallelism the maximum number of threads
+	 */
+	public void setParallelism(int parallelism) {
+		fParallelism = parallelism;
+	}
+
 	/**
 	 * Returns the set of resolved references for the given {@link IApiType}
 	 *
@@ -193,11 +288,19 @@ public final class ApiSearchEngine {
 				if (localmonitor.isCanceled()) {
 					reporter.reportResults(element, NO_REFERENCES);
 				}
-				ReferenceExtractor visitor = new ReferenceExtractor(requestor, reporter, element,
-						localmonitor.split(1));
-				IApiComponent comp = (IApiComponent) element;
-				comp.accept(visitor);
-				comp.close();
+				ForkJoinPool pool = fParallelism > 1 ? new ForkJoinPool(fParallelism) : null;
+				try {
+					ReferenceExtractor visitor = new ReferenceExtractor(requestor, reporter, element,
+							localmonitor.split(1), pool);
+					IApiComponent comp = (IApiComponent) element;
+					comp.accept(visitor);
+					visitor.flush();
+					comp.close();
+				} finally {
+					if (pool != null) {
+						pool.shutdownNow();
+					}
+				}
 				localmonitor.split(1);
 				break;
 			}
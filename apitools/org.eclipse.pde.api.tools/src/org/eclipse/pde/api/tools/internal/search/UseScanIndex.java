@@ -0,0 +1,489 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.search;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.Factory;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IComponentDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IFieldDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMemberDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMethodDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IReferenceTypeDescriptor;
+
+/**
+ * Random access index of the references of an API use scan, persisted in the
+ * API tools state location.
+ * <p>
+ * The index is built by parsing the XML reports of the scan once. References
+ * are stored in blocks per referenced component, referencing component and
+ * referenced root type. Only the table of blocks is kept in memory, so a
+ * lookup for a component and some types reads just the matching blocks from
+ * disk instead of parsing the whole scan again.
+ * </p>
+ * <p>
+ * There is one index file per configured scan location, which is replaced
+ * when the scan changes and deleted by the {@link UseScanManager} when the
+ * location is removed from the preferences.
+ * </p>
+ */
+final class UseScanIndex {
+
+	private static final String INDEX_FOLDER = "use_scan_index"; //$NON-NLS-1$
+
+	private static final String INDEX_FILE_EXTENSION = ".index"; //$NON-NLS-1$
+
+	private static final int MAGIC = 0x41505553;
+
+	/** Must be incremented whenever the binary format changes */
+	private static final int FORMAT_VERSION = 1;
+
+	/**
+	 * Location of a block of references in the index file.
+	 */
+	private record Block(long offset, int count) {
+	}
+
+	private final Path fIndexFile;
+
+	/**
+	 * The XML directory of the indexed scan
+	 */
+	private final Path fRoot;
+
+	/**
+	 * The stamp of the scan when it was indexed
+	 */
+	private final long fStamp;
+
+	/**
+	 * Blocks by referenced component id and referenced root type name
+	 */
+	private final Map<String, Map<String, List<Block>>> fBlocks;
+
+	private UseScanIndex(Path indexFile, Path root, long stamp, Map<String, Map<String, List<Block>>> blocks) {
+		fIndexFile = indexFile;
+		fRoot = root;
+		fStamp = stamp;
+		fBlocks = blocks;
+	}
+
+	/**
+	 * Returns the index of the use scan at the given location, building it if
+	 * there is no up to date index yet. Returns <code>null</code> if indexes
+	 * are not persisted since API tools is not running in the framework.
+	 *
+	 * @param scanLocation the location of the use scan as configured, a
+	 *            directory or an archive
+	 * @param xmlLocation the XML directory of the use scan
+	 * @param monitor progress monitor used when the index has to be built
+	 * @return the index or <code>null</code>
+	 * @throws Exception if the use scan could not be parsed
+	 */
+	static UseScanIndex load(String scanLocation, String xmlLocation, IProgressMonitor monitor) throws Exception {
+		Path indexFile = getIndexFile(scanLocation);
+		if (indexFile == null) {
+			return null;
+		}
+		Path root = Path.of(xmlLocation);
+		long stamp = computeStamp(root);
+		try {
+			UseScanIndex index = read(indexFile, xmlLocation, stamp);
+			if (index != null) {
+				return index;
+			}
+		} catch (NoSuchFileException e) {
+			// not indexed yet
+		} catch (IOException e) {
+			ApiPlugin.log("Failed to read API use scan index: " + indexFile, e); //$NON-NLS-1$
+		}
+		long start = System.currentTimeMillis();
+		build(xmlLocation, stamp, indexFile, monitor);
+		if (ApiPlugin.DEBUG_SEARCH_ENGINE) {
+			System.out.println("Time to index API use scan " + xmlLocation + ": " + (System.currentTimeMillis() - start) + "ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+		UseScanIndex index = read(indexFile, xmlLocation, stamp);
+		if (index == null) {
+			throw new IOException("Invalid API use scan index: " + indexFile); //$NON-NLS-1$
+		}
+		return index;
+	}
+
+	/**
+	 * Deletes the index of the use scan at the given location, if any.
+	 *
+	 * @param scanLocation the location of the use scan as configured
+	 */
+	static void delete(String scanLocation) {
+		Path indexFile = getIndexFile(scanLocation);
+		if (indexFile != null) {
+			try {
+				Files.deleteIfExists(indexFile);
+			} catch (IOException e) {
+				ApiPlugin.log("Failed to delete API use scan index: " + indexFile, e); //$NON-NLS-1$
+			}
+		}
+	}
+
+	/**
+	 * Returns the file the index of the use scan at the given location is
+	 * persisted in or <code>null</code> if indexes are not persisted.
+	 */
+	private static Path getIndexFile(String scanLocation) {
+		if (!ApiPlugin.isRunningInFramework()) {
+			return null;
+		}
+		Path location = Path.of(scanLocation);
+		String name = location.getFileName() != null ? location.getFileName().toString() : ""; //$NON-NLS-1$
+		return ApiPlugin.getDefault().getStateLocation().append(INDEX_FOLDER).toPath()
+				.resolve(name + "_" + Integer.toHexString(scanLocation.hashCode()) + INDEX_FILE_EXTENSION); //$NON-NLS-1$
+	}
+
+	/**
+	 * Returns whether no report of the scan was added, removed or modified
+	 * since it was indexed, for example because the scan was generated again
+	 * at the same location.
+	 */
+	boolean isUpToDate() {
+		try {
+			return computeStamp(fRoot) == fStamp;
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Adds the references to the given component to the given collection.
+	 *
+	 * @param componentId symbolic name of the referenced component
+	 * @param types referenced root types to add the references to, or
+	 *            <code>null</code> to add all references to the component
+	 * @param references the collection to add the references to
+	 */
+	void collect(String componentId, String[] types, IReferenceCollection references) throws IOException {
+		Map<String, List<Block>> byType = fBlocks.get(componentId);
+		if (byType == null) {
+			return;
+		}
+		List<String> typeNames = types == null ? new ArrayList<>(byType.keySet()) : List.of(types);
+		try (FileChannel channel = FileChannel.open(fIndexFile, StandardOpenOption.READ)) {
+			for (String type : typeNames) {
+				List<Block> blocks = byType.get(type);
+				if (blocks == null) {
+					continue;
+				}
+				for (Block block : blocks) {
+					channel.position(block.offset());
+					DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+					IComponentDescriptor target = readComponent(in);
+					IComponentDescriptor referencing = readComponent(in);
+					for (int i = 0; i < block.count(); i++) {
+						IMemberDescriptor origin = readMember(in);
+						int line = in.readInt();
+						IMemberDescriptor targetMember = readMember(in);
+						int kind = in.readInt();
+						int flags = in.readInt();
+						int visibility = in.readInt();
+						references.add(type, new ReferenceDescriptor(referencing, origin, line, target, targetMember, kind,
+								flags, visibility, null));
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the name of the top level type of the given member, references
+	 * are collected by it.
+	 */
+	static String getRootTypeName(IMemberDescriptor member) {
+		String name;
+		if (member instanceof IReferenceTypeDescriptor type) {
+			name = type.getQualifiedName();
+		} else {
+			name = member.getEnclosingType().getQualifiedName();
+		}
+		int index = name.indexOf('$');
+		return index > -1 ? name.substring(0, index) : name;
+	}
+
+	/**
+	 * Computes a stamp that changes whenever a report of the scan is added,
+	 * removed or modified. The per file values are summed up so the stamp does
+	 * not depend on the order the file system lists the reports in.
+	 */
+	private static long computeStamp(Path root) throws IOException {
+		long[] stamp = new long[1];
+		try (Stream<Path> walk = Files.walk(root)) {
+			walk.filter(Files::isRegularFile).forEach(file -> {
+				long hash = root.relativize(file).toString().hashCode();
+				try {
+					hash = 31 * hash + Files.size(file);
+					hash = 31 * hash + Files.getLastModifiedTime(file).toMillis();
+				} catch (IOException e) {
+					hash = 31 * hash - 1;
+				}
+				stamp[0] += hash;
+			});
+		}
+		return stamp[0];
+	}
+
+	/*
+	 * Index file format:
+	 *
+	 * header: int magic, int version, string location, long stamp, long table offset
+	 * blocks: component target, component referencing,
+	 *         (member origin, int line, member target, int kind, int flags, int visibility)*
+	 * table: int component count, (string id, int type count, (string type, int block count, (long offset, int count)*)*)*
+	 */
+
+	private static UseScanIndex read(Path indexFile, String xmlLocation, long stamp) throws IOException {
+		try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+			DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+			if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION || !xmlLocation.equals(in.readUTF())
+					|| in.readLong() != stamp) {
+				return null;
+			}
+			long tableOffset = in.readLong();
+			if (tableOffset <= 0 || tableOffset >= channel.size()) {
+				return null;
+			}
+			channel.position(tableOffset);
+			in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+			int componentCount = in.readInt();
+			Map<String, Map<String, List<Block>>> blocks = new HashMap<>(componentCount * 4 / 3 + 1);
+			for (int i = 0; i < componentCount; i++) {
+				String id = in.readUTF();
+				int typeCount = in.readInt();
+				Map<String, List<Block>> byType = new HashMap<>(typeCount * 4 / 3 + 1);
+				for (int j = 0; j < typeCount; j++) {
+					String type = in.readUTF();
+					int blockCount = in.readInt();
+					List<Block> list = new ArrayList<>(blockCount);
+					for (int k = 0; k < blockCount; k++) {
+						list.add(new Block(in.readLong(), in.readInt()));
+					}
+					byType.put(type, list);
+				}
+				blocks.put(id, byType);
+			}
+			return new UseScanIndex(indexFile, Path.of(xmlLocation), stamp, blocks);
+		}
+	}
+
+	/**
+	 * Parses the given use scan and writes its index.
+	 */
+	private static void build(String xmlLocation, long stamp, Path indexFile, IProgressMonitor monitor) throws Exception {
+		Files.createDirectories(indexFile.getParent());
+		Path tempFile = Files.createTempFile(indexFile.getParent(), indexFile.getFileName().toString(), null);
+		try {
+			try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+				ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+				DataOutputStream header = new DataOutputStream(bytes);
+				header.writeInt(MAGIC);
+				header.writeInt(FORMAT_VERSION);
+				header.writeUTF(xmlLocation);
+				header.writeLong(stamp);
+				int tableOffsetPosition = header.size();
+				header.writeLong(0);
+				header.flush();
+				write(channel, bytes);
+
+				IndexWriter writer = new IndexWriter(channel);
+				new UseScanParser().parse(xmlLocation, monitor, writer);
+				writer.checkError();
+
+				long tableOffset = channel.position();
+				DataOutputStream table = new DataOutputStream(bytes);
+				table.writeInt(writer.blocks.size());
+				for (Map.Entry<String, Map<String, List<Block>>> component : writer.blocks.entrySet()) {
+					table.writeUTF(component.getKey());
+					table.writeInt(component.getValue().size());
+					for (Map.Entry<String, List<Block>> type : component.getValue().entrySet()) {
+						table.writeUTF(type.getKey());
+						table.writeInt(type.getValue().size());
+						for (Block block : type.getValue()) {
+							table.writeLong(block.offset());
+							table.writeInt(block.count());
+						}
+					}
+				}
+				table.flush();
+				write(channel, bytes);
+				channel.write(ByteBuffer.allocate(Long.BYTES).putLong(0, tableOffset), tableOffsetPosition);
+			}
+			Files.move(tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING);
+		} finally {
+			Files.deleteIfExists(tempFile);
+		}
+	}
+
+	private static void write(FileChannel channel, ByteArrayOutputStream bytes) throws IOException {
+		ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+		bytes.reset();
+	}
+
+	/**
+	 * Visitor writing the references of each referencing component as blocks
+	 * grouped by referenced root type, so only the references of one
+	 * referencing component are held in memory while building the index.
+	 */
+	private static final class IndexWriter extends UseScanVisitor {
+
+		final Map<String, Map<String, List<Block>>> blocks = new TreeMap<>();
+
+		private final FileChannel fChannel;
+		private final ByteArrayOutputStream fBytes = new ByteArrayOutputStream();
+		private final Map<String, List<IReferenceDescriptor>> fPending = new TreeMap<>();
+		private IComponentDescriptor fTarget;
+		private IComponentDescriptor fReferencing;
+		private String fRootType;
+		private IOException fError;
+
+		IndexWriter(FileChannel channel) {
+			fChannel = channel;
+		}
+
+		@Override
+		public boolean visitComponent(IComponentDescriptor target) {
+			fTarget = target;
+			return true;
+		}
+
+		@Override
+		public boolean visitReferencingComponent(IComponentDescriptor component) {
+			fReferencing = component;
+			return true;
+		}
+
+		@Override
+		public boolean visitMember(IMemberDescriptor referencedMember) {
+			fRootType = getRootTypeName(referencedMember);
+			return true;
+		}
+
+		@Override
+		public void visitReference(IReferenceDescriptor reference) {
+			fPending.computeIfAbsent(fRootType, t -> new ArrayList<>()).add(reference);
+		}
+
+		@Override
+		public void endVisitReferencingComponent(IComponentDescriptor component) {
+			if (fError != null || fPending.isEmpty()) {
+				fPending.clear();
+				return;
+			}
+			try {
+				Map<String, List<Block>> byType = blocks.computeIfAbsent(fTarget.getId(), id -> new TreeMap<>());
+				for (Map.Entry<String, List<IReferenceDescriptor>> entry : fPending.entrySet()) {
+					long offset = fChannel.position();
+					DataOutputStream out = new DataOutputStream(fBytes);
+					writeComponent(out, fTarget);
+					writeComponent(out, fReferencing);
+					for (IReferenceDescriptor reference : entry.getValue()) {
+						writeMember(out, reference.getMember());
+						out.writeInt(reference.getLineNumber());
+						writeMember(out, reference.getReferencedMember());
+						out.writeInt(reference.getReferenceKind());
+						out.writeInt(reference.getReferenceFlags());
+						out.writeInt(reference.getVisibility());
+					}
+					out.flush();
+					write(fChannel, fBytes);
+					byType.computeIfAbsent(entry.getKey(), t -> new ArrayList<>())
+							.add(new Block(offset, entry.getValue().size()));
+				}
+			} catch (IOException e) {
+				fError = e;
+			}
+			fPending.clear();
+		}
+
+		void checkError() throws IOException {
+			if (fError != null) {
+				throw fError;
+			}
+		}
+	}
+
+	private static void writeComponent(DataOutputStream out, IComponentDescriptor component) throws IOException {
+		out.writeUTF(component.getId());
+		String version = component.getVersion();
+		out.writeBoolean(version != null);
+		if (version != null) {
+			out.writeUTF(version);
+		}
+	}
+
+	private static IComponentDescriptor readComponent(DataInputStream in) throws IOException {
+		String id = in.readUTF();
+		String version = in.readBoolean() ? in.readUTF() : null;
+		return Factory.componentDescriptor(id, version);
+	}
+
+	private static void writeMember(DataOutputStream out, IMemberDescriptor member) throws IOException {
+		out.writeByte(member.getElementType());
+		switch (member.getElementType()) {
+			case IElementDescriptor.TYPE -> out.writeUTF(((IReferenceTypeDescriptor) member).getQualifiedName());
+			case IElementDescriptor.METHOD -> {
+				IMethodDescriptor method = (IMethodDescriptor) member;
+				out.writeUTF(method.getEnclosingType().getQualifiedName());
+				out.writeUTF(method.getName());
+				out.writeUTF(method.getSignature());
+			}
+			case IElementDescriptor.FIELD -> {
+				IFieldDescriptor field = (IFieldDescriptor) member;
+				out.writeUTF(field.getEnclosingType().getQualifiedName());
+				out.writeUTF(field.getName());
+			}
+			default -> throw new IOException("Unexpected member " + member); //$NON-NLS-1$
+		}
+	}
+
+	private static IMemberDescriptor readMember(DataInputStream in) throws IOException {
+		int type = in.readByte();
+		return switch (type) {
+			case IElementDescriptor.TYPE -> Factory.typeDescriptor(in.readUTF());
+			case IElementDescriptor.METHOD -> Factory.methodDescriptor(in.readUTF(), in.readUTF(), in.readUTF());
+			case IElementDescriptor.FIELD -> Factory.fieldDescriptor(in.readUTF(), in.readUTF());
+			default -> throw new IOException("Corrupt API use scan index, element type " + type); //$NON-NLS-1$
+		};
+	}
+}
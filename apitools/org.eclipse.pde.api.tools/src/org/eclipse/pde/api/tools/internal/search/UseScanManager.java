@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2013 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,8 +17,12 @@ import java.io.File;
 import java.io.FileFilter;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.jar.JarFile;
 import java.util.regex.Pattern;
 import java.util.zip.ZipEntry;
@@ -28,6 +32,7 @@ import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences.PreferenceChangeEvent;
 import org.eclipse.core.runtime.preferences.InstanceScope;
 import org.eclipse.core.variables.IStringVariableManager;
 import org.eclipse.core.variables.VariablesPlugin;
@@ -89,6 +94,12 @@ public class UseScanManager {
 
 	private String[] fLocations = null;
 
+	/**
+	 * Indexes of the use scans by their XML location, built or loaded on first
+	 * use and kept until the cache is cleared or a scan is removed
+	 */
+	private final Map<String, UseScanIndex> fIndexes = new ConcurrentHashMap<>();
+
 	/**
 	 * {@link FileFilter} for finding use scan directories
 	 */
@@ -112,6 +123,10 @@ public class UseScanManager {
 		if (fUseScanProcessor == null) {
 			fUseScanProcessor = new UseScanManager();
 			fApiComponentCache = new UseScanCache(DEFAULT_CACHE_SIZE);
+			if (ApiPlugin.isRunningInFramework()) {
+				InstanceScope.INSTANCE.getNode(ApiPlugin.PLUGIN_ID)
+						.addPreferenceChangeListener(fUseScanProcessor::preferenceChange);
+			}
 		}
 		return fUseScanProcessor;
 	}
@@ -173,6 +188,7 @@ public class UseScanManager {
 				localmonitor.setWorkRemaining(locations.length);
 				for (int i = 0; i < locations.length; i++) {
 					SubMonitor iterationMonitor = localmonitor.split(1);
+					String scanLocation = locations[i];
 					File file = new File(locations[i]);
 					if (!file.exists()) {
 						continue;
@@ -211,7 +227,12 @@ public class UseScanManager {
 							}
 							throw new Exception(message);
 						}
-						parser.parse(locations[i], iterationMonitor, visitor);
+						UseScanIndex index = getIndex(scanLocation, locations[i], iterationMonitor);
+						if (index != null) {
+							index.collect(apiComponent.getSymbolicName(), types, references);
+						} else {
+							parser.parse(locations[i], iterationMonitor, visitor);
+						}
 					} catch (Exception e) {
 						ApiPlugin.log(e); // log the exception and continue with
 											// next location
@@ -229,6 +250,25 @@ public class UseScanManager {
 		}
 	}
 
+	/**
+	 * Returns the index of the use scan at the given XML location or
+	 * <code>null</code> if the scan has to be parsed, see
+	 * {@link UseScanIndex#load(String, String, IProgressMonitor)}. The index is
+	 * loaded again if the scan changed since it was indexed.
+	 */
+	private UseScanIndex getIndex(String scanLocation, String xmlLocation, IProgressMonitor monitor) throws Exception {
+		UseScanIndex index = fIndexes.get(xmlLocation);
+		if (index == null || !index.isUpToDate()) {
+			index = UseScanIndex.load(scanLocation, xmlLocation, monitor);
+			if (index != null) {
+				fIndexes.put(xmlLocation, index);
+			} else {
+				fIndexes.remove(xmlLocation);
+			}
+		}
+		return index;
+	}
+
 	/**
 	 * Returns the scan
 	 */
@@ -342,19 +382,49 @@ public class UseScanManager {
 	public String[] getReportLocations() {
 		IEclipsePreferences node = InstanceScope.INSTANCE.getNode(ApiPlugin.PLUGIN_ID);
 		String apiUseScanPaths = node.get(IApiCoreConstants.API_USE_SCAN_LOCATION, null);
+		List<String> locationList = getLocations(apiUseScanPaths, true);
+		return locationList.toArray(new String[locationList.size()]);
+	}
+
+	/**
+	 * Returns the locations stored in the given preference value.
+	 *
+	 * @param apiUseScanPaths the value of the use scan location preference,
+	 *            may be <code>null</code>
+	 * @param checkedOnly whether to only return the locations that are used
+	 */
+	private static List<String> getLocations(String apiUseScanPaths, boolean checkedOnly) {
 		if (apiUseScanPaths == null || apiUseScanPaths.length() == 0) {
-			return new String[0];
+			return new ArrayList<>(0);
 		}
 
 		String[] locations = apiUseScanPaths.split(ESCAPE_REGEX + LOCATION_DELIM);
 		List<String> locationList = new ArrayList<>(locations.length);
 		for (String location : locations) {
 			String[] values = location.split(ESCAPE_REGEX + STATE_DELIM);
-			if (Boolean.parseBoolean(values[1])) {
+			if (!checkedOnly || Boolean.parseBoolean(values[1])) {
 				locationList.add(values[0]);
 			}
 		}
-		return locationList.toArray(new String[locationList.size()]);
+		return locationList;
+	}
+
+	/**
+	 * Deletes the indexes of the use scans removed from the preferences and
+	 * purges the references read from them.
+	 */
+	private void preferenceChange(PreferenceChangeEvent event) {
+		if (!IApiCoreConstants.API_USE_SCAN_LOCATION.equals(event.getKey())) {
+			return;
+		}
+		Set<String> removed = new HashSet<>(getLocations((String) event.getOldValue(), false));
+		removed.removeAll(getLocations((String) event.getNewValue(), false));
+		if (!removed.isEmpty()) {
+			clearCache();
+			for (String location : removed) {
+				UseScanIndex.delete(location);
+			}
+		}
 	}
 
 	/**
@@ -384,5 +454,6 @@ public class UseScanManager {
 			reference.clear();
 		}
 		fApiComponentCache.flush();
+		fIndexes.clear();
 	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2013 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,7 +18,6 @@ import java.util.List;
 
 import org.eclipse.pde.api.tools.internal.provisional.descriptors.IComponentDescriptor;
 import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMemberDescriptor;
-import org.eclipse.pde.api.tools.internal.provisional.descriptors.IReferenceTypeDescriptor;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
 
 /**
@@ -57,15 +56,7 @@ public class UseScanReferenceVisitor extends UseScanVisitor {
 	// Visit only for the specific types, if supplied.
 	@Override
 	public boolean visitMember(IMemberDescriptor referencedMember) {
-		String referencedMemberRootType;
-		if (referencedMember instanceof IReferenceTypeDescriptor) {
-			referencedMemberRootType = ((IReferenceTypeDescriptor) referencedMember).getQualifiedName();
-		} else {
-			referencedMemberRootType = referencedMember.getEnclosingType().getQualifiedName();
-		}
-		if (referencedMemberRootType.indexOf('$') > -1) {
-			referencedMemberRootType = referencedMemberRootType.substring(0, referencedMemberRootType.indexOf('$'));
-		}
+		String referencedMemberRootType = UseScanIndex.getRootTypeName(referencedMember);
 		boolean found = fLookupMemberTypes == null || fLookupMemberTypes.contains(referencedMemberRootType);
 		fCurrentReferencedMemberRootType = referencedMemberRootType;
 		fCurrentReferencedMember = referencedMember;
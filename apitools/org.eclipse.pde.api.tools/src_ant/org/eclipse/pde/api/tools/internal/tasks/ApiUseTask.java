@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2013 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -118,6 +118,12 @@ public final class ApiUseTask extends CommonUtilsTask {
 	 */
 	private String filters = null;
 
+	/**
+	 * Maximum number of threads used to search the references of a component,
+	 * <code>0</code> if not set
+	 */
+	private int parallelism = 0;
+
 	/**
 	 * Set the location of the current product you want to search.
 	 *
@@ -302,6 +308,9 @@ public final class ApiUseTask extends CommonUtilsTask {
 			TreeSet<IApiComponent> scope = new TreeSet<>(Util.componentsorter);
 			getContext(baseline, ids, scope);
 			ApiSearchEngine engine = new ApiSearchEngine();
+			if (this.parallelism > 0) {
+				engine.setParallelism(this.parallelism);
+			}
 			UseSearchRequestor requestor = new UseSearchRequestor(ids, scope.toArray(new IApiElement[scope.size()]), getSearchFlags());
 			requestor.setJarPatterns(archivePatterns);
 			requestor.setFilterRoot(filters);
@@ -510,6 +519,9 @@ public final class ApiUseTask extends CommonUtilsTask {
 			} else {
 				System.out.println("No API filter location"); //$NON-NLS-1$
 			}
+			if (this.parallelism > 0) {
+				System.out.println("Parallelism : " + this.parallelism); //$NON-NLS-1$
+			}
 			if (this.scopepattern == null) {
 				System.out.println("No scope pattern defined - searching all bundles"); //$NON-NLS-1$
 			} else {
@@ -623,4 +635,31 @@ public final class ApiUseTask extends CommonUtilsTask {
 	public void setFilters(String filters) {
 		this.filters = filters;
 	}
+
+	/**
+	 * Set the number of threads used to search the references of each
+	 * component.
+	 * <p>
+	 * The value must be a positive integer. Values greater than <code>1</code>
+	 * extract and resolve the references of a component concurrently, the
+	 * references found do not depend on this value.
+	 * </p>
+	 * <p>
+	 * Default is <code>1</code>, or the value of the system property
+	 * <code>org.eclipse.pde.api.tools.referenceAnalyzerThreads</code> if set.
+	 * </p>
+	 *
+	 * @param value the given number of threads
+	 * @throws BuildException if the given value is not a positive integer
+	 */
+	public void setParallelism(String value) {
+		try {
+			this.parallelism = Integer.parseInt(value);
+		} catch (NumberFormatException e) {
+			this.parallelism = 0;
+		}
+		if (this.parallelism < 1) {
+			throw new BuildException("The given value " + value + " is not a positive integer."); //$NON-NLS-1$//$NON-NLS-2$
+		}
+	}
 }
@@ -49,6 +49,7 @@ public class CompareTask extends CommonUtilsTask {
 	private String componentsList;
 	private String excludeListLocation;
 	private String includeListLocation;
+	private int parallelism = 1;
 
 	@Override
 	public void execute() throws BuildException {
@@ -63,6 +64,7 @@ public class CompareTask extends CommonUtilsTask {
 			System.out.println("Baseline to compare : " + this.currentBaselineLocation); //$NON-NLS-1$
 			System.out.println("Report location : " + this.reportLocation); //$NON-NLS-1$
 			System.out.println("Component's list : " + this.componentsList); //$NON-NLS-1$
+			System.out.println("Parallelism : " + this.parallelism); //$NON-NLS-1$
 			if (this.excludeListLocation != null) {
 				System.out.println("exclude list location : " + this.excludeListLocation); //$NON-NLS-1$
 			} else {
@@ -140,7 +142,8 @@ public class CompareTask extends CommonUtilsTask {
 			scope.addElement(currentBaseline);
 		}
 		try {
-			delta = ApiComparator.compare(scope, referenceBaseline, this.visibilityModifiers, false, null);
+			delta = ApiComparator.compare(scope, referenceBaseline, this.visibilityModifiers, false, false,
+					this.parallelism, null);
 		} catch (CoreException e) {
 			// an error occurred during the comparison
 			throw new BuildException(NLS.bind(Messages.illegalElementInScope, e.getMessage()));
@@ -275,6 +278,30 @@ public class CompareTask extends CommonUtilsTask {
 			}
 	}
 
+	/**
+	 * Set the number of components that are compared at the same time.
+	 * <p>
+	 * The value must be a positive integer. Values greater than <code>1</code>
+	 * compare the components of the baseline concurrently.
+	 * </p>
+	 * <p>
+	 * Default is <code>1</code>.
+	 * </p>
+	 *
+	 * @param value the given number of threads
+	 * @throws BuildException if the given value is not a positive integer
+	 */
+	public void setParallelism(String value) {
+		try {
+			this.parallelism = Integer.parseInt(value);
+		} catch (NumberFormatException e) {
+			this.parallelism = 0;
+		}
+		if (this.parallelism < 1) {
+			throw new BuildException("The given value " + value + " is not a positive integer."); //$NON-NLS-1$//$NON-NLS-2$
+		}
+	}
+
 	/**
 	 * Set the given components that needs to be compared against the baseline.
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which accompanies this distribution,
@@ -23,10 +23,12 @@ import static org.junit.Assume.assumeFalse;
 import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileFilter;
+import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URL;
+import java.nio.file.Files;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -63,11 +65,14 @@ import org.eclipse.pde.build.internal.tests.ant.AntUtils;
 import org.eclipse.pde.build.tests.BuildConfiguration;
 import org.eclipse.pde.build.tests.PDETestCase;
 import org.eclipse.pde.internal.build.AbstractScriptGenerator;
+import org.eclipse.pde.internal.build.AbstractScriptGenerator.ScriptCounts;
 import org.eclipse.pde.internal.build.BuildScriptGenerator;
 import org.eclipse.pde.internal.build.Config;
 import org.eclipse.pde.internal.build.IBuildPropertiesConstants;
 import org.eclipse.pde.internal.build.IPDEBuildConstants;
+import org.eclipse.pde.internal.build.ant.AntScript;
 import org.eclipse.pde.internal.build.builder.BuildDirector;
+import org.eclipse.pde.internal.build.builder.ClasspathCache;
 import org.eclipse.pde.internal.build.site.BuildTimeFeature;
 import org.eclipse.pde.internal.build.site.BuildTimeFeatureFactory;
 import org.eclipse.pde.internal.build.site.BuildTimeSiteFactory;
@@ -2454,4 +2459,203 @@ public class ScriptGenerationTests extends PDETestCase {
 		Utils.storeBuildProperties(second, properties);
 		runBuild(second);
 	}
+
+	@Test
+	public void testUnchangedScriptIsKept() throws Exception {
+		IFolder buildFolder = newTest("unchangedScript");
+		File location = buildFolder.getLocation().toFile();
+
+		ScriptOpener.write(location, "<project name=\"a\"/>");
+		File script = new File(location, "build.xml");
+		long stamp = script.lastModified() - 10000;
+		assertTrue(script.setLastModified(stamp));
+
+		ScriptCounts counts = new ScriptCounts();
+		ScriptOpener.setCounts(counts);
+		try {
+			ScriptOpener.write(location, "<project name=\"a\"/>");
+			assertEquals(stamp, script.lastModified());
+			assertEquals(1, counts.getUnchanged());
+			assertEquals(0, counts.getWritten());
+
+			ScriptOpener.write(location, "<project name=\"b\"/>");
+			assertTrue(script.lastModified() != stamp);
+			assertEquals(1, counts.getUnchanged());
+			assertEquals(1, counts.getWritten());
+			assertTrue(Files.readString(script.toPath()).contains("<project name=\"b\"/>"));
+		} finally {
+			ScriptOpener.setCounts(null);
+		}
+	}
+
+	@Test
+	public void testParallelScriptGenerationMatchesSequential() throws Exception {
+		IFolder buildFolder = newTest("parallelScriptGeneration");
+		String[] bundles = generateBundleChain(buildFolder);
+
+		generateScripts(buildFolder, BuildConfiguration.getScriptGenerationProperties(buildFolder, "feature", "f"));
+		Map<String, String> sequential = readBuildScripts(buildFolder, bundles);
+
+		Properties properties = BuildConfiguration.getScriptGenerationProperties(buildFolder, "feature", "f");
+		properties.put(IBuildPropertiesConstants.PROPERTY_PARALLEL_SCRIPT_GENERATION, "4");
+		generateScripts(buildFolder, properties);
+		assertEquals(sequential, readBuildScripts(buildFolder, bundles));
+	}
+
+	@Test
+	public void testClasspathCacheDoesNotChangeScripts() throws Exception {
+		IFolder buildFolder = newTest("classpathCache");
+		String[] bundles = generateBundleChain(buildFolder);
+
+		Properties properties = BuildConfiguration.getScriptGenerationProperties(buildFolder, "feature", "f");
+		generateScripts(buildFolder, properties);
+		Map<String, String> cached = readBuildScripts(buildFolder, bundles);
+
+		ClasspathCache.setEnabled(false);
+		try {
+			generateScripts(buildFolder, properties);
+		} finally {
+			ClasspathCache.setEnabled(true);
+		}
+		assertEquals(cached, readBuildScripts(buildFolder, bundles));
+	}
+
+	/**
+	 * Generates feature f with a chain of bundles, each of which imports the
+	 * package of the previous one and requires the one before, so that their
+	 * classpaths share prerequisites with different access rules.
+	 *
+	 * @return the ids of the bundles
+	 */
+	private static String[] generateBundleChain(IFolder buildFolder) throws Exception {
+		String[] bundles = { "bundleA", "bundleB", "bundleC", "bundleD", "bundleE" };
+		for (int i = 0; i < bundles.length; i++) {
+			String bundle = bundles[i];
+			IFolder bundleFolder = Utils.createFolder(buildFolder, "plugins/" + bundle);
+			Attributes manifestAdditions = new Attributes();
+			manifestAdditions.put(new Attributes.Name("Export-Package"),
+					bundle + ".api, " + bundle + ".internal;x-internal:=true");
+			if (i > 0) {
+				manifestAdditions.put(new Attributes.Name("Import-Package"), bundles[i - 1] + ".api");
+			}
+			if (i > 1) {
+				manifestAdditions.put(new Attributes.Name("Require-Bundle"), bundles[i - 2] + ";visibility:=reexport");
+			}
+			Utils.generateBundleManifest(bundleFolder, bundle, "1.0.0", manifestAdditions);
+			Utils.generatePluginBuildProperties(bundleFolder, null);
+			Utils.writeBuffer(bundleFolder.getFile("src/" + bundle + "/api/A.java"),
+					new StringBuffer("package " + bundle + ".api; public class A { int i; }"));
+			Utils.writeBuffer(bundleFolder.getFile("src/" + bundle + "/internal/B.java"),
+					new StringBuffer("package " + bundle + ".internal; public class B { int i; }"));
+		}
+		Utils.generateFeature(buildFolder, "f", null, bundles);
+		return bundles;
+	}
+
+	@Test
+	public void testParallelBundleLoadingMatchesSequential() throws Exception {
+		IFolder buildFolder = newTest("parallelBundleLoading");
+		String[] bundles = { "bundleA", "bundleB", "bundleC", "bundleD", "bundleE", "bundleF" };
+		String previous = null;
+		for (String bundle : bundles) {
+			IFolder bundleFolder = Utils.createFolder(buildFolder, "plugins/" + bundle);
+			Attributes manifestAdditions = new Attributes();
+			manifestAdditions.put(new Attributes.Name("Export-Package"), bundle.toLowerCase());
+			if (previous != null) {
+				// each bundle is wired to the package of the previous one
+				manifestAdditions.put(new Attributes.Name("Import-Package"), previous.toLowerCase());
+			}
+			Utils.generateBundleManifest(bundleFolder, bundle, "1.0.0", manifestAdditions);
+			Utils.generatePluginBuildProperties(bundleFolder, null);
+			Utils.writeBuffer(bundleFolder.getFile("src/" + bundle.toLowerCase() + "/" + bundle + ".java"),
+					new StringBuffer("package " + bundle.toLowerCase() + "; public class " + bundle + " { int i; }"));
+			previous = bundle;
+		}
+		Utils.generateFeature(buildFolder, "f", null, bundles);
+
+		generateScripts(buildFolder, BuildConfiguration.getScriptGenerationProperties(buildFolder, "feature", "f"));
+		Map<String, String> sequential = readBuildScripts(buildFolder, bundles);
+
+		Properties properties = BuildConfiguration.getScriptGenerationProperties(buildFolder, "feature", "f");
+		properties.put(IBuildPropertiesConstants.PROPERTY_PARALLEL_BUNDLE_LOADING, "4");
+		generateScripts(buildFolder, properties);
+		assertEquals(sequential, readBuildScripts(buildFolder, bundles));
+	}
+
+	/**
+	 * Reads and then deletes the build scripts of the given bundles and of
+	 * feature f.
+	 */
+	private static Map<String, String> readBuildScripts(IFolder buildFolder, String[] bundles) throws Exception {
+		Map<String, String> scripts = new HashMap<>();
+		Set<IFile> files = new HashSet<>();
+		files.add(buildFolder.getFile("features/f/build.xml"));
+		for (String bundle : bundles) {
+			files.add(buildFolder.getFile("plugins/" + bundle + "/build.xml"));
+		}
+		for (IFile file : files) {
+			File script = file.getLocation().toFile();
+			assertTrue(script.getPath(), script.isFile());
+			scripts.put(file.getProjectRelativePath().toString(), Files.readString(script.toPath()));
+			assertTrue(script.delete());
+		}
+		buildFolder.refreshLocal(IResource.DEPTH_INFINITE, null);
+		return scripts;
+	}
+
+	@Test
+	public void testFailingScriptWriteIsReported() throws Exception {
+		IFolder buildFolder = newTest("failingScript");
+		File location = new File(buildFolder.getLocation().toFile(), "scripts");
+		assertTrue(location.mkdirs());
+
+		AntScript script = ScriptOpener.open(location);
+		script.println("<project name=\"a\"/>");
+		// the script is only written when closed
+		assertTrue(new File(location, "build.xml").delete());
+		assertTrue(location.delete());
+		try {
+			script.close();
+			fail("Closing a script that cannot be written should fail");
+		} catch (CoreException e) {
+			assertEquals(IPDEBuildConstants.EXCEPTION_WRITING_FILE, e.getStatus().getCode());
+		}
+	}
+
+	@Test
+	public void testOpeningScriptInMissingDirectoryFails() throws Exception {
+		IFolder buildFolder = newTest("missingScriptDirectory");
+		File location = new File(buildFolder.getLocation().toFile(), "missing");
+		try {
+			ScriptOpener.open(location);
+			fail("Opening a script that cannot be written should fail");
+		} catch (CoreException e) {
+			assertEquals(IPDEBuildConstants.EXCEPTION_WRITING_FILE, e.getStatus().getCode());
+			assertTrue(e.getStatus().getException() instanceof FileNotFoundException);
+		}
+	}
+
+	/**
+	 * Opens generated scripts the way the script generators do.
+	 */
+	private static class ScriptOpener extends AbstractScriptGenerator {
+		@Override
+		public void generate() {
+			// nothing to generate
+		}
+
+		static void setCounts(ScriptCounts counts) {
+			setScriptCounts(counts);
+		}
+
+		static AntScript open(File location) throws CoreException {
+			return newAntScript(location.getAbsolutePath(), "build.xml");
+		}
+
+		static void write(File location, String content) throws CoreException {
+			AntScript script = open(location);
+			script.println(content);
+			script.close();
+		}
+	}
 }
@@ -14,7 +14,7 @@
 package org.eclipse.pde.internal.build;
 
 import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
@@ -22,9 +22,9 @@ import java.io.FileOutputStream;
 import java.io.FilenameFilter;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -35,6 +35,7 @@ import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import org.eclipse.core.runtime.CoreException;
@@ -83,6 +84,7 @@ public abstract class AbstractScriptGenerator implements IXMLConstants, IPDEBuil
 	protected String productQualifier;
 
 	private static PDEUIStateWrapper pdeUIState;
+	private static volatile ScriptCounts scriptCounts;
 
 	/** Location of the plug-ins and fragments. */
 	protected List<File> sitePaths;
@@ -217,7 +219,7 @@ public abstract class AbstractScriptGenerator implements IXMLConstants, IPDEBuil
 			throw new UnsupportedOperationException();
 		}
 
-		public static MissingProperties getInstance() {
+		public static synchronized MissingProperties getInstance() {
 			if (singleton == null) {
 				singleton = new MissingProperties();
 			}
@@ -259,16 +261,104 @@ public abstract class AbstractScriptGenerator implements IXMLConstants, IPDEBuil
 	}
 
 	protected static AntScript newAntScript(String scriptLocation, String scriptName) throws CoreException {
-		try {
-			OutputStream scriptStream = new BufferedOutputStream(new FileOutputStream(scriptLocation + '/' + scriptName));
-			return new AntScript(scriptStream);
-		} catch (FileNotFoundException e) {
+		File scriptFile = new File(scriptLocation + '/' + scriptName);
+		// fail early if the script cannot be written, appending nothing keeps
+		// the content and the time stamp of an existing script
+		try (FileOutputStream check = new FileOutputStream(scriptFile, true)) {
+			// nothing to write
+		} catch (IOException e) {
 			String message = NLS.bind(Messages.exception_writingFile, scriptLocation + '/' + scriptName);
 			throw new CoreException(new Status(IStatus.ERROR, PI_PDEBUILD, EXCEPTION_WRITING_FILE, message, e));
 		}
+		return new AntScript(new ScriptOutputStream(scriptFile, scriptCounts));
+	}
+
+	/**
+	 * Sets the counts of the scripts written and kept by the current run of
+	 * script generation.
+	 *
+	 * @param counts the counts of the run, or <code>null</code> when the run
+	 *            is over
+	 */
+	protected static void setScriptCounts(ScriptCounts counts) {
+		scriptCounts = counts;
+	}
+
+	/**
+	 * Counts the scripts of a run of script generation, which may be
+	 * generated concurrently.
+	 */
+	public static final class ScriptCounts {
+		private final AtomicInteger written = new AtomicInteger();
+		private final AtomicInteger unchanged = new AtomicInteger();
+
+		/**
+		 * @return the number of scripts written
+		 */
+		public int getWritten() {
+			return written.get();
+		}
+
+		/**
+		 * @return the number of scripts kept because they did not change
+		 */
+		public int getUnchanged() {
+			return unchanged.get();
+		}
+	}
+
+	/**
+	 * Buffers a generated script and writes it when closed unless the existing
+	 * script has the same content, so that the scripts of elements that did
+	 * not change between builds are not touched.
+	 */
+	private static class ScriptOutputStream extends ByteArrayOutputStream {
+		private final File scriptFile;
+		private final ScriptCounts counts;
+		private boolean closed = false;
+
+		ScriptOutputStream(File scriptFile, ScriptCounts counts) {
+			super(8192);
+			this.scriptFile = scriptFile;
+			this.counts = counts;
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (closed) {
+				return;
+			}
+			closed = true;
+			byte[] content = toByteArray();
+			if (isUnchanged(content)) {
+				if (counts != null) {
+					counts.unchanged.incrementAndGet();
+				}
+				return;
+			}
+			try {
+				Files.write(scriptFile.toPath(), content);
+			} catch (IOException e) {
+				throw new IOException(NLS.bind(Messages.exception_writingFile, scriptFile.getAbsolutePath()), e);
+			}
+			if (counts != null) {
+				counts.written.incrementAndGet();
+			}
+		}
+
+		private boolean isUnchanged(byte[] content) {
+			if (!scriptFile.isFile() || scriptFile.length() != content.length) {
+				return false;
+			}
+			try {
+				return Arrays.equals(Files.readAllBytes(scriptFile.toPath()), content);
+			} catch (IOException e) {
+				return false;
+			}
+		}
 	}
 
-	public void closeScript() {
+	public void closeScript() throws CoreException {
 		script.close();
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -138,7 +138,7 @@ public class AssembleConfigScriptGenerator extends AbstractScriptGenerator {
 	}
 
 	@Override
-	public void generate() {
+	public void generate() throws CoreException {
 		try {
 			// Note that we must pass the OS information in to load product
 			// so that any icon files can be calculated for the
@@ -720,7 +720,7 @@ public class AssembleConfigScriptGenerator extends AbstractScriptGenerator {
 		script.printAntCallTask(TARGET_JARUP, true, properties);
 	}
 
-	private void generateEpilogue() {
+	private void generateEpilogue() throws CoreException {
 		generateGatherBinPartsTarget();
 		if (embeddedSource) {
 			generateGatherSourceTarget();
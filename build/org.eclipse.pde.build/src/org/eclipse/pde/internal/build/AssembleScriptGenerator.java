@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -174,7 +174,7 @@ public class AssembleScriptGenerator extends AbstractScriptGenerator {
 		return new Collection[] {assemblageInformation.getCompiledPlugins(aConfig), assemblageInformation.getCompiledFeatures(aConfig), assemblageInformation.getFeatures(aConfig), assemblageInformation.getRootFileProviders(aConfig)};
 	}
 
-	protected void generateP2ConfigFileTargetCall() {
+	protected void generateP2ConfigFileTargetCall() throws CoreException {
 		P2ConfigScriptGenerator p2ConfigGenerator = new P2ConfigScriptGenerator(assemblageInformation, true);
 		p2ConfigGenerator.setProduct(productLocation);
 		p2ConfigGenerator.setBuildSiteFactory(siteFactory);
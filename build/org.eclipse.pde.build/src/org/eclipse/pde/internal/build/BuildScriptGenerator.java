@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -132,8 +132,10 @@ public class BuildScriptGenerator extends AbstractScriptGenerator {
 
 		List<String> plugins = new ArrayList<>(5);
 		List<String> features = new ArrayList<>(5);
+		ScriptCounts scriptCounts = new ScriptCounts();
 		try {
 			AbstractScriptGenerator.setStaticAntProperties(antProperties);
+			setScriptCounts(scriptCounts);
 
 			sortElements(features, plugins);
 			pluginsForFilterRoots = plugins;
@@ -147,7 +149,12 @@ public class BuildScriptGenerator extends AbstractScriptGenerator {
 			generateModels(plugins);
 			generateFeatures(features);
 			flushState();
+			if (BundleHelper.getDefault().isLoggingToAnt()) {
+				String message = NLS.bind(Messages.build_scriptsSummary, Integer.toString(scriptCounts.getWritten()), Integer.toString(scriptCounts.getUnchanged()));
+				BundleHelper.getDefault().getLog().log(new Status(IStatus.INFO, PI_PDEBUILD, message));
+			}
 		} finally {
+			setScriptCounts(null);
 			AbstractScriptGenerator.setStaticAntProperties(null);
 		}
 	}
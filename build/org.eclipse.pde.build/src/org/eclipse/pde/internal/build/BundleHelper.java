@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -100,6 +100,14 @@ public class BundleHelper {
 		return log;
 	}
 
+	/**
+	 * @return whether messages are logged to the Ant build running PDE Build
+	 *         rather than to the platform log
+	 */
+	public final boolean isLoggingToAnt() {
+		return log != null;
+	}
+
 	public final IPath getStateLocation() throws IllegalStateException {
 		return Platform.getStateLocation(getDefault().bundle);
 	}
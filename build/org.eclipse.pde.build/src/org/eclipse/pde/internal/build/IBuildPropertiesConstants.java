@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2011 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -87,6 +87,10 @@ public interface IBuildPropertiesConstants {
 
 	public static final String PROPERTY_SIGNIFICANT_VERSION_DIGITS = "significantVersionDigits"; //$NON-NLS-1$
 	public static final String PROPERTY_GENERATED_VERSION_LENGTH = "generatedVersionLength"; //$NON-NLS-1$
+	/** <code>true</code> or the number of threads generating the scripts of the plug-ins of a feature */
+	public static final String PROPERTY_PARALLEL_SCRIPT_GENERATION = "parallelScriptGeneration"; //$NON-NLS-1$
+	/** <code>true</code> or the number of threads loading the manifests of the bundles added to the build state */
+	public static final String PROPERTY_PARALLEL_BUNDLE_LOADING = "parallelBundleLoading"; //$NON-NLS-1$
 
 	public static final String RESOLVER_DEV_MODE = "resolution.devMode"; //$NON-NLS-1$
 	public static final String PROPERTY_INDIVIDUAL_SOURCE = "individualSourceBundles"; //$NON-NLS-1$
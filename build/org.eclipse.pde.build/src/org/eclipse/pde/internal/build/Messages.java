@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2013 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -69,6 +69,7 @@ public class Messages extends NLS {
 
 	// build.xml
 	public static String build_plugin_buildJars;
+	public static String build_scriptsSummary;
 	public static String build_plugin_jar;
 	public static String build_plugin_buildUpdateJar;
 	public static String build_plugin_clean;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,8 +24,12 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.URIUtil;
 import org.eclipse.pde.build.IAntScript;
+import org.eclipse.pde.internal.build.IPDEBuildConstants;
 
 /**
  * Class for producing Ant scripts. Contains convenience methods for creating the
@@ -52,16 +56,19 @@ public class AntScript implements IAntScript {
 
 	/**
 	 * Close the output stream.
+	 *
+	 * @throws CoreException if the script could not be written
 	 */
-	public void close() {
+	public void close() throws CoreException {
 		output.flush();
-		output.close();
-
-		// introduced because sometimes the file was not closed.
+		// close the stream before the writer, which would swallow a failure
+		// to write the script
 		try {
 			out.close();
 		} catch (IOException e) {
-			e.printStackTrace();
+			throw new CoreException(new Status(IStatus.ERROR, IPDEBuildConstants.PI_PDEBUILD, IPDEBuildConstants.EXCEPTION_WRITING_FILE, e.getMessage(), e));
+		} finally {
+			output.close();
 		}
 	}
 
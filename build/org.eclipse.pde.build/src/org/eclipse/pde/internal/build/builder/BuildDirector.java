@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,8 @@
 package org.eclipse.pde.internal.build.builder;
 
 import java.io.File;
+import java.util.AbstractSet;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -22,6 +24,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IStatus;
@@ -32,6 +39,7 @@ import org.eclipse.osgi.service.resolver.BundleDescription;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.internal.build.AbstractScriptGenerator;
 import org.eclipse.pde.internal.build.AssemblyInformation;
+import org.eclipse.pde.internal.build.BundleHelper;
 import org.eclipse.pde.internal.build.Config;
 import org.eclipse.pde.internal.build.Messages;
 import org.eclipse.pde.internal.build.SourceFeatureInformation;
@@ -100,7 +108,7 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 
 	private final Map<String, String> extractedLocations = new HashMap<>();
 
-	public String getExtractedRoot(ClasspathElement element) {
+	public synchronized String getExtractedRoot(ClasspathElement element) {
 		if (element.getSubPath() == null) {
 			return element.getPath();
 		}
@@ -532,6 +540,13 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 			return;
 		}
 
+		long start = System.currentTimeMillis();
+		int threads = getScriptGenerationThreads();
+		// generators running concurrently are configured in sequence and
+		// see the compiled elements they would see when running in sequence
+		List<ModelBuildScriptGenerator> generators = new ArrayList<>();
+		Map<String, Integer> compiledElementsOrder = new HashMap<>();
+
 		Set<BundleDescription> generatedScripts = new HashSet<>(models.size());
 		for (BundleDescription model : models) {
 			if (generatedScripts.contains(model)) {
@@ -545,7 +560,7 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 			@SuppressWarnings("rawtypes")
 			Set matchingEntries = (Set) ((Properties) model.getUserObject()).get(PLUGIN_ENTRY);
 			if (matchingEntries == null || matchingEntries.isEmpty()) {
-				return;
+				break;
 			}
 
 			@SuppressWarnings("rawtypes")
@@ -568,9 +583,118 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 			generator.setSignJars(signJars);
 			generator.setAssociatedEntry(correspondingEntry);
 			generator.setGenerateSourceReferences(sourceReferences);
-			generator.generate();
+			if (threads > 1) {
+				for (String element : getCompiledElements()) {
+					compiledElementsOrder.putIfAbsent(element, compiledElementsOrder.size());
+				}
+				generator.setCompiledElements(new CompiledElements(compiledElementsOrder, compiledElementsOrder.size()));
+				generators.add(generator);
+			} else {
+				generator.generate();
+			}
+		}
+		if (threads > 1) {
+			generateConcurrently(generators, threads);
+		}
+
+		if (BundleHelper.getDefault().isDebugging()) {
+			System.out.println("Generated plug-in scripts of " + featureIdentifier + " with " + threads + " threads in " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					+ (System.currentTimeMillis() - start) + " ms"); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Runs the given generators, which write separate scripts, on the given
+	 * number of threads. The first failure in the order of the generators is
+	 * reported once all generators are done.
+	 */
+	private void generateConcurrently(List<ModelBuildScriptGenerator> generators, int threads) throws CoreException {
+		AtomicInteger threadCount = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, generators.size()), r -> {
+			Thread thread = new Thread(r, "PDE Build Script Generation " + threadCount.incrementAndGet()); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			List<Future<Void>> results = new ArrayList<>(generators.size());
+			for (ModelBuildScriptGenerator generator : generators) {
+				results.add(executor.submit(() -> {
+					generator.generate();
+					return null;
+				}));
+			}
+			CoreException failure = null;
+			for (Future<Void> result : results) {
+				try {
+					result.get();
+				} catch (ExecutionException e) {
+					if (failure != null) {
+						continue;
+					}
+					if (e.getCause() instanceof CoreException coreException) {
+						failure = coreException;
+					} else if (e.getCause() instanceof RuntimeException runtimeException) {
+						throw runtimeException;
+					} else {
+						throw new IllegalStateException(e.getCause());
+					}
+				}
+			}
+			if (failure != null) {
+				throw failure;
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CoreException(Status.CANCEL_STATUS);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * @return the number of threads generating the plug-in scripts, 1 unless
+	 *         the parallel script generation property is set
+	 */
+	private static int getScriptGenerationThreads() {
+		String value = AbstractScriptGenerator.getImmutableAntProperty(PROPERTY_PARALLEL_SCRIPT_GENERATION);
+		if (value == null || FALSE.equalsIgnoreCase(value)) {
+			return 1;
+		}
+		if (TRUE.equalsIgnoreCase(value)) {
+			return Runtime.getRuntime().availableProcessors();
 		}
+		return getIntProperty(value, 1);
+	}
 
+	/**
+	 * The elements compiled when a generator was configured, that is the
+	 * first elements of the order in which they were added.
+	 */
+	private static final class CompiledElements extends AbstractSet<String> {
+
+		private final Map<String, Integer> order;
+		private final int size;
+
+		CompiledElements(Map<String, Integer> order, int size) {
+			this.order = order;
+			this.size = size;
+		}
+
+		@Override
+		public boolean contains(Object element) {
+			Integer index = order.get(element);
+			return index != null && index.intValue() < size;
+		}
+
+		@Override
+		public Iterator<String> iterator() {
+			return order.entrySet().stream().filter(e -> e.getValue().intValue() < size).map(Map.Entry::getKey).iterator();
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
 	}
 
 	/**
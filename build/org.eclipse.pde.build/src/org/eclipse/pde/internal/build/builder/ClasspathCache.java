@@ -0,0 +1,186 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.build.builder;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.ExportPackageDescription;
+import org.eclipse.osgi.service.resolver.StateHelper;
+import org.eclipse.pde.internal.build.AbstractScriptGenerator;
+import org.eclipse.pde.internal.build.BundleHelper;
+import org.eclipse.pde.internal.build.IPDEBuildConstants;
+import org.eclipse.pde.internal.build.site.PDEState;
+
+/**
+ * Per build memo of what {@link ClasspathComputer3_0} looks up about each
+ * bundle: the bundles it depends on, the packages visible to it with their
+ * access rules and its build.properties. These only depend on the state of
+ * the build, while the classpath of a bundle visits its prerequisites once
+ * for each of its compiled entries and shared prerequisites are visited for
+ * each of their dependents.
+ * <p>
+ * Instances are shared by all generators of a build and may be used
+ * concurrently.
+ * </p>
+ */
+public class ClasspathCache implements IPDEBuildConstants {
+
+	private static final Map<PDEState, ClasspathCache> caches = new WeakHashMap<>();
+
+	private static volatile boolean enabled = true;
+
+	/** Marks build.properties that could not be read */
+	private static final Properties UNREADABLE = new Properties();
+
+	private final Map<BundleDescription, BundleDescription[]> dependentBundles = new ConcurrentHashMap<>();
+	private final Map<BundleDescription, Map<String, String>> visiblePackages = new ConcurrentHashMap<>();
+	private final Map<String, Properties> buildProperties = new ConcurrentHashMap<>();
+
+	/** Whether lookups are remembered, or computed again each time */
+	private final boolean memoize;
+
+	private ClasspathCache(boolean memoize) {
+		this.memoize = memoize;
+	}
+
+	/**
+	 * @return the cache of the build using the given state
+	 */
+	static ClasspathCache getInstance(PDEState state) {
+		if (!enabled) {
+			return new ClasspathCache(false);
+		}
+		synchronized (caches) {
+			return caches.computeIfAbsent(state, s -> new ClasspathCache(true));
+		}
+	}
+
+	/**
+	 * Enables or disables the memo. When disabled, every lookup is computed
+	 * again as it was before the memo existed. This is meant for tests
+	 * comparing the classpaths computed in both ways.
+	 *
+	 * @param value whether lookups are remembered for the duration of a build
+	 */
+	public static void setEnabled(boolean value) {
+		enabled = value;
+		synchronized (caches) {
+			caches.clear();
+		}
+	}
+
+	/**
+	 * @return the bundles imported or required by the given bundle, must not
+	 *         be modified
+	 * @see PDEState#getDependentBundles(BundleDescription)
+	 */
+	BundleDescription[] getDependentBundles(BundleDescription bundle) {
+		if (!memoize) {
+			return PDEState.getDependentBundles(bundle);
+		}
+		return dependentBundles.computeIfAbsent(bundle, PDEState::getDependentBundles);
+	}
+
+	/**
+	 * Returns the access rules of the packages visible to the given bundle or
+	 * fragment and its host, keyed by the symbolic name and version of their
+	 * exporter.
+	 *
+	 * @return the rules, which cannot be modified
+	 */
+	Map<String, String> getVisiblePackages(BundleDescription model) {
+		if (!memoize) {
+			return computeVisiblePackages(model);
+		}
+		return visiblePackages.computeIfAbsent(model, ClasspathCache::computeVisiblePackages);
+	}
+
+	private static Map<String, String> computeVisiblePackages(BundleDescription model) {
+		Map<String, String> packages = new HashMap<>(20);
+		StateHelper helper = BundleHelper.getPlatformAdmin().getStateHelper();
+		addVisiblePackagesFromState(helper, model, packages);
+		if (model.getHost() != null) {
+			addVisiblePackagesFromState(helper, (BundleDescription) model.getHost().getSupplier(), packages);
+		}
+		return Collections.unmodifiableMap(packages);
+	}
+
+	private static void addVisiblePackagesFromState(StateHelper helper, BundleDescription model, Map<String, String> packages) {
+		ExportPackageDescription[] exports = helper.getVisiblePackages(model);
+		for (ExportPackageDescription export : exports) {
+			BundleDescription exporter = export.getExporter();
+			if (exporter == null) {
+				continue;
+			}
+
+			boolean discouraged = helper.getAccessCode(model, export) == StateHelper.ACCESS_DISCOURAGED;
+			String pattern = export.getName().replaceAll("\\.", "/") + "/*"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			String rule = (discouraged ? '~' : '+') + pattern;
+
+			String packagesKey = exporter.getSymbolicName() + "_" + exporter.getVersion(); //$NON-NLS-1$
+			String rules = packages.get(packagesKey);
+			if (rules != null) {
+				if (rules.indexOf(rule) == -1) {
+					rules = rules + File.pathSeparator + rule;
+				}
+			} else {
+				rules = rule;
+			}
+
+			packages.put(packagesKey, rules);
+		}
+	}
+
+	/**
+	 * Reads the build.properties at the given location once per build.
+	 *
+	 * @return a copy of the properties the caller may modify,
+	 *         {@link AbstractScriptGenerator.MissingProperties} if there are
+	 *         none, or <code>null</code> if they cannot be read
+	 */
+	Properties getBuildProperties(String location) {
+		String key = String.valueOf(location);
+		Properties properties = memoize ? buildProperties.get(key) : null;
+		if (properties == null) {
+			try {
+				properties = AbstractScriptGenerator.readProperties(location, PROPERTIES_FILE, IStatus.OK);
+			} catch (CoreException e) {
+				properties = UNREADABLE;
+			}
+			if (!memoize) {
+				return properties == UNREADABLE ? null : properties;
+			}
+			Properties existing = buildProperties.putIfAbsent(key, properties);
+			if (existing != null) {
+				properties = existing;
+			}
+		}
+		if (properties == UNREADABLE) {
+			return null;
+		}
+		if (properties instanceof AbstractScriptGenerator.MissingProperties) {
+			return properties;
+		}
+		return (Properties) properties.clone();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -36,9 +36,7 @@ import org.eclipse.core.runtime.MultiStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.equinox.p2.publisher.eclipse.FeatureEntry;
 import org.eclipse.osgi.service.resolver.BundleDescription;
-import org.eclipse.osgi.service.resolver.ExportPackageDescription;
 import org.eclipse.osgi.service.resolver.HostSpecification;
-import org.eclipse.osgi.service.resolver.StateHelper;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.internal.build.AbstractScriptGenerator;
 import org.eclipse.pde.internal.build.BundleHelper;
@@ -48,7 +46,6 @@ import org.eclipse.pde.internal.build.IPDEBuildConstants;
 import org.eclipse.pde.internal.build.IXMLConstants;
 import org.eclipse.pde.internal.build.Messages;
 import org.eclipse.pde.internal.build.Utils;
-import org.eclipse.pde.internal.build.site.PDEState;
 import org.osgi.framework.Filter;
 
 public class ClasspathComputer3_0 implements IClasspathComputer, IPDEBuildConstants, IXMLConstants, IBuildPropertiesConstants {
@@ -158,6 +155,7 @@ public class ClasspathComputer3_0 implements IClasspathComputer, IPDEBuildConsta
 	private Map<String, ClasspathElement> pathElements = null;
 	private boolean allowBinaryCycles = false;
 	private Set<Long> requiredIds = null;
+	private ClasspathCache cache = null;
 	protected String modelLocation = null;
 
 	public ClasspathComputer3_0(ModelBuildScriptGenerator modelGenerator) {
@@ -179,7 +177,8 @@ public class ClasspathComputer3_0 implements IClasspathComputer, IPDEBuildConsta
 		modelLocation = generator.getLocation(model);
 		Set<BundleDescription> addedPlugins = new HashSet<>(10); //The set of all the plugins already added to the classpath (this allows for optimization)
 		pathElements = new HashMap<>();
-		visiblePackages = getVisiblePackages(model);
+		cache = ClasspathCache.getInstance(generator.getSite(false).getRegistry());
+		visiblePackages = cache.getVisiblePackages(model);
 		requiredIds = new HashSet<>();
 		allowBinaryCycles = AbstractScriptGenerator.getPropertyAsBoolean(IBuildPropertiesConstants.PROPERTY_ALLOW_BINARY_CYCLES);
 
@@ -210,42 +209,6 @@ public class ClasspathComputer3_0 implements IClasspathComputer, IPDEBuildConsta
 		bundleProperties.setProperty(PROPERTY_REQUIRED_BUNDLE_IDS, buffer.toString());
 	}
 
-	private Map<String, String> getVisiblePackages(BundleDescription model) {
-		Map<String, String> packages = new HashMap<>(20);
-		StateHelper helper = BundleHelper.getPlatformAdmin().getStateHelper();
-		addVisiblePackagesFromState(helper, model, packages);
-		if (model.getHost() != null) {
-			addVisiblePackagesFromState(helper, (BundleDescription) model.getHost().getSupplier(), packages);
-		}
-		return packages;
-	}
-
-	private void addVisiblePackagesFromState(StateHelper helper, BundleDescription model, Map<String, String> packages) {
-		ExportPackageDescription[] exports = helper.getVisiblePackages(model);
-		for (ExportPackageDescription export : exports) {
-			BundleDescription exporter = export.getExporter();
-			if (exporter == null) {
-				continue;
-			}
-
-			boolean discouraged = helper.getAccessCode(model, export) == StateHelper.ACCESS_DISCOURAGED;
-			String pattern = export.getName().replaceAll("\\.", "/") + "/*"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-			String rule = (discouraged ? '~' : '+') + pattern;
-
-			String packagesKey = exporter.getSymbolicName() + "_" + exporter.getVersion(); //$NON-NLS-1$
-			String rules = packages.get(packagesKey);
-			if (rules != null) {
-				if (rules.indexOf(rule) == -1) {
-					rules = rules + File.pathSeparator + rule;
-				}
-			} else {
-				rules = rule;
-			}
-
-			packages.put(packagesKey, rules);
-		}
-	}
-
 	/**
 	 * Add the specified plugin (including its jars) and its fragments
 	 */
@@ -339,7 +302,10 @@ public class ClasspathComputer3_0 implements IClasspathComputer, IPDEBuildConsta
 
 	private Properties getBuildPropertiesFor(BundleDescription bundle) {
 		try {
-			Properties bundleProperties = AbstractScriptGenerator.readProperties(generator.getLocation(bundle), PROPERTIES_FILE, IStatus.OK);
+			Properties bundleProperties = cache.getBuildProperties(generator.getLocation(bundle));
+			if (bundleProperties == null) {
+				return null;
+			}
 			if (Utils.isStringIn(generator.getClasspathEntries(bundle), ModelBuildScriptGenerator.DOT) != -1) {
 				String sourceFolder = bundleProperties.getProperty(PROPERTY_SOURCE_PREFIX + ModelBuildScriptGenerator.DOT);
 				if (sourceFolder != null) {
@@ -590,7 +556,7 @@ public class ClasspathComputer3_0 implements IClasspathComputer, IPDEBuildConsta
 
 		// add libraries from pre-requisite plug-ins.  Don't worry about the export flag
 		// as all required plugins may be required for compilation.
-		BundleDescription[] requires = PDEState.getDependentBundles(target);
+		BundleDescription[] requires = cache.getDependentBundles(target);
 		pluginChain.add(target);
 		for (BundleDescription require : requires) {
 			addPluginAndPrerequisites(require, classpath, baseLocation, pluginChain, addedPlugins);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -81,7 +81,7 @@ public class FetchFileGenerator extends AbstractScriptGenerator {
 		script.printTargetDeclaration(TARGET_MAIN, null, null, null, null);
 	}
 
-	private void generateEpilogue() {
+	private void generateEpilogue() throws CoreException {
 		script.printTargetEnd();
 		script.printProjectEnd();
 		script.close();
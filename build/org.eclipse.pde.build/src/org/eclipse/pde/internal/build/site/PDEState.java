@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2004, 2023 IBM Corporation and others.
+ *  Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -33,6 +33,11 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.UnaryOperator;
 import java.util.jar.JarFile;
 import java.util.regex.Pattern;
@@ -258,34 +263,55 @@ public class PDEState implements IPDEBuildConstants, IBuildPropertiesConstants {
 	}
 
 	public boolean addBundle(File bundleLocation) {
-		Dictionary<String, String> manifest;
-		manifest = loadManifest(bundleLocation);
+		LoadedManifest loaded = loadBundleManifest(bundleLocation);
+		if (loaded == null) {
+			return false;
+		}
+		return addBundle(loaded.manifest(), loaded.location());
+	}
+
+	/**
+	 * The normalized manifest of a bundle and the location it was loaded from,
+	 * which is the flexible root of the bundle location if it has one.
+	 */
+	private record LoadedManifest(File location, Dictionary<String, String> manifest) {
+	}
+
+	/**
+	 * Loads the manifest of the bundle at the given location without touching
+	 * the state, so manifests of different bundles can be loaded concurrently.
+	 *
+	 * @return the manifest or <code>null</code> if the location is not a bundle
+	 */
+	private LoadedManifest loadBundleManifest(File bundleLocation) {
+		Dictionary<String, String> manifest = loadManifest(bundleLocation);
 		if (manifest == null) {
-			return addFlexibleRoot(bundleLocation);
+			File root = getFlexibleRoot(bundleLocation);
+			return root != null ? loadBundleManifest(root) : null;
 		}
 		try {
 			hasQualifier(bundleLocation, manifest);
 		} catch (BundleException e) {
 			//should not happen since we know the header
 		}
-		return addBundle(manifest, bundleLocation);
+		return new LoadedManifest(bundleLocation, manifest);
 	}
 
-	private boolean addFlexibleRoot(File bundleLocation) {
+	private File getFlexibleRoot(File bundleLocation) {
 		if (!new File(bundleLocation, PDE_CORE_PREFS).exists()) {
-			return false;
+			return null;
 		}
 
 		try {
 			Properties properties = AbstractScriptGenerator.readProperties(bundleLocation.getAbsolutePath(), PDE_CORE_PREFS, IStatus.OK);
 			String root = properties.getProperty(BUNDLE_ROOT_PATH);
 			if (root != null) {
-				return addBundle(new File(bundleLocation, root));
+				return new File(bundleLocation, root);
 			}
 		} catch (CoreException e) {
 			//ignore
 		}
-		return false;
+		return null;
 	}
 
 	private String updateVersionNumber(Dictionary<String, String> manifest) {
@@ -395,9 +421,79 @@ public class PDEState implements IPDEBuildConstants, IBuildPropertiesConstants {
 		return manifest;
 	}
 
+	/**
+	 * Adds the given bundles to the state. If the parallel bundle loading
+	 * property is set, their manifests are loaded concurrently, while the
+	 * bundles are still added in the given order so their ids and the
+	 * resolution of the state do not depend on the loading order.
+	 */
 	public void addBundles(Collection<File> bundles) {
-		for (File bundle : bundles) {
-			addBundle(bundle);
+		int threads = Math.min(getBundleLoadingThreads(), bundles.size());
+		if (threads <= 1) {
+			for (File bundle : bundles) {
+				addBundle(bundle);
+			}
+			return;
+		}
+
+		long start = System.currentTimeMillis();
+		AtomicInteger threadCount = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(threads, r -> {
+			Thread thread = new Thread(r, "PDE Build Manifest Loading " + threadCount.incrementAndGet()); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			List<File> locations = new ArrayList<>(bundles);
+			List<Future<LoadedManifest>> manifests = new ArrayList<>(locations.size());
+			for (File location : locations) {
+				manifests.add(executor.submit(() -> loadBundleManifest(location)));
+			}
+			for (int i = 0; i < locations.size(); i++) {
+				LoadedManifest loaded;
+				try {
+					loaded = manifests.get(i).get();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					loaded = loadBundleManifest(locations.get(i));
+				} catch (ExecutionException e) {
+					if (e.getCause() instanceof RuntimeException runtimeException) {
+						throw runtimeException;
+					}
+					if (e.getCause() instanceof Error error) {
+						throw error;
+					}
+					throw new IllegalStateException(e.getCause());
+				}
+				if (loaded != null) {
+					addBundle(loaded.manifest(), loaded.location());
+				}
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		if (BundleHelper.getDefault().isDebugging()) {
+			System.out.println("Added " + bundles.size() + " bundles to the state with " + threads + " threads in " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					+ (System.currentTimeMillis() - start) + " ms"); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * @return the number of threads loading bundle manifests, <code>1</code>
+	 *         unless the parallel bundle loading property is set
+	 */
+	private static int getBundleLoadingThreads() {
+		String value = AbstractScriptGenerator.getImmutableAntProperty(PROPERTY_PARALLEL_BUNDLE_LOADING);
+		if (value == null || FALSE.equalsIgnoreCase(value)) {
+			return 1;
+		}
+		if (TRUE.equalsIgnoreCase(value)) {
+			return Runtime.getRuntime().availableProcessors();
+		}
+		try {
+			return Math.max(1, Integer.parseInt(value));
+		} catch (NumberFormatException e) {
+			return 1;
 		}
 	}
 
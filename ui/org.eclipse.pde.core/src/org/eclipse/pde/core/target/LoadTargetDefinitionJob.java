@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2020 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -33,6 +33,7 @@ import org.eclipse.pde.internal.core.PDEPreferencesManager;
 import org.eclipse.pde.internal.core.target.Messages;
 import org.eclipse.pde.internal.core.target.TargetPlatformService;
 import org.eclipse.pde.internal.core.target.TargetResolveSchedulingRule;
+import org.eclipse.pde.internal.core.util.ManifestCache;
 
 /**
  * Sets the current target platform based on a target definition.
@@ -123,6 +124,8 @@ public class LoadTargetDefinitionJob extends WorkspaceJob {
 
 	@Override
 	public IStatus runInWorkspace(IProgressMonitor monitor) throws CoreException {
+		// share the manifests read while resolving with the new target state
+		ManifestCache.open();
 		try {
 			SubMonitor subMon = SubMonitor.convert(monitor, Messages.LoadTargetOperation_mainTaskName, 40)
 					.checkCanceled();
@@ -154,6 +157,8 @@ public class LoadTargetDefinitionJob extends WorkspaceJob {
 
 		} catch (OperationCanceledException e) {
 			return Status.CANCEL_STATUS;
+		} finally {
+			ManifestCache.close();
 		}
 		return Status.OK_STATUS;
 	}
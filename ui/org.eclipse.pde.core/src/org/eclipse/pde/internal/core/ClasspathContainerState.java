@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2025 Christoph Läubrich and others.
+ * Copyright (c) 2025, 2026 Christoph Läubrich and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -70,6 +70,12 @@ public class ClasspathContainerState {
 		public void resourceChanged(IResourceChangeEvent event) {
 			IResource resource = event.getResource();
 			if (resource instanceof IProject project) {
+				// the classpath of a closed or deleted project is computed
+				// again once it is opened or created
+				ClasspathDependencyIndex.forget(project);
+				if (event.getType() != IResourceChangeEvent.PRE_DELETE) {
+					return;
+				}
 				if (PDECore.DEBUG_STATE) {
 					PDECore.TRACE.trace(PDECore.KEY_DEBUG_STATE,
 							String.format("Project %s was deleted.", project.getName())); //$NON-NLS-1$
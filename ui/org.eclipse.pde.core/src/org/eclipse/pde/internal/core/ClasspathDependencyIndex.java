@@ -0,0 +1,241 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.ExportPackageDescription;
+import org.eclipse.osgi.service.resolver.HostSpecification;
+import org.eclipse.osgi.service.resolver.State;
+
+/**
+ * Reverse index from the bundles of the resolved state to the workspace
+ * projects whose required plug-ins classpath container includes them.
+ * <p>
+ * Each time the classpath of a project is computed, the bundles that
+ * contributed to it and the bundles its own bundle is directly wired to are
+ * recorded. When the state changes, only the projects whose recorded closure
+ * is touched by the change need their classpath to be computed again.
+ * Projects whose classpath was not computed since the workspace was started
+ * are never considered unaffected.
+ * </p>
+ */
+public final class ClasspathDependencyIndex {
+
+	/**
+	 * The bundles a project classpath was computed from.
+	 *
+	 * @param bundleKeys keys of all bundles contributing to the classpath
+	 * @param symbolicNames symbolic names of all bundles contributing to the
+	 *            classpath
+	 * @param wiringKeys keys of the bundles the project bundle was directly
+	 *            wired to
+	 */
+	private record Closure(Set<String> bundleKeys, Set<String> symbolicNames, Set<String> wiringKeys) {
+	}
+
+	private static final Map<IProject, Closure> fgClosures = new HashMap<>();
+
+	private static final Map<String, Set<IProject>> fgDependents = new HashMap<>();
+
+	private ClasspathDependencyIndex() {
+	}
+
+	/**
+	 * Records the bundles the classpath of the given project was computed
+	 * from, replacing what was recorded before.
+	 *
+	 * @param project the project whose classpath was computed
+	 * @param desc the bundle of the project
+	 * @param closure all bundles contributing to the classpath
+	 * @param extraNames symbolic names of bundles explicitly requested for the
+	 *            classpath, for example as secondary dependencies, which need
+	 *            not be in the state
+	 */
+	public static synchronized void record(IProject project, BundleDescription desc, Collection<BundleDescription> closure,
+			Collection<String> extraNames) {
+		Set<String> keys = new HashSet<>();
+		Set<String> names = new HashSet<>(extraNames);
+		for (BundleDescription bundle : closure) {
+			keys.add(getKey(bundle));
+			if (bundle.getSymbolicName() != null) {
+				names.add(bundle.getSymbolicName());
+			}
+		}
+		forget(project);
+		fgClosures.put(project, new Closure(keys, names, getWiringKeys(desc)));
+		for (String name : names) {
+			fgDependents.computeIfAbsent(name, n -> new HashSet<>()).add(project);
+		}
+	}
+
+	/**
+	 * Removes everything recorded for the given project.
+	 */
+	public static synchronized void forget(IProject project) {
+		Closure closure = fgClosures.remove(project);
+		if (closure != null) {
+			for (String name : closure.symbolicNames()) {
+				Set<IProject> dependents = fgDependents.get(name);
+				if (dependents != null) {
+					dependents.remove(project);
+					if (dependents.isEmpty()) {
+						fgDependents.remove(name);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return whether the classpath of the given project was recorded
+	 */
+	public static synchronized boolean isRecorded(IProject project) {
+		return fgClosures.containsKey(project);
+	}
+
+	/**
+	 * Adds the projects whose classpath includes a bundle with the given
+	 * symbolic name to the given set.
+	 */
+	public static synchronized void addDependentProjects(String symbolicName, Set<IProject> projects) {
+		Set<IProject> dependents = fgDependents.get(symbolicName);
+		if (dependents != null) {
+			projects.addAll(dependents);
+		}
+	}
+
+	/**
+	 * Returns whether the classpath of the given project may have changed
+	 * after the whole state was replaced, which is the case if its bundle is
+	 * wired differently, a bundle of its recorded closure is missing in the
+	 * new state, a new fragment was added to one of these bundles or a bundle
+	 * with the name of one of them, or of a secondary dependency, is new in
+	 * the new state, for example in a higher version.
+	 *
+	 * @param project the project to check
+	 * @param desc the bundle of the project in the new state, may be
+	 *            <code>null</code>
+	 * @param changes the changes between the old and the new state
+	 */
+	public static synchronized boolean isAffected(IProject project, BundleDescription desc, StateChanges changes) {
+		Closure closure = fgClosures.get(project);
+		if (closure == null || desc == null) {
+			return true;
+		}
+		if (!closure.wiringKeys().equals(getWiringKeys(desc))) {
+			return true;
+		}
+		for (String key : closure.bundleKeys()) {
+			if (!changes.newKeys().contains(key)) {
+				return true;
+			}
+		}
+		for (String host : changes.newFragmentHosts()) {
+			if (closure.symbolicNames().contains(host)) {
+				return true;
+			}
+		}
+		for (String name : changes.newNames()) {
+			if (closure.symbolicNames().contains(name)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Differences between two states relevant for the classpath of projects.
+	 *
+	 * @param newKeys keys of all bundles of the new state
+	 * @param newFragmentHosts names of the hosts of fragments that are only in
+	 *            the new state
+	 * @param newNames symbolic names of the bundles that are only in the new
+	 *            state
+	 */
+	public record StateChanges(Set<String> newKeys, Set<String> newFragmentHosts, Set<String> newNames) {
+	}
+
+	/**
+	 * Computes the differences between the given states.
+	 */
+	public static StateChanges compare(State oldState, State newState) {
+		Set<String> oldKeys = new HashSet<>();
+		for (BundleDescription bundle : oldState.getBundles()) {
+			oldKeys.add(getKey(bundle));
+		}
+		Set<String> newKeys = new HashSet<>();
+		Set<String> newFragmentHosts = new HashSet<>();
+		Set<String> newNames = new HashSet<>();
+		for (BundleDescription bundle : newState.getBundles()) {
+			String key = getKey(bundle);
+			newKeys.add(key);
+			if (oldKeys.contains(key)) {
+				continue;
+			}
+			if (bundle.getSymbolicName() != null) {
+				newNames.add(bundle.getSymbolicName());
+			}
+			HostSpecification host = bundle.getHost();
+			if (host != null) {
+				newFragmentHosts.add(host.getName());
+			}
+		}
+		return new StateChanges(newKeys, newFragmentHosts, newNames);
+	}
+
+	/**
+	 * Returns the keys of the bundles the given bundle is wired to through
+	 * its required bundles, imported packages and host.
+	 */
+	private static Set<String> getWiringKeys(BundleDescription desc) {
+		Set<String> keys = new HashSet<>();
+		if (desc == null) {
+			return keys;
+		}
+		keys.add(desc.isResolved() ? "resolved" : "unresolved"); //$NON-NLS-1$ //$NON-NLS-2$
+		for (BundleDescription required : desc.getResolvedRequires()) {
+			keys.add(getKey(required));
+		}
+		for (ExportPackageDescription imported : desc.getResolvedImports()) {
+			keys.add(imported.getName() + '=' + getKey(imported.getExporter()));
+		}
+		HostSpecification host = desc.getHost();
+		if (host != null) {
+			for (BundleDescription hostDesc : host.getHosts()) {
+				keys.add(getKey(hostDesc));
+			}
+		}
+		return keys;
+	}
+
+	/**
+	 * Returns a key identifying a bundle across states, made of its symbolic
+	 * name, version, location and exported packages.
+	 */
+	private static String getKey(BundleDescription bundle) {
+		StringBuilder key = new StringBuilder();
+		key.append(bundle.getSymbolicName()).append('_').append(bundle.getVersion()).append('@').append(bundle.getLocation());
+		for (ExportPackageDescription export : bundle.getExportPackages()) {
+			key.append(';').append(export.getName()).append('_').append(export.getVersion());
+		}
+		return key.toString();
+	}
+}
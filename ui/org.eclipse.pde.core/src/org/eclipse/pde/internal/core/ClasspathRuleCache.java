@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.ExportPackageDescription;
+import org.eclipse.osgi.service.resolver.State;
+
+/**
+ * Cache of the packages exported by the bundles of the resolved state, from
+ * which the {@link RequiredPluginsClasspathContainer} computes the access
+ * rules of required bundles. Most projects of a workspace share their
+ * dependencies, so the exports of a bundle are read once and reused by the
+ * classpath computations of all projects, which may run concurrently. Whether
+ * an export is discouraged depends on the importing bundle and is decided for
+ * each classpath computation.
+ * <p>
+ * The cache only holds entries for one state and is dropped as soon as a
+ * different state or a new resolution of the state is used, and when
+ * {@link #clear()} is called on a state delta.
+ * </p>
+ */
+final class ClasspathRuleCache {
+
+	/**
+	 * A package exported by a bundle with the directives that control its
+	 * access.
+	 *
+	 * @param path the access rule path of the package
+	 * @param friends the x-friends directive, may be <code>null</code>
+	 * @param internal the x-internal directive
+	 */
+	record ExportRule(IPath path, String[] friends, boolean internal) {
+
+		/**
+		 * @return whether access to the package from the given bundle is
+		 *         discouraged
+		 */
+		boolean isDiscouraged(BundleDescription desc) {
+			if (friends != null) {
+				String symbolicName = desc.getSymbolicName();
+				for (String friend : friends) {
+					if (friend.equals(symbolicName)) {
+						return false;
+					}
+				}
+				return true;
+			}
+			return internal;
+		}
+	}
+
+	private record Entries(State state, long timeStamp, Map<BundleDescription, List<ExportRule>> exports) {
+	}
+
+	private static volatile Entries fgEntries;
+
+	private ClasspathRuleCache() {
+	}
+
+	/**
+	 * Returns the packages exported by the given bundle.
+	 *
+	 * @param desc the exporting bundle
+	 * @return an unmodifiable list of the exported packages
+	 */
+	static List<ExportRule> getExports(BundleDescription desc) {
+		Entries entries = getEntries(desc.getContainingState());
+		if (entries == null) {
+			return computeExports(desc);
+		}
+		return entries.exports().computeIfAbsent(desc, ClasspathRuleCache::computeExports);
+	}
+
+	/**
+	 * Drops all cached rules.
+	 */
+	static void clear() {
+		fgEntries = null;
+	}
+
+	private static Entries getEntries(State state) {
+		if (state == null) {
+			return null;
+		}
+		long timeStamp = state.getTimeStamp();
+		Entries entries = fgEntries;
+		if (entries == null || entries.state() != state || entries.timeStamp() != timeStamp) {
+			// concurrent callers may replace each other's entries, which only
+			// costs a recomputation
+			entries = new Entries(state, timeStamp, new ConcurrentHashMap<>());
+			fgEntries = entries;
+		}
+		return entries;
+	}
+
+	private static List<ExportRule> computeExports(BundleDescription desc) {
+		ExportPackageDescription[] exports = desc.getExportPackages();
+		List<ExportRule> rules = new ArrayList<>(exports.length);
+		for (ExportPackageDescription export : exports) {
+			String[] friends = (String[]) export.getDirective(ICoreConstants.FRIENDS_DIRECTIVE);
+			boolean internal = ((Boolean) export.getDirective(ICoreConstants.INTERNAL_DIRECTIVE)).booleanValue();
+			IPath path = IPath.fromOSString(export.getName().replace('.', '/') + "/*"); //$NON-NLS-1$
+			rules.add(new ExportRule(path, friends, internal));
+		}
+		return Collections.unmodifiableList(rules);
+	}
+}
@@ -358,6 +358,13 @@ public interface ICoreConstants {
 	 */
 	String RUN_API_ANALYSIS_AS_JOB = "Preferences.MainPage.runAPIAnalysisAsJob";//$NON-NLS-1$
 
+	/**
+	 * Integer preference for the maximum number of projects analyzed at the
+	 * same time when API analysis runs as background job. A value of {@code 0}
+	 * does not bound it, as the analyses of different projects do not conflict.
+	 */
+	String API_ANALYSIS_MAX_PARALLEL_JOBS = "Preferences.MainPage.apiAnalysisMaxParallelJobs";//$NON-NLS-1$
+
 	/**
 	 * Boolean preference whether the classpath containers of several projects
 	 * may be computed in parallel when a single update run touches many
@@ -365,6 +372,22 @@ public interface ICoreConstants {
 	 */
 	String UPDATE_CLASSPATH_IN_PARALLEL = "Preferences.MainPage.updateClasspathInParallel";//$NON-NLS-1$
 
+	/**
+	 * Integer preference for the number of threads used to read the manifests
+	 * of the target bundles when the target state is created. A value of
+	 * {@code 0} selects the number of available processors, a value of
+	 * {@code 1} reads all manifests on the calling thread.
+	 */
+	String TARGET_STATE_LOAD_THREADS = "Preferences.MainPage.targetStateLoadThreads";//$NON-NLS-1$
+
+	/**
+	 * Integer preference for the number of threads used to resolve the
+	 * independent locations of a target definition. A value of {@code 0}
+	 * selects the number of available processors, a value of {@code 1}
+	 * resolves all locations on the calling thread.
+	 */
+	String TARGET_RESOLVE_THREADS = "Preferences.MainPage.targetResolveThreads";//$NON-NLS-1$
+
 	/**
 	 * Explicit preference value for {@link #WORKSPACE_TARGET_HANDLE} when the user chooses no
 	 * target for the workspace (no external bundles).
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2005, 2012 IBM Corporation and others.
+ *  Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -18,7 +18,10 @@ import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.util.Enumeration;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.IPath;
@@ -43,6 +46,18 @@ public class JavaElementChangeListener implements IElementChangedListener {
 
 	private final Properties fTable = new Properties();
 
+	/**
+	 * Counts the updates of the table, to know whether a manifest cache
+	 * directory has to be checked again
+	 */
+	private final AtomicLong fTableModCount = new AtomicLong();
+
+	/**
+	 * The modification count of the table when each manifest cache directory
+	 * was last synchronized
+	 */
+	private final Map<File, Long> fSynchronizedDirectories = new ConcurrentHashMap<>();
+
 	public void start() {
 		JavaCore.addElementChangedListener(this, ElementChangedEvent.POST_CHANGE);
 		load();
@@ -135,6 +150,7 @@ public class JavaElementChangeListener implements IElementChangedListener {
 				String id = model.getPluginBase().getId();
 				if (id != null) {
 					fTable.put(id, Long.toString(System.currentTimeMillis()));
+					fTableModCount.incrementAndGet();
 				}
 			}
 		}
@@ -178,7 +194,22 @@ public class JavaElementChangeListener implements IElementChangedListener {
 		}
 	}
 
-	public void synchronizeManifests(File cacheDirectory) {
+	/**
+	 * Deletes the manifests cached in the given directory for the plug-ins
+	 * whose packages changed since the manifests were cached. The directory is
+	 * only checked if the table of changed plug-ins was updated since the
+	 * directory was last synchronized: manifests cached in the meantime are
+	 * newer than all recorded changes.
+	 *
+	 * @param cacheDirectory the manifest cache of a launch configuration area
+	 * @return whether the directory was checked
+	 */
+	public boolean synchronizeManifests(File cacheDirectory) {
+		long modCount = fTableModCount.get();
+		Long synchronizedModCount = fSynchronizedDirectories.put(cacheDirectory.getAbsoluteFile(), modCount);
+		if (synchronizedModCount != null && synchronizedModCount.longValue() == modCount) {
+			return false;
+		}
 		Enumeration<Object> keys = fTable.keys();
 		while (keys.hasMoreElements()) {
 			String id = keys.nextElement().toString();
@@ -190,6 +221,7 @@ public class JavaElementChangeListener implements IElementChangedListener {
 				}
 			}
 		}
+		return true;
 	}
 
 }
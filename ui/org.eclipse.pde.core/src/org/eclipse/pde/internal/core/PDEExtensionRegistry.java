@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2012 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,7 +16,13 @@ package org.eclipse.pde.internal.core;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.core.runtime.IContributor;
 import org.eclipse.core.runtime.IExtension;
@@ -24,6 +30,7 @@ import org.eclipse.core.runtime.IExtensionPoint;
 import org.eclipse.core.runtime.IExtensionRegistry;
 import org.eclipse.core.runtime.IRegistryChangeListener;
 import org.eclipse.core.runtime.RegistryFactory;
+import org.eclipse.core.runtime.spi.IDynamicExtensionRegistry;
 import org.eclipse.core.runtime.spi.RegistryContributor;
 import org.eclipse.osgi.service.resolver.BundleDescription;
 import org.eclipse.pde.core.plugin.IPluginExtension;
@@ -48,6 +55,34 @@ public class PDEExtensionRegistry {
 	private IPluginModelBase[] fModels = null;
 	private final ArrayList<IRegistryChangeListener> fListeners = new ArrayList<>();
 
+	/**
+	 * The extensions of an extension point with the models contributing them.
+	 *
+	 * @param extensions all extensions of the point
+	 * @param models the model of each extension, searched among all models,
+	 *            elements may be <code>null</code>
+	 * @param plugins the distinct models contributing extensions, not
+	 *            searched among the external models shadowed by workspace
+	 *            models
+	 */
+	private record PointEntry(IExtension[] extensions, IPluginModelBase[] models, IPluginModelBase[] plugins) {
+	}
+
+	/** Extensions and contributing models by extension point id */
+	private final Map<String, PointEntry> fPointIndex = new ConcurrentHashMap<>();
+
+	/** Models by the id of the contributor created for them */
+	private final Map<String, IPluginModelBase> fContributorIndex = new ConcurrentHashMap<>();
+
+	/** Incremented whenever the index is updated, so concurrently computed entries do not override updates */
+	private final AtomicLong fIndexModCount = new AtomicLong();
+
+	/**
+	 * Held while the index is updated and while a computed entry is stored,
+	 * so an entry is never stored after an update it does not reflect
+	 */
+	private final Object fIndexLock = new Object();
+
 	private static final String EXTENSION_DIR = ".extensions"; //$NON-NLS-1$
 
 	public PDEExtensionRegistry() {
@@ -112,12 +147,121 @@ public class PDEExtensionRegistry {
 		}
 		CoreUtility.deleteContent(new File(PDECore.getDefault().getStateLocation().toFile(), EXTENSION_DIR));
 		fRegistry = null;
+		clearIndex();
 	}
 
 	// dispose of registry without writing contents.
 	public void dispose() {
 		fStrategy.dispose();
 		fRegistry = null;
+		clearIndex();
+	}
+
+	/**
+	 * Updates the index after the contributions of the given contributor were
+	 * added to the given registry.
+	 */
+	void contributionAdded(IExtensionRegistry registry, IContributor contributor) {
+		contributionChanged(getPointIds(registry, contributor), contributor);
+	}
+
+	/**
+	 * Removes the contributions of the given contributor from the given
+	 * registry and updates the index. Entries computed while the contributions
+	 * are removed are not stored.
+	 */
+	void removeContributor(IExtensionRegistry registry, IContributor contributor, Object key) {
+		Set<String> pointIds = getPointIds(registry, contributor);
+		fIndexModCount.incrementAndGet();
+		((IDynamicExtensionRegistry) registry).removeContributor(contributor, key);
+		contributionChanged(pointIds, contributor);
+	}
+
+	/**
+	 * Returns the ids of the extension points the given contributor declares
+	 * or extends in the given registry
+	 */
+	private static Set<String> getPointIds(IExtensionRegistry registry, IContributor contributor) {
+		Set<String> pointIds = new HashSet<>();
+		for (IExtension extension : registry.getExtensions(contributor)) {
+			pointIds.add(extension.getExtensionPointUniqueIdentifier());
+		}
+		for (IExtensionPoint point : registry.getExtensionPoints(contributor)) {
+			pointIds.add(point.getUniqueIdentifier());
+		}
+		return pointIds;
+	}
+
+	private void contributionChanged(Set<String> pointIds, IContributor contributor) {
+		synchronized (fIndexLock) {
+			fIndexModCount.incrementAndGet();
+			fPointIndex.keySet().removeAll(pointIds);
+			if (contributor instanceof RegistryContributor registryContributor) {
+				fContributorIndex.remove(registryContributor.getActualId());
+			}
+		}
+	}
+
+	/**
+	 * Removes the indexed models of the given delta, which may have been
+	 * replaced without changing their contributions.
+	 */
+	void modelsChanged(PluginModelDelta delta) {
+		Set<String> ids = new HashSet<>();
+		for (ModelEntry[] entries : List.of(delta.getAddedEntries(), delta.getRemovedEntries(), delta.getChangedEntries())) {
+			for (ModelEntry entry : entries) {
+				ids.add(entry.getId());
+			}
+		}
+		synchronized (fIndexLock) {
+			fIndexModCount.incrementAndGet();
+			fContributorIndex.clear();
+			fPointIndex.values().removeIf(entry -> containsAny(entry.models(), ids) || containsAny(entry.plugins(), ids));
+		}
+	}
+
+	private static boolean containsAny(IPluginModelBase[] models, Set<String> ids) {
+		for (IPluginModelBase model : models) {
+			if (model != null && ids.contains(model.getPluginBase().getId())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void clearIndex() {
+		synchronized (fIndexLock) {
+			fIndexModCount.incrementAndGet();
+			fPointIndex.clear();
+			fContributorIndex.clear();
+		}
+	}
+
+	private PointEntry getPointEntry(IExtensionPoint point) {
+		String pointId = point.getUniqueIdentifier();
+		PointEntry entry = fPointIndex.get(pointId);
+		if (entry != null) {
+			return entry;
+		}
+		long modCount = fIndexModCount.get();
+		IExtension[] extensions = point.getExtensions();
+		IPluginModelBase[] models = new IPluginModelBase[extensions.length];
+		LinkedHashSet<IPluginModelBase> plugins = new LinkedHashSet<>();
+		for (int i = 0; i < extensions.length; i++) {
+			IContributor contributor = extensions[i].getContributor();
+			models[i] = getPlugin(contributor, true);
+			IPluginModelBase plugin = getPlugin(contributor, false);
+			if (plugin != null) {
+				plugins.add(plugin);
+			}
+		}
+		entry = new PointEntry(extensions, models, plugins.toArray(new IPluginModelBase[plugins.size()]));
+		synchronized (fIndexLock) {
+			if (fIndexModCount.get() == modCount) {
+				fPointIndex.put(pointId, entry);
+			}
+		}
+		return entry;
 	}
 
 	// Methods to access data in Extension Registry
@@ -128,15 +272,17 @@ public class PDEExtensionRegistry {
 			// if extension point for extension does not exist, search all plug-ins manually
 			return activeOnly ? PluginRegistry.getActiveModels() : PluginRegistry.getAllModels();
 		}
-		IExtension[] exts = point.getExtensions();
-		HashSet<IPluginModelBase> plugins = new HashSet<>();
-		for (IExtension ext : exts) {
-			IPluginModelBase base = getPlugin(ext.getContributor(), false);
-			if (base != null && !plugins.contains(base) && (!activeOnly || base.isEnabled())) {
-				plugins.add(base);
+		IPluginModelBase[] plugins = getPointEntry(point).plugins();
+		if (!activeOnly) {
+			return plugins.clone();
+		}
+		ArrayList<IPluginModelBase> active = new ArrayList<>(plugins.length);
+		for (IPluginModelBase plugin : plugins) {
+			if (plugin.isEnabled()) {
+				active.add(plugin);
 			}
 		}
-		return plugins.toArray(new IPluginModelBase[plugins.size()]);
+		return active.toArray(new IPluginModelBase[active.size()]);
 	}
 
 	/*
@@ -227,14 +373,14 @@ public class PDEExtensionRegistry {
 		ArrayList<IExtension> list = new ArrayList<>();
 		IExtensionPoint point = getExtensionPoint(extensionPointId);
 		if (point != null) {
-			IExtension[] extensions = point.getExtensions();
+			PointEntry entry = getPointEntry(point);
 			if (!activeOnly) {
-				return extensions;
+				return entry.extensions().clone();
 			}
-			for (IExtension extension : extensions) {
-				IPluginModelBase base = getPlugin(extension.getContributor(), true);
+			for (int i = 0; i < entry.extensions().length; i++) {
+				IPluginModelBase base = entry.models()[i];
 				if (base != null && base.isEnabled()) {
-					list.add(extension);
+					list.add(entry.extensions()[i]);
 				}
 			}
 		} else {
@@ -260,11 +406,26 @@ public class PDEExtensionRegistry {
 		if (!(icontributor instanceof RegistryContributor contributor)) {
 			return null;
 		}
+		IPluginModelBase model = fContributorIndex.get(contributor.getActualId());
+		if (model != null) {
+			return model;
+		}
+		long modCount = fIndexModCount.get();
 		long bundleId = Long.parseLong(contributor.getActualId());
 		Resource desc = PDECore.getDefault().getModelManager().getState().getState()
-				.getBundle(Long.parseLong(contributor.getActualId()));
+				.getBundle(bundleId);
 		if (desc != null) {
-			return PluginRegistry.findModel(desc);
+			model = PluginRegistry.findModel(desc);
+			// only models found in the state are indexed, the others depend
+			// on searchAll and on the workspace models with the same name
+			if (model != null) {
+				synchronized (fIndexLock) {
+					if (fIndexModCount.get() == modCount) {
+						fContributorIndex.put(contributor.getActualId(), model);
+					}
+				}
+			}
+			return model;
 		}
 		// desc might be null if the workspace contains a plug-in with the same Bundle-SymbolicName
 		ModelEntry entry = PluginRegistry.findEntry(contributor.getActualName());
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2017 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -74,6 +74,7 @@ public class PDERegistryStrategy extends RegistryStrategy {
 			if (fRegistry == null) {
 				createRegistry();
 			}
+			fPDERegistry.modelsChanged(delta);
 			// can ignore removed models since the ModelEntries is empty
 			ModelEntry[] entries = delta.getChangedEntries();
 			for (int i = 0; i < entries.length; i++) {
@@ -97,7 +98,7 @@ public class PDERegistryStrategy extends RegistryStrategy {
 						IContributor[] contributors = registry.getAllContributors();
 						for (IContributor contributor : contributors) {
 							if (entry.getId().equals(contributor.getName())) {
-								registry.removeContributor(contributor, fKey);
+								fPDERegistry.removeContributor(fRegistry, contributor, fKey);
 								break;
 							}
 						}
@@ -239,13 +240,14 @@ public class PDERegistryStrategy extends RegistryStrategy {
 			}
 		} catch (IOException ignored) {
 		}
+		fPDERegistry.contributionAdded(registry, contributor);
 	}
 
 	private void removeBundle(IExtensionRegistry registry, IPluginModelBase base) {
 		if (registry instanceof IDynamicExtensionRegistry) {
 			IContributor contributor = createContributor(base);
 			if (contributor != null && ((IDynamicExtensionRegistry) registry).hasContributor(contributor)) {
-				((IDynamicExtensionRegistry) registry).removeContributor(createContributor(base), fKey);
+				fPDERegistry.removeContributor(registry, contributor, fKey);
 			}
 		}
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2025 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,10 +18,17 @@ import java.io.File;
 import java.net.URI;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import org.eclipse.core.filesystem.URIUtil;
@@ -30,6 +37,8 @@ import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.osgi.service.resolver.BaseDescription;
 import org.eclipse.osgi.service.resolver.BundleDescription;
@@ -41,6 +50,7 @@ import org.eclipse.pde.internal.core.plugin.ExternalFragmentModel;
 import org.eclipse.pde.internal.core.plugin.ExternalPluginModel;
 import org.eclipse.pde.internal.core.plugin.ExternalPluginModelBase;
 import org.eclipse.pde.internal.core.util.CoreUtility;
+import org.eclipse.pde.internal.core.util.ManifestCache;
 import org.eclipse.pde.internal.core.util.ManifestUtils;
 import org.osgi.framework.Version;
 
@@ -58,11 +68,42 @@ public class PDEState extends MinimalState {
 	 * @param monitor progress monitor
 	 */
 	public PDEState(URI[] target, boolean addResolver, boolean removeDuplicates, IProgressMonitor monitor) {
+		this(target, addResolver, removeDuplicates, null, monitor);
+	}
+
+	/**
+	 * Creates a new PDE State containing bundles from the given URLs, reading
+	 * the manifests of unchanged bundles from the given cache. The cache is
+	 * saved afterwards and then only contains the given target bundles.
+	 *
+	 * @param target urls of target bundles
+	 * @param addResolver whether to add a resolver to the state
+	 * @param removeDuplicates whether to remove duplicate conflicting bundles from the state
+	 * @param manifestCache cache of target manifests, may be {@code null}
+	 * @param monitor progress monitor
+	 */
+	PDEState(URI[] target, boolean addResolver, boolean removeDuplicates, TargetManifestCache manifestCache,
+			IProgressMonitor monitor) {
 		long start = System.currentTimeMillis();
 		fAuxiliaryState = new PDEAuxiliaryState();
 
-		// We no longer try and restore from a cached state as it had no performance benefit
-		createNewTargetState(addResolver, target, monitor);
+		// The OSGi state itself is always created from scratch, only the
+		// manifest headers of unchanged bundles are restored from the cache
+		ManifestLoader loader = manifestCache != null ? manifestCache::loadManifest : ManifestCache::loadManifest;
+		long opensAvoided = ManifestCache.getOpensAvoided();
+		long opens = ManifestCache.getOpens();
+		createNewTargetState(addResolver, target, loader, monitor);
+		if (PDECore.DEBUG_MODEL) {
+			System.out.println("Shared manifest cache: " + (ManifestCache.getOpensAvoided() - opensAvoided) //$NON-NLS-1$
+					+ " bundle open(s) avoided, " + (ManifestCache.getOpens() - opens) + " bundle(s) opened"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		if (manifestCache != null) {
+			manifestCache.save();
+			if (PDECore.DEBUG_MODEL) {
+				System.out.println("Target manifest cache: " + manifestCache.getHits() + " hit(s), " //$NON-NLS-1$ //$NON-NLS-2$
+						+ manifestCache.getMisses() + " miss(es)"); //$NON-NLS-1$
+			}
+		}
 
 		if (removeDuplicates) {
 			removeDuplicatesFromState(fState);
@@ -77,7 +118,8 @@ public class PDEState extends MinimalState {
 		}
 	}
 
-	private void createNewTargetState(boolean resolve, URI[] uris, IProgressMonitor monitor) {
+	private void createNewTargetState(boolean resolve, URI[] uris, ManifestLoader loader,
+			IProgressMonitor monitor) {
 		fState = BundleHelper.getPlatformAdmin().getFactory().createState(resolve);
 		if (resolve) {
 			final String systemBSN = getSystemBundle();
@@ -88,23 +130,100 @@ public class PDEState extends MinimalState {
 		}
 		SubMonitor subMonitor = SubMonitor.convert(monitor, PDECoreMessages.PDEState_CreatingTargetModelState,
 				uris.length);
-		for (URI uri : uris) {
-			File file = toFile(uri);
-			if (file == null) {
-				continue;
+		File[] files = Arrays.stream(uris).map(PDEState::toFile).toArray(File[]::new);
+		int threads = getManifestLoadThreads(files.length);
+		long start = System.currentTimeMillis();
+		if (threads > 1) {
+			addBundlesInParallel(files, threads, loader, subMonitor);
+		} else {
+			for (File file : files) {
+				if (file != null) {
+					subMonitor.subTask(file.getName());
+					addTargetBundle(file, () -> loader.load(file));
+				}
+				subMonitor.split(1);
 			}
-			try {
-				subMonitor.subTask(file.getName());
-				addBundle(file, -1);
-			} catch (CoreException e) {
-				if (e.getStatus().getCode() != ManifestUtils.STATUS_CODE_NOT_A_BUNDLE_MANIFEST) {
-					PDECore.log(e);
+		}
+		if (PDECore.DEBUG_MODEL) {
+			System.out.println("Time to add " + files.length + " target bundles using " + threads + " thread(s): " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					+ (System.currentTimeMillis() - start) + " ms"); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Reads the manifests of the given bundle locations concurrently and adds
+	 * the resulting bundles to the state in the order of the given files, so
+	 * bundle ids and therefore resolution are the same as when reading them
+	 * sequentially.
+	 */
+	private void addBundlesInParallel(File[] files, int threads, ManifestLoader loader, SubMonitor subMonitor) {
+		AtomicInteger threadCount = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(threads, r -> {
+			Thread thread = new Thread(r, "PDE Target State Loader " + threadCount.incrementAndGet()); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			List<Future<Map<String, String>>> manifests = new ArrayList<>(files.length);
+			for (File file : files) {
+				manifests.add(file != null ? executor.submit(() -> loader.load(file)) : null);
+			}
+			for (int i = 0; i < files.length; i++) {
+				File file = files[i];
+				Future<Map<String, String>> manifest = manifests.get(i);
+				if (manifest != null) {
+					subMonitor.subTask(file.getName());
+					addTargetBundle(file, () -> getManifest(manifest));
 				}
+				subMonitor.split(1);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static Map<String, String> getManifest(Future<Map<String, String>> manifest) throws CoreException {
+		try {
+			return manifest.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof CoreException coreException) {
+				throw coreException;
 			}
-			subMonitor.split(1);
+			throw new CoreException(Status.error(e.getCause().getMessage(), e.getCause()));
 		}
 	}
 
+	private void addTargetBundle(File file, ManifestSupplier manifest) {
+		try {
+			addBundle(file, -1, manifest.get());
+		} catch (CoreException e) {
+			if (e.getStatus().getCode() != ManifestUtils.STATUS_CODE_NOT_A_BUNDLE_MANIFEST) {
+				PDECore.log(e);
+			}
+		}
+	}
+
+	private static int getManifestLoadThreads(int bundleCount) {
+		int threads = PDECore.getDefault().getPreferencesManager().getInt(ICoreConstants.TARGET_STATE_LOAD_THREADS);
+		if (threads <= 0) {
+			threads = Runtime.getRuntime().availableProcessors();
+		}
+		return Math.max(1, Math.min(threads, bundleCount));
+	}
+
+	@FunctionalInterface
+	private interface ManifestSupplier {
+		Map<String, String> get() throws CoreException;
+	}
+
+	@FunctionalInterface
+	private interface ManifestLoader {
+		Map<String, String> load(File bundleLocation) throws CoreException;
+	}
+
 	private Comparator<BaseDescription> systemBundlesFirst(String systemBSN) {
 		Function<BaseDescription, Boolean> isSystemBundle = b -> systemBSN.equals(b.getSupplier().getSymbolicName());
 		return Comparator.comparing(isSystemBundle).reversed(); // false<true
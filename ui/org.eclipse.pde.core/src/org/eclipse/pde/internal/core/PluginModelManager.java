@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -42,6 +42,7 @@ import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.osgi.service.resolver.BundleDelta;
 import org.eclipse.osgi.service.resolver.BundleDescription;
 import org.eclipse.osgi.service.resolver.HostSpecification;
+import org.eclipse.osgi.service.resolver.State;
 import org.eclipse.osgi.service.resolver.StateDelta;
 import org.eclipse.pde.core.IModel;
 import org.eclipse.pde.core.IModelProviderEvent;
@@ -55,6 +56,7 @@ import org.eclipse.pde.core.target.ITargetDefinition;
 import org.eclipse.pde.core.target.LoadTargetDefinitionJob;
 import org.eclipse.pde.core.target.TargetBundle;
 import org.eclipse.pde.internal.core.target.P2TargetUtils;
+import org.eclipse.pde.internal.core.util.ManifestCache;
 import org.osgi.resource.Resource;
 
 public class PluginModelManager implements IModelProviderListener {
@@ -227,6 +229,7 @@ public class PluginModelManager implements IModelProviderListener {
 			}
 			// trigger a classpath update for all workspace plug-ins affected by the
 			// processed batch of changes, run asynch for manifest changes
+			ClasspathRuleCache.clear();
 			updateAffectedEntries(stateDelta);
 			fireStateDelta(stateDelta);
 
@@ -238,53 +241,100 @@ public class PluginModelManager implements IModelProviderListener {
 
 	/**
 	 * Trigger a classpath update for all workspace plug-ins affected by the processed
-	 * model changes
+	 * model changes. Besides the plug-ins in the delta these are the plug-ins whose
+	 * computed classpath includes a bundle of the delta.
 	 *
 	 * @param delta  a state delta containing a list of bundles affected by the processed
-	 * 				changes, may be <code>null</code> to indicate the entire target has changed
+	 * 				changes
 	 */
 	private void updateAffectedEntries(StateDelta delta) {
 		Set<IProject> updates = new LinkedHashSet<>();
-		if (delta == null) {
-			// if the delta is null, then the entire target changed.
-			// Therefore, we should update the classpath for all workspace plug-ins.
-			IPluginModelBase[] models = getWorkspaceModels();
-			for (IPluginModelBase model : models) {
-				IProject project = model.getUnderlyingResource().getProject();
+		Set<IProject> dependents = new HashSet<>();
+		BundleDelta[] deltas = delta.getChanges();
+		for (BundleDelta bundleDelta : deltas) {
+			// update classpath for workspace plug-ins that are housed in a
+			// Java project hand have been affected by the processed model
+			// changes.
+			BundleDescription bundle = bundleDelta.getBundle();
+			IPluginModelBase model = findModel(bundle);
+			IResource resource = model == null ? null : model.getUnderlyingResource();
+			if (resource != null) {
+				IProject project = resource.getProject();
 				updates.add(project);
 			}
-		} else {
-			BundleDelta[] deltas = delta.getChanges();
-			for (BundleDelta bundleDelta : deltas) {
-				// update classpath for workspace plug-ins that are housed in a
-				// Java project hand have been affected by the processed model
-				// changes.
-				IPluginModelBase model = findModel(bundleDelta.getBundle());
-				IResource resource = model == null ? null : model.getUnderlyingResource();
-				if (resource != null) {
-					IProject project = resource.getProject();
-					updates.add(project);
-				}
+			// and those whose classpath includes the changed bundle or the
+			// host of a changed fragment
+			if (bundle.getSymbolicName() != null) {
+				ClasspathDependencyIndex.addDependentProjects(bundle.getSymbolicName(), dependents);
+			}
+			HostSpecification host = bundle.getHost();
+			if (host != null) {
+				ClasspathDependencyIndex.addDependentProjects(host.getName(), dependents);
+			}
+		}
+		List<IProject> skipped = new ArrayList<>();
+		IPluginModelBase[] models = getWorkspaceModels();
+		for (IPluginModelBase model : models) {
+			IProject project = model.getUnderlyingResource().getProject();
+			if (updates.contains(project)) {
+				continue;
+			}
+			if (dependents.contains(project)) {
+				updates.add(project);
+				continue;
 			}
-			// do secondary dependencies
-			IPluginModelBase[] models = getWorkspaceModels();
-			for (IPluginModelBase model : models) {
-				IProject project = model.getUnderlyingResource().getProject();
-				if (updates.contains(project)) {
+			// do secondary dependencies of plug-ins whose classpath is not known
+			try {
+				IBuild build = ClasspathUtilCore.getBuild(model);
+				if (build != null && build.getEntry(IBuildEntry.SECONDARY_DEPENDENCIES) != null
+						&& !ClasspathDependencyIndex.isRecorded(project)) {
+					updates.add(project);
 					continue;
 				}
-				try {
-					IBuild build = ClasspathUtilCore.getBuild(model);
-					if (build != null && build.getEntry(IBuildEntry.SECONDARY_DEPENDENCIES) != null) {
-						updates.add(project);
-					}
-				} catch (CoreException e) {
-				}
+			} catch (CoreException e) {
 			}
+			skipped.add(project);
 		}
+		traceSkippedUpdates(updates, skipped);
 		ClasspathContainerState.requestClasspathUpdate(updates);
 	}
 
+	/**
+	 * Trigger a classpath update for all workspace plug-ins affected by
+	 * replacing the given state with the current one, which happens when the
+	 * entire target changed. These are the plug-ins that are wired
+	 * differently or whose computed classpath includes a bundle that is no
+	 * longer in the state or changed.
+	 *
+	 * @param oldState the state before the target changed
+	 */
+	private void updateAffectedEntries(State oldState) {
+		ClasspathDependencyIndex.StateChanges changes = ClasspathDependencyIndex.compare(oldState, fState.getState());
+		Set<IProject> updates = new LinkedHashSet<>();
+		List<IProject> skipped = new ArrayList<>();
+		IPluginModelBase[] models = getWorkspaceModels();
+		for (IPluginModelBase model : models) {
+			IProject project = model.getUnderlyingResource().getProject();
+			if (ClasspathDependencyIndex.isAffected(project, model.getBundleDescription(), changes)) {
+				updates.add(project);
+			} else {
+				skipped.add(project);
+			}
+		}
+		traceSkippedUpdates(updates, skipped);
+		ClasspathContainerState.requestClasspathUpdate(updates);
+	}
+
+	private static void traceSkippedUpdates(Set<IProject> updates, List<IProject> skipped) {
+		if (PDECore.DEBUG_CLASSPATH && !skipped.isEmpty()) {
+			System.out.println("Classpath update requested for " + updates.size() + " project(s), skipped " //$NON-NLS-1$ //$NON-NLS-2$
+					+ skipped.size() + " unaffected project(s):"); //$NON-NLS-1$
+			for (IProject project : skipped) {
+				System.out.println("	" + project.getName()); //$NON-NLS-1$
+			}
+		}
+	}
+
 	/**
 	 * Notify all interested listeners in changes made to the master table
 	 *
@@ -482,19 +532,26 @@ public class PluginModelManager implements IModelProviderListener {
 		}
 
 		long startTargetModels = System.currentTimeMillis();
-		// Target models
-		URI[] externalUris = getExternalBundles(subMon.split(40));
-		if (subMon.isCanceled()) {
-			// If target resolution is cancelled, externalUrls will be empty. Log warning so user knows how to reload the target.
-			if (PDECore.DEBUG_MODEL) {
-				System.out.println("Target platform initialization cancelled by user"); //$NON-NLS-1$
+		// Target models, manifests read while resolving the target are shared
+		// with the state until it is created
+		URI[] externalUris;
+		ManifestCache.open();
+		try {
+			externalUris = getExternalBundles(subMon.split(40));
+			if (subMon.isCanceled()) {
+				// If target resolution is cancelled, externalUrls will be empty. Log warning so user knows how to reload the target.
+				if (PDECore.DEBUG_MODEL) {
+					System.out.println("Target platform initialization cancelled by user"); //$NON-NLS-1$
+				}
+				PDECore.log(Status.warning(PDECoreMessages.PluginModelManager_TargetInitCancelledLog));
+				// Set a flag so the feature model manager can avoid starting the target resolve again
+				fCancelled = true;
 			}
-			PDECore.log(Status.warning(PDECoreMessages.PluginModelManager_TargetInitCancelledLog));
-			// Set a flag so the feature model manager can avoid starting the target resolve again
-			fCancelled = true;
-		}
 
-		fState = new PDEState(externalUris, true, true, subMon.split(15));
+			fState = new PDEState(externalUris, true, true, TargetManifestCache.load(), subMon.split(15));
+		} finally {
+			ManifestCache.close();
+		}
 		fExternalManager.setModels(fState.getTargetModels());
 		addToTable(entries, fExternalManager.getAllModels());
 
@@ -529,9 +586,10 @@ public class PluginModelManager implements IModelProviderListener {
 		fEntries = entries;
 		// flush the extension registry cache since workspace data (BundleDescription id's) have changed.
 		PDECore.getDefault().getExtensionsRegistry().targetReloaded();
+		ClasspathRuleCache.clear();
 		if (oldState != null) {
 			// Need to update classpath entries
-			updateAffectedEntries(null);
+			updateAffectedEntries(oldState.getState());
 		}
 
 		// Fire a state change event to touch all projects if the target content has changed since last model init
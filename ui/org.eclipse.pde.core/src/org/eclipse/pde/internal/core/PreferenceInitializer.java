@@ -77,7 +77,10 @@ public class PreferenceInitializer extends AbstractPreferenceInitializer {
 		corePrefs.setDefault(ICoreConstants.WORKSPACE_PLUGINS_OVERRIDE_TARGET, true);
 		corePrefs.setDefault(ICoreConstants.DISABLE_API_ANALYSIS_BUILDER, false);
 		corePrefs.setDefault(ICoreConstants.RUN_API_ANALYSIS_AS_JOB, false);
+		corePrefs.setDefault(ICoreConstants.API_ANALYSIS_MAX_PARALLEL_JOBS, 0);
 		corePrefs.setDefault(ICoreConstants.UPDATE_CLASSPATH_IN_PARALLEL, true);
+		corePrefs.setDefault(ICoreConstants.TARGET_STATE_LOAD_THREADS, 0);
+		corePrefs.setDefault(ICoreConstants.TARGET_RESOLVE_THREADS, 0);
 		corePrefs.setDefault(ICoreConstants.TEST_PLUGIN_PATTERN, ICoreConstants.TEST_PLUGIN_PATTERN_DEFAULTVALUE);
 	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2023 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -64,6 +64,7 @@ import org.eclipse.pde.core.plugin.PluginRegistry;
 import org.eclipse.pde.core.target.NameVersionDescriptor;
 import org.eclipse.pde.internal.build.BundleHelper;
 import org.eclipse.pde.internal.build.IBuildPropertiesConstants;
+import org.eclipse.pde.internal.core.ClasspathRuleCache.ExportRule;
 import org.eclipse.pde.internal.core.PDEClasspathContainer.Rule;
 import org.eclipse.pde.internal.core.bnd.BndProjectManager;
 import org.eclipse.pde.internal.core.ibundle.IBundlePluginModelBase;
@@ -292,6 +293,10 @@ class RequiredPluginsClasspathContainer {
 			entries.addAll(getClasspathContributors().filter(IClasspathContributor2.class::isInstance)
 					.map(IClasspathContributor2.class::cast).flatMap(cc -> cc.getAdditionalEntries(desc)).toList());
 
+			if (project != null) {
+				ClasspathDependencyIndex.record(project, desc, added, getExtraDependencyNames());
+			}
+
 		return entries;
 	}
 
@@ -670,6 +675,26 @@ class RequiredPluginsClasspathContainer {
 		}
 	}
 
+	/**
+	 * Returns the ids of the plug-ins added to the classpath by id, which are
+	 * secondary and implicit dependencies.
+	 */
+	private List<String> getExtraDependencyNames() {
+		List<String> names = new ArrayList<>();
+		if (fBuild != null) {
+			IBuildEntry entry = fBuild.getEntry(IBuildEntry.SECONDARY_DEPENDENCIES);
+			if (entry != null) {
+				names.addAll(Arrays.asList(entry.getTokens()));
+			}
+		}
+		for (NameVersionDescriptor entry : DependencyManager.getImplicitDependencies()) {
+			if (entry.getId() != null) {
+				names.add(entry.getId());
+			}
+		}
+		return names;
+	}
+
 	private void addImplicitDependencies(BundleDescription desc, Set<BundleDescription> added,
 			List<IClasspathEntry> entries) throws CoreException {
 		for (NameVersionDescriptor entry : DependencyManager.getImplicitDependencies()) {
@@ -728,12 +753,9 @@ class RequiredPluginsClasspathContainer {
 				if (map.containsKey(bdesc)) {
 					continue;
 				}
-				ExportPackageDescription[] expkgs = bdesc.getExportPackages();
 				LinkedHashSet<Rule> rules = new LinkedHashSet<>();
-				for (ExportPackageDescription expkg : expkgs) {
-					boolean discouraged = restrictPackage(projectDesc, expkg);
-					IPath path = IPath.fromOSString(expkg.getName().replace('.', '/') + "/*"); //$NON-NLS-1$
-					rules.add(new Rule(path, discouraged));
+				for (ExportRule export : ClasspathRuleCache.getExports(bdesc)) {
+					rules.add(new Rule(export.path(), export.isDiscouraged(projectDesc)));
 				}
 				map.put(bdesc, rules);
 
@@ -752,15 +774,6 @@ class RequiredPluginsClasspathContainer {
 		}
 	}
 
-	private boolean restrictPackage(BundleDescription desc, ExportPackageDescription pkg) {
-		String[] friends = (String[]) pkg.getDirective(ICoreConstants.FRIENDS_DIRECTIVE);
-		if (friends != null) {
-			String symbolicName = desc.getSymbolicName();
-			return Arrays.stream(friends).noneMatch(symbolicName::equals);
-		}
-		return (((Boolean) pkg.getDirective(ICoreConstants.INTERNAL_DIRECTIVE)).booleanValue());
-	}
-
 	private void addExtraLibrary(IPath path, IPluginModelBase model, List<IClasspathEntry> entries) {
 		if (path.segmentCount() > 1) {
 			IPath srcPath = null;
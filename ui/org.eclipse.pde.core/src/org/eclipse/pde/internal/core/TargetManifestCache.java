@@ -0,0 +1,248 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarFile;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.osgi.util.NLS;
+import org.eclipse.pde.internal.core.util.ManifestCache;
+import org.eclipse.pde.internal.core.util.ManifestUtils;
+import org.eclipse.pde.internal.core.util.UtilMessages;
+
+/**
+ * Persistent cache of the manifest headers of target bundles. An entry is
+ * keyed by the absolute bundle location and is only used as long as the size
+ * and modification time of the bundle jar (or of the manifest file of a
+ * directory bundle) are unchanged, so unchanged bundles do not need to be
+ * opened when the target state is created again. Manifests missing in this
+ * cache are taken from the {@link ManifestCache} if they were already read
+ * while resolving the target.
+ * <p>
+ * Locations that turned out not to be bundles are remembered as well. The
+ * cache is written in a compact binary format and only contains the entries
+ * that were requested since it was loaded, so bundles removed from the target
+ * are dropped on the next save. It is only written again if an entry was
+ * added, changed or dropped.
+ * </p>
+ */
+public class TargetManifestCache {
+
+	private static final String CACHE_FILE_NAME = "targetManifests.cache"; //$NON-NLS-1$
+
+	/** Must be incremented whenever the binary format changes */
+	private static final int FORMAT_VERSION = 1;
+
+	private record Entry(long size, long lastModified, Map<String, String> manifest) {
+		boolean isBundle() {
+			return manifest != null;
+		}
+	}
+
+	private final File fCacheFile;
+	private final Map<String, Entry> fPreviousEntries;
+	private final Map<String, Entry> fCurrentEntries = new ConcurrentHashMap<>();
+	private final AtomicInteger fHits = new AtomicInteger();
+	private final AtomicInteger fMisses = new AtomicInteger();
+
+	private TargetManifestCache(File cacheFile, Map<String, Entry> previousEntries) {
+		fCacheFile = cacheFile;
+		fPreviousEntries = previousEntries;
+	}
+
+	/**
+	 * Loads the cache persisted in the PDE state location. If it does not
+	 * exist or cannot be read an empty cache is returned.
+	 *
+	 * @return the target manifest cache, never {@code null}
+	 */
+	static TargetManifestCache load() {
+		return load(PDECore.getDefault().getStateLocation().append(CACHE_FILE_NAME).toFile());
+	}
+
+	/**
+	 * Loads the cache persisted in the given file. If it does not exist or
+	 * cannot be read an empty cache is returned.
+	 *
+	 * @param cacheFile the file the cache is read from and written to
+	 * @return the target manifest cache, never {@code null}
+	 */
+	public static TargetManifestCache load(File cacheFile) {
+		Map<String, Entry> entries = new HashMap<>();
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(cacheFile)))) {
+			if (in.readInt() == FORMAT_VERSION) {
+				int count = in.readInt();
+				for (int i = 0; i < count; i++) {
+					String location = readString(in);
+					long size = in.readLong();
+					long lastModified = in.readLong();
+					int headerCount = in.readInt();
+					Map<String, String> manifest = null;
+					if (headerCount >= 0) {
+						manifest = new HashMap<>(headerCount * 4 / 3 + 1);
+						for (int j = 0; j < headerCount; j++) {
+							manifest.put(readString(in), readString(in));
+						}
+					}
+					entries.put(location, new Entry(size, lastModified, manifest));
+				}
+			}
+		} catch (FileNotFoundException e) {
+			// no cache yet
+		} catch (IOException e) {
+			entries.clear();
+			PDECore.log(Status.warning("Could not read target manifest cache " + cacheFile, e)); //$NON-NLS-1$
+		}
+		return new TargetManifestCache(cacheFile, entries);
+	}
+
+	/**
+	 * Returns the manifest of the given bundle location, either from the cache
+	 * if the bundle is unchanged or by reading it from the bundle. This method
+	 * may be called concurrently.
+	 *
+	 * @param bundleLocation root location of the bundle, an archive or a
+	 *            directory
+	 * @return a modifiable map of the manifest headers, case sensitive for
+	 *         directory bundles like the one read by
+	 *         {@link ManifestUtils#loadManifest(File)}
+	 * @throws CoreException see {@link ManifestUtils#loadManifest(File)}
+	 */
+	public Map<String, String> loadManifest(File bundleLocation) throws CoreException {
+		String key = bundleLocation.getAbsolutePath();
+		boolean directory = bundleLocation.isDirectory();
+		File stampFile = directory ? new File(bundleLocation, JarFile.MANIFEST_NAME) : bundleLocation;
+		long size = stampFile.length();
+		long lastModified = stampFile.lastModified();
+
+		Entry entry = fPreviousEntries.get(key);
+		if (entry != null && entry.size() == size && entry.lastModified() == lastModified) {
+			fHits.incrementAndGet();
+			fCurrentEntries.put(key, entry);
+			if (!entry.isBundle()) {
+				throw new CoreException(new Status(IStatus.ERROR, PDECore.PLUGIN_ID,
+						ManifestUtils.STATUS_CODE_NOT_A_BUNDLE_MANIFEST,
+						NLS.bind(UtilMessages.ErrorReadingManifest, key), null));
+			}
+			return copyOf(entry.manifest(), directory);
+		}
+		fMisses.incrementAndGet();
+		try {
+			Map<String, String> manifest = ManifestCache.loadManifest(bundleLocation);
+			fCurrentEntries.put(key, new Entry(size, lastModified, new HashMap<>(manifest)));
+			return manifest;
+		} catch (CoreException e) {
+			if (e.getStatus().getCode() == ManifestUtils.STATUS_CODE_NOT_A_BUNDLE_MANIFEST) {
+				fCurrentEntries.put(key, new Entry(size, lastModified, null));
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Writes all entries requested since this cache was loaded to disk, unless
+	 * they are the same as the loaded ones.
+	 */
+	public void save() {
+		if (!isChanged()) {
+			return;
+		}
+		fCacheFile.getParentFile().mkdirs();
+		try (DataOutputStream out = new DataOutputStream(
+				new BufferedOutputStream(new FileOutputStream(fCacheFile)))) {
+			out.writeInt(FORMAT_VERSION);
+			Map<String, Entry> entries = new TreeMap<>(fCurrentEntries);
+			out.writeInt(entries.size());
+			for (Map.Entry<String, Entry> e : entries.entrySet()) {
+				Entry entry = e.getValue();
+				writeString(out, e.getKey());
+				out.writeLong(entry.size());
+				out.writeLong(entry.lastModified());
+				if (entry.isBundle()) {
+					out.writeInt(entry.manifest().size());
+					for (Map.Entry<String, String> header : entry.manifest().entrySet()) {
+						writeString(out, header.getKey());
+						writeString(out, header.getValue());
+					}
+				} else {
+					out.writeInt(-1);
+				}
+			}
+		} catch (IOException e) {
+			fCacheFile.delete();
+			PDECore.log(Status.warning("Could not write target manifest cache " + fCacheFile, e)); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * @return whether an entry was added or changed since the cache was
+	 *         loaded, or a loaded entry was not requested again
+	 */
+	private boolean isChanged() {
+		// every requested entry that was not a hit is new or changed
+		return fMisses.get() > 0 || fCurrentEntries.size() != fPreviousEntries.size();
+	}
+
+	public int getHits() {
+		return fHits.get();
+	}
+
+	public int getMisses() {
+		return fMisses.get();
+	}
+
+	private static Map<String, String> copyOf(Map<String, String> manifest, boolean directory) {
+		if (directory) {
+			return new HashMap<>(manifest);
+		}
+		// manifests read from jars use case insensitive keys
+		Map<String, String> copy = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+		copy.putAll(manifest);
+		return copy;
+	}
+
+	// DataOutput.writeUTF is limited to 64k, which large Export-Package headers exceed
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length < 0) {
+			throw new IOException("Corrupt string length " + length); //$NON-NLS-1$
+		}
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
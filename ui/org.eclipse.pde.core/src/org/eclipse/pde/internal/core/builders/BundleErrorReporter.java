@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,7 +24,6 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Deque;
 import java.util.Enumeration;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Hashtable;
 import java.util.List;
@@ -62,7 +61,6 @@ import org.eclipse.osgi.service.resolver.ExportPackageDescription;
 import org.eclipse.osgi.service.resolver.HostSpecification;
 import org.eclipse.osgi.service.resolver.ImportPackageSpecification;
 import org.eclipse.osgi.service.resolver.ResolverError;
-import org.eclipse.osgi.service.resolver.State;
 import org.eclipse.osgi.service.resolver.StateObjectFactory;
 import org.eclipse.osgi.service.resolver.VersionConstraint;
 import org.eclipse.osgi.util.ManifestElement;
@@ -119,7 +117,28 @@ public class BundleErrorReporter extends JarManifestErrorReporter {
 
 		fModel = PluginRegistry.findModel(fProject);
 		// be paranoid.  something could have gone wrong reading the file etc.
-		if (fModel == null || !validateBundleSymbolicName()) {
+		if (fModel == null) {
+			return;
+		}
+
+		String key = ManifestValidationCache.getKey(fModel, fTextDocument.get());
+		if (key != null) {
+			List<Map<String, Object>> markers = ManifestValidationCache.get(fProject, key);
+			if (markers != null) {
+				markers.forEach(this::addMarker);
+				return;
+			}
+		}
+		int reported = getReportedMarkers().size();
+		validateBundle(monitor);
+		if (key != null) {
+			List<VirtualMarker> markers = getReportedMarkers();
+			ManifestValidationCache.put(fProject, key, markers.subList(reported, markers.size()));
+		}
+	}
+
+	private void validateBundle(IProgressMonitor monitor) {
+		if (!validateBundleSymbolicName()) {
 			return;
 		}
 		if (PluginProject.isJavaProject(fProject)) {
@@ -1207,7 +1226,7 @@ public class BundleErrorReporter extends JarManifestErrorReporter {
 			}
 		}
 
-		HashMap<String, ExportPackageDescription> exported = getAvailableExportedPackages(desc.getContainingState());
+		Map<String, ExportPackageDescription> exported = ManifestValidationCache.getAvailableExportedPackages(desc.getContainingState());
 
 		ImportPackageSpecification[] imports = desc.getImportPackages();
 		if (desc.hasDynamicImports()) {
@@ -1276,26 +1295,6 @@ public class BundleErrorReporter extends JarManifestErrorReporter {
 		}
 	}
 
-	private HashMap<String, ExportPackageDescription> getAvailableExportedPackages(State state) {
-		BundleDescription[] bundles = state.getBundles();
-
-		HashMap<String, ExportPackageDescription> exported = new HashMap<>();
-		for (BundleDescription bundle : bundles) {
-			ExportPackageDescription[] exports = bundle.getExportPackages();
-			for (ExportPackageDescription export : exports) {
-				String name = export.getName();
-				if (exported.containsKey(name)) {
-					if (export.getSupplier().isResolved()) {
-						exported.put(name, export);
-					}
-				} else {
-					exported.put(name, export);
-				}
-			}
-		}
-		return exported;
-	}
-
 	protected void validateExportPackage(IProgressMonitor monitor) {
 		IHeader header = getHeader(Constants.EXPORT_PACKAGE);
 		if (header == null) {
@@ -57,7 +57,12 @@ public class DependencyLoopFinder {
 		if (candidates != null) {
 			rootDependencies.addAll(Arrays.asList(candidates));
 		}
-		search.restrictToLoopMembers(rootDependencies);
+		Set<String> component = candidates == null ? DependencyLoopIndex.getComponent(root) : null;
+		if (component != null) {
+			search.setLoopMembers(component);
+		} else {
+			search.restrictToLoopMembers(rootDependencies);
+		}
 		search.collectLoops(root, rootDependencies);
 		return search.loops();
 	}
@@ -77,6 +82,16 @@ public class DependencyLoopFinder {
 			this.rootId = rootId;
 		}
 
+		/**
+		 * Narrows the search to the other members of the strongly connected
+		 * component of the root, which are exactly the plug-ins that can sit
+		 * on a cycle through it.
+		 */
+		void setLoopMembers(Set<String> component) {
+			loopMembers = new HashSet<>(component);
+			loopMembers.remove(rootId);
+		}
+
 		/**
 		 * Narrows the search to the plug-ins that can actually sit on a cycle
 		 * through the root, that is those reachable from the root that also
@@ -173,7 +188,7 @@ public class DependencyLoopFinder {
 		}
 	}
 
-	private static IPlugin findPlugin(String id) {
+	static IPlugin findPlugin(String id) {
 		IPluginModelBase childModel = PluginRegistry.findModel(id);
 		if (childModel == null || !(childModel instanceof IPluginModel)) {
 			return null;
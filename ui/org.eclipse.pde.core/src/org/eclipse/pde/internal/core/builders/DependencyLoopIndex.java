@@ -0,0 +1,259 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.builders;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.pde.core.plugin.IPlugin;
+import org.eclipse.pde.core.plugin.IPluginImport;
+import org.eclipse.pde.core.plugin.IPluginModel;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.ModelEntry;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.internal.core.IPluginModelListener;
+import org.eclipse.pde.internal.core.PluginModelDelta;
+import org.eclipse.pde.internal.core.PluginModelManager;
+
+/**
+ * Strongly connected components of the graph of all plug-ins, whose edges are
+ * the required plug-ins as seen by the {@link DependencyLoopFinder}. A
+ * plug-in sits on a dependency loop exactly if its component has more than
+ * one member or it requires itself, and the plug-ins that may appear in a
+ * loop through it are the members of its component.
+ * <p>
+ * The graph is built once per resolved state. Plug-in model deltas only mark
+ * the plug-ins they name, whose required plug-ins are read again on the next
+ * lookup before the components are computed again with Tarjan's algorithm,
+ * which is linear in the size of the graph.
+ * </p>
+ * <p>
+ * Lookups hold the lock of this class while they query the registry, which
+ * notifies its listeners while holding its own lock. The listener therefore
+ * only records the changed plug-ins and never takes the lock of this class.
+ * </p>
+ */
+final class DependencyLoopIndex implements IPluginModelListener {
+
+	private static DependencyLoopIndex fgInstance;
+
+	/** The state the graph was built for */
+	private State fState;
+
+	/** All plug-ins of the graph by id */
+	private final Map<String, IPlugin> fPlugins = new HashMap<>();
+
+	/** Ids of the plug-ins required by each plug-in of the graph */
+	private final Map<String, List<String>> fImports = new HashMap<>();
+
+	/**
+	 * Ids of the plug-ins changed since the graph was last updated, added to
+	 * by the listener without holding the lock of this class
+	 */
+	private final Set<String> fChangedIds = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Components with more than one member by the id of each member, or
+	 * <code>null</code> if they must be computed again
+	 */
+	private Map<String, Set<String>> fComponents;
+
+	private DependencyLoopIndex() {
+	}
+
+	/**
+	 * Returns the ids of the plug-ins in the strongly connected component of
+	 * the given plug-in, including the plug-in itself.
+	 *
+	 * @param plugin the plug-in, which may be a working copy of a plug-in of
+	 *            the registry
+	 * @return the ids of the members of the component or <code>null</code> if
+	 *         the given plug-in does not require the same plug-ins as the
+	 *         plug-in with the same id in the graph
+	 */
+	static synchronized Set<String> getComponent(IPlugin plugin) {
+		if (fgInstance == null) {
+			fgInstance = new DependencyLoopIndex();
+			PluginModelManager.getInstance().addPluginModelListener(fgInstance);
+		}
+		return fgInstance.findComponent(plugin);
+	}
+
+	/**
+	 * Stops listening to the registry and drops the index.
+	 */
+	static synchronized void shutdown() {
+		if (fgInstance != null) {
+			PluginModelManager.getInstance().removePluginModelListener(fgInstance);
+			fgInstance = null;
+		}
+	}
+
+	@Override
+	public void modelsChanged(PluginModelDelta delta) {
+		for (ModelEntry[] entries : List.of(delta.getAddedEntries(), delta.getRemovedEntries(),
+				delta.getChangedEntries())) {
+			for (ModelEntry entry : entries) {
+				if (entry.getId() != null) {
+					fChangedIds.add(entry.getId());
+				}
+			}
+		}
+	}
+
+	private Set<String> findComponent(IPlugin plugin) {
+		String id = plugin.getId();
+		if (id == null) {
+			return null;
+		}
+		update();
+		if (!fPlugins.containsKey(id) || !fImports.get(id).equals(getImportIds(plugin))) {
+			return null;
+		}
+		if (fComponents == null) {
+			fComponents = computeComponents();
+		}
+		Set<String> component = fComponents.get(id);
+		return component != null ? component : Set.of(id);
+	}
+
+	/**
+	 * Builds the graph again if the state was replaced, or reads the required
+	 * plug-ins of the changed plug-ins again.
+	 */
+	private void update() {
+		State state = PluginModelManager.getInstance().getState().getState();
+		if (state != fState) {
+			fState = state;
+			fPlugins.clear();
+			fImports.clear();
+			fChangedIds.clear();
+			fComponents = null;
+			for (IPluginModelBase model : PluginRegistry.getAllModels()) {
+				String id = model.getPluginBase().getId();
+				if (model instanceof IPluginModel && id != null) {
+					fChangedIds.add(id);
+				}
+			}
+		}
+		Iterator<String> changed = fChangedIds.iterator();
+		while (changed.hasNext()) {
+			String id = changed.next();
+			changed.remove();
+			fComponents = null;
+			IPlugin plugin = DependencyLoopFinder.findPlugin(id);
+			if (plugin != null) {
+				fPlugins.put(id, plugin);
+				fImports.put(id, getImportIds(plugin));
+			} else {
+				fPlugins.remove(id);
+				fImports.remove(id);
+			}
+		}
+	}
+
+	/**
+	 * Computes the strongly connected components of the graph with an
+	 * iterative version of Tarjan's algorithm, as the graph may be too deep for
+	 * a recursive one.
+	 */
+	private Map<String, Set<String>> computeComponents() {
+		Map<String, Set<String>> components = new HashMap<>();
+		Map<String, Integer> indices = new HashMap<>();
+		Set<String> onStack = new HashSet<>();
+		Deque<String> stack = new ArrayDeque<>();
+		Deque<Visit> visits = new ArrayDeque<>();
+		for (String start : fPlugins.keySet()) {
+			if (indices.containsKey(start)) {
+				continue;
+			}
+			visits.push(new Visit(start, indices.size()));
+			indices.put(start, indices.size());
+			stack.push(start);
+			onStack.add(start);
+			while (!visits.isEmpty()) {
+				Visit visit = visits.peek();
+				if (visit.imports.hasNext()) {
+					String next = visit.imports.next();
+					if (!fPlugins.containsKey(next)) {
+						continue;
+					}
+					Integer index = indices.get(next);
+					if (index == null) {
+						visits.push(new Visit(next, indices.size()));
+						indices.put(next, indices.size());
+						stack.push(next);
+						onStack.add(next);
+					} else if (onStack.contains(next)) {
+						visit.lowLink = Math.min(visit.lowLink, index);
+					}
+					continue;
+				}
+				visits.pop();
+				if (visit.lowLink == indices.get(visit.id)) {
+					Set<String> component = new HashSet<>();
+					String member;
+					do {
+						member = stack.pop();
+						onStack.remove(member);
+						component.add(member);
+					} while (!member.equals(visit.id));
+					if (component.size() > 1) {
+						Set<String> members = Collections.unmodifiableSet(component);
+						for (String id : component) {
+							components.put(id, members);
+						}
+					}
+				} else {
+					Visit parent = visits.peek();
+					parent.lowLink = Math.min(parent.lowLink, visit.lowLink);
+				}
+			}
+		}
+		return components;
+	}
+
+	private final class Visit {
+
+		final String id;
+		final Iterator<String> imports;
+		int lowLink;
+
+		Visit(String id, int index) {
+			this.id = id;
+			this.imports = fImports.get(id).iterator();
+			this.lowLink = index;
+		}
+	}
+
+	private static List<String> getImportIds(IPlugin plugin) {
+		List<String> ids = new ArrayList<>();
+		for (IPluginImport iimport : plugin.getImports()) {
+			if (iimport.getId() != null) {
+				ids.add(iimport.getId());
+			}
+		}
+		return ids;
+	}
+}
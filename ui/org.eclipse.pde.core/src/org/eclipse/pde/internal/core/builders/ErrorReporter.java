@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2005, 2020 IBM Corporation and others.
+ *  Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,9 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.core.builders;
 
+import java.util.List;
+import java.util.Map;
+
 import org.eclipse.core.filebuffers.FileBuffers;
 import org.eclipse.core.filebuffers.ITextFileBuffer;
 import org.eclipse.core.filebuffers.ITextFileBufferManager;
@@ -46,6 +49,14 @@ public abstract class ErrorReporter {
 		return fErrorReporter.addMarker(message, lineNumber, severity, problemID, category);
 	}
 
+	protected VirtualMarker addMarker(Map<String, Object> attributes) {
+		return fErrorReporter.addMarker(attributes);
+	}
+
+	protected List<VirtualMarker> getReportedMarkers() {
+		return fErrorReporter.getReportedMarkers();
+	}
+
 	protected IDocument createDocument(IFile file) {
 		if (!file.exists()) {
 			return null;
@@ -14,9 +14,10 @@
 package org.eclipse.pde.internal.core.builders;
 
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.core.resources.IMarker;
@@ -28,7 +29,7 @@ public class IncrementalErrorReporter {
 
 	private final IResource fResource;
 	private final String fMarkerID;
-	private final Collection<VirtualMarker> fReportedMarkers = new ArrayList<>();
+	private final List<VirtualMarker> fReportedMarkers = new ArrayList<>();
 	private int fErrorCount;
 
 	public IncrementalErrorReporter(IResource file) {
@@ -62,6 +63,31 @@ public class IncrementalErrorReporter {
 		return marker;
 	}
 
+	/**
+	 * Adds a marker with the given attributes, for example attributes of a
+	 * marker reported by an earlier validation.
+	 */
+	public VirtualMarker addMarker(Map<String, Object> attributes) {
+		if (Integer.valueOf(IMarker.SEVERITY_ERROR).equals(attributes.get(IMarker.SEVERITY))) {
+			fErrorCount++;
+		}
+
+		VirtualMarker marker = new VirtualMarker();
+		attributes.forEach(marker::setAttribute);
+
+		fReportedMarkers.add(marker);
+
+		return marker;
+	}
+
+	/**
+	 * @return the markers reported so far and not yet applied, in the order
+	 *         they were reported
+	 */
+	public List<VirtualMarker> getReportedMarkers() {
+		return Collections.unmodifiableList(fReportedMarkers);
+	}
+
 	public void applyMarkers() {
 		IMarker[] existingMarkers;
 		try {
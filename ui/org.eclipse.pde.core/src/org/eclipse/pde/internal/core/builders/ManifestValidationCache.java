@@ -0,0 +1,347 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.builders;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.launching.IVMInstall;
+import org.eclipse.jdt.launching.IVMInstallChangedListener;
+import org.eclipse.jdt.launching.JavaRuntime;
+import org.eclipse.jdt.launching.PropertyChangeEvent;
+import org.eclipse.osgi.service.resolver.BaseDescription;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.BundleSpecification;
+import org.eclipse.osgi.service.resolver.ExportPackageDescription;
+import org.eclipse.osgi.service.resolver.HostSpecification;
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.TargetPlatform;
+import org.eclipse.pde.internal.core.ICoreConstants;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.TargetPlatformHelper;
+import org.eclipse.pde.internal.core.builders.IncrementalErrorReporter.VirtualMarker;
+import org.eclipse.pde.internal.core.natures.BaseProject;
+import org.osgi.framework.wiring.BundleCapability;
+
+/**
+ * Cache of the problems found by the {@link BundleErrorReporter} in the
+ * manifests of workspace projects.
+ * <p>
+ * The problems of a manifest are reused as long as the manifest content, the
+ * wiring of its bundle in the resolved state, the bundles it refers to by
+ * name, the workspace compiler settings, the target environment and the JRE of
+ * the project are the same, and no other file of the project changed since the
+ * problems were found. Only the problems of resolved bundles are cached since
+ * the problems of unresolved bundles depend on the whole state. All problems
+ * are dropped when installed JREs change, as the execution environments they
+ * match change with them.
+ * </p>
+ */
+public final class ManifestValidationCache implements IResourceChangeListener, IVMInstallChangedListener {
+
+	private record Entry(String key, List<Map<String, Object>> markers) {
+	}
+
+	private record ExportedPackages(State state, long timeStamp, Map<String, ExportPackageDescription> packages) {
+	}
+
+	private static final Map<IProject, Entry> fgEntries = new ConcurrentHashMap<>();
+
+	private static volatile ExportedPackages fgExportedPackages;
+
+	private static ManifestValidationCache fgListener;
+
+	private ManifestValidationCache() {
+	}
+
+	/**
+	 * Starts listening to workspace changes that invalidate cached problems.
+	 */
+	static synchronized void start() {
+		if (fgListener == null) {
+			fgListener = new ManifestValidationCache();
+			// changes are broadcast before the build as well since the build
+			// happens before the post change notification
+			PDECore.getWorkspace().addResourceChangeListener(fgListener,
+					IResourceChangeEvent.PRE_BUILD | IResourceChangeEvent.POST_CHANGE);
+			JavaRuntime.addVMInstallChangedListener(fgListener);
+		}
+	}
+
+	/**
+	 * Stops listening to workspace changes and drops all cached problems.
+	 */
+	static synchronized void stop() {
+		if (fgListener != null) {
+			PDECore.getWorkspace().removeResourceChangeListener(fgListener);
+			JavaRuntime.removeVMInstallChangedListener(fgListener);
+			fgListener = null;
+		}
+		fgEntries.clear();
+		fgExportedPackages = null;
+	}
+
+	/**
+	 * Returns the key the problems of the given manifest are cached with.
+	 *
+	 * @param model the model of the project
+	 * @param content the content of the manifest
+	 * @return the key or <code>null</code> if the problems of the manifest
+	 *         must not be cached
+	 */
+	static String getKey(IPluginModelBase model, String content) {
+		BundleDescription desc = model.getBundleDescription();
+		State state = desc == null ? null : desc.getContainingState();
+		if (state == null || !desc.isResolved() || state.getResolverErrors(desc).length > 0) {
+			return null;
+		}
+		StringBuilder key = new StringBuilder(content).append('\n');
+		key.append(getBundleKey(desc)).append('\n');
+		for (BundleDescription required : desc.getResolvedRequires()) {
+			key.append("require=").append(getBundleKey(required)); //$NON-NLS-1$
+			BundleCapability capability = required.getCapability();
+			if (capability != null) {
+				key.append(';').append(capability.getDirectives().get("deprecated")); //$NON-NLS-1$
+			}
+			key.append('\n');
+		}
+		for (ExportPackageDescription imported : desc.getResolvedImports()) {
+			key.append("import=").append(imported.getName()).append('=').append(getBundleKey(imported.getExporter())).append('\n'); //$NON-NLS-1$
+		}
+		HostSpecification host = desc.getHost();
+		if (host != null) {
+			appendBundlesNamed(key, state, host.getName());
+			for (BundleDescription hostDesc : host.getHosts()) {
+				key.append("host=").append(getBundleKey(hostDesc)).append('\n'); //$NON-NLS-1$
+			}
+		}
+		for (BundleSpecification required : desc.getRequiredBundles()) {
+			appendBundlesNamed(key, state, required.getName());
+		}
+		for (ExportPackageDescription export : desc.getExportPackages()) {
+			String[] friends = (String[]) export.getDirective(ICoreConstants.FRIENDS_DIRECTIVE);
+			if (friends != null) {
+				for (String friend : friends) {
+					appendBundlesNamed(key, state, friend);
+				}
+			}
+		}
+
+		IEclipsePreferences preferences = InstanceScope.INSTANCE.getNode(BaseProject.PDE_PLUGIN_ID);
+		try {
+			String[] keys = preferences.keys();
+			Arrays.sort(keys);
+			for (String preference : keys) {
+				key.append(preference).append('=').append(preferences.get(preference, null)).append('\n');
+			}
+		} catch (Exception e) {
+			return null;
+		}
+		key.append(TargetPlatformHelper.getTargetVersion()).append('_').append(TargetPlatform.getOS()).append('_')
+				.append(TargetPlatform.getWS()).append('_').append(TargetPlatform.getOSArch()).append('_')
+				.append(TargetPlatform.getNL()).append('\n');
+		IVMInstall vm = JavaRuntime.getDefaultVMInstall();
+		key.append(vm == null ? "" : vm.getId()).append('\n'); //$NON-NLS-1$
+		IResource resource = model.getUnderlyingResource();
+		IJavaProject javaProject = resource == null ? null : JavaCore.create(resource.getProject());
+		if (javaProject != null && javaProject.exists()) {
+			try {
+				IVMInstall projectVM = JavaRuntime.getVMInstall(javaProject);
+				key.append(projectVM == null ? "" : projectVM.getId()); //$NON-NLS-1$
+			} catch (CoreException e) {
+				return null;
+			}
+		}
+
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+			return HexFormat.of().formatHex(digest.digest(key.toString().getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the attributes of the markers cached for the given project and
+	 * key.
+	 *
+	 * @return the marker attributes or <code>null</code> if none are cached
+	 */
+	static List<Map<String, Object>> get(IProject project, String key) {
+		Entry entry = fgEntries.get(project);
+		return entry != null && entry.key().equals(key) ? entry.markers() : null;
+	}
+
+	/**
+	 * Caches the markers reported for the manifest of the given project.
+	 */
+	static void put(IProject project, String key, List<VirtualMarker> markers) {
+		List<Map<String, Object>> attributes = new ArrayList<>(markers.size());
+		for (VirtualMarker marker : markers) {
+			attributes.add(new HashMap<>(marker.getAttributes()));
+		}
+		fgEntries.put(project, new Entry(key, List.copyOf(attributes)));
+	}
+
+	/**
+	 * Removes the markers cached for the given project.
+	 */
+	static void forget(IProject project) {
+		fgEntries.remove(project);
+	}
+
+	/**
+	 * Returns whether problems are cached for the manifest of the given
+	 * project. Used by tests.
+	 *
+	 * @param project the project
+	 * @return <code>true</code> if problems are cached for the project
+	 */
+	public static boolean isCached(IProject project) {
+		return fgEntries.containsKey(project);
+	}
+
+	/**
+	 * Returns the packages exported in the given state by name, preferring
+	 * packages of resolved bundles. The result is shared by all validations
+	 * as long as the state is not resolved again.
+	 */
+	static Map<String, ExportPackageDescription> getAvailableExportedPackages(State state) {
+		long timeStamp = state.getTimeStamp();
+		ExportedPackages exported = fgExportedPackages;
+		if (exported != null && exported.state() == state && exported.timeStamp() == timeStamp) {
+			return exported.packages();
+		}
+		Map<String, ExportPackageDescription> packages = new HashMap<>();
+		for (BundleDescription bundle : state.getBundles()) {
+			for (ExportPackageDescription export : bundle.getExportPackages()) {
+				String name = export.getName();
+				if (packages.containsKey(name)) {
+					if (export.getSupplier().isResolved()) {
+						packages.put(name, export);
+					}
+				} else {
+					packages.put(name, export);
+				}
+			}
+		}
+		fgExportedPackages = new ExportedPackages(state, timeStamp, packages);
+		return packages;
+	}
+
+	/**
+	 * Forgets the problems of projects in which a file other than derived
+	 * files, like class files, changed.
+	 */
+	@Override
+	public void resourceChanged(IResourceChangeEvent event) {
+		IResourceDelta delta = event.getDelta();
+		if (delta == null || fgEntries.isEmpty()) {
+			return;
+		}
+		for (IResourceDelta projectDelta : delta.getAffectedChildren()) {
+			IProject project = (IProject) projectDelta.getResource();
+			if (fgEntries.containsKey(project) && hasChanges(projectDelta)) {
+				forget(project);
+			}
+		}
+	}
+
+	@Override
+	public void defaultVMInstallChanged(IVMInstall previous, IVMInstall current) {
+		fgEntries.clear();
+	}
+
+	@Override
+	public void vmChanged(PropertyChangeEvent event) {
+		fgEntries.clear();
+	}
+
+	@Override
+	public void vmAdded(IVMInstall vm) {
+		fgEntries.clear();
+	}
+
+	@Override
+	public void vmRemoved(IVMInstall vm) {
+		fgEntries.clear();
+	}
+
+	private static boolean hasChanges(IResourceDelta projectDelta) {
+		if (projectDelta.getKind() != IResourceDelta.CHANGED || (projectDelta.getFlags() & IResourceDelta.OPEN) != 0) {
+			return true;
+		}
+		boolean[] changed = new boolean[1];
+		try {
+			projectDelta.accept(delta -> {
+				if (changed[0]) {
+					return false;
+				}
+				IResource resource = delta.getResource();
+				if (resource.isDerived(IResource.CHECK_ANCESTORS)) {
+					return false;
+				}
+				if (resource.getType() == IResource.FILE && (delta.getKind() != IResourceDelta.CHANGED
+						|| (delta.getFlags() & ~(IResourceDelta.MARKERS | IResourceDelta.SYNC)) != 0)) {
+					changed[0] = true;
+				} else if (resource.getType() == IResource.FOLDER && delta.getKind() != IResourceDelta.CHANGED) {
+					changed[0] = true;
+				}
+				return !changed[0];
+			});
+		} catch (CoreException e) {
+			return true;
+		}
+		return changed[0];
+	}
+
+	private static void appendBundlesNamed(StringBuilder key, State state, String symbolicName) {
+		key.append("name=").append(symbolicName); //$NON-NLS-1$
+		for (BundleDescription bundle : state.getBundles(symbolicName)) {
+			key.append(';').append(bundle.getVersion()).append(bundle.isResolved() ? "+" : "-"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		key.append('\n');
+	}
+
+	private static String getBundleKey(BaseDescription bundle) {
+		if (!(bundle instanceof BundleDescription desc)) {
+			return String.valueOf(bundle);
+		}
+		StringBuilder key = new StringBuilder();
+		key.append(desc.getSymbolicName()).append('_').append(desc.getVersion()).append('@').append(desc.getLocation());
+		for (ExportPackageDescription export : desc.getExportPackages()) {
+			key.append(';').append(export.getName()).append('_').append(export.getVersion());
+		}
+		return key.toString();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2012 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -14,7 +14,6 @@
 package org.eclipse.pde.internal.core.builders;
 
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.Set;
 
 import org.eclipse.core.resources.IProject;
@@ -44,11 +43,14 @@ public class PluginRebuilder implements IStateDeltaListener, IResourceChangeList
 	public void start() {
 		PDECore.getDefault().getModelManager().addStateDeltaListener(this);
 		JavaCore.addPreProcessingResourceChangedListener(this, IResourceChangeEvent.PRE_BUILD);
+		ManifestValidationCache.start();
 	}
 
 	public void stop() {
 		PDECore.getDefault().getModelManager().removeStateDeltaListener(this);
 		JavaCore.removePreProcessingResourceChangedListener(this);
+		ManifestValidationCache.stop();
+		DependencyLoopIndex.shutdown();
 	}
 
 	@Override
@@ -61,9 +63,8 @@ public class PluginRebuilder implements IStateDeltaListener, IResourceChangeList
 					touchProject(project);
 				}
 			} else {
-				Iterator<String> iter = fProjectNames.iterator();
-				while (iter.hasNext()) {
-					touchProject(root.getProject(iter.next()));
+				for (String name : fProjectNames) {
+					touchProject(root.getProject(name));
 				}
 			}
 			fTouchWorkspace = false;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2024 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -330,21 +330,96 @@ public class FeatureExportOperation extends Job {
 		}
 
 		subMonitor.setTaskName(PDECoreMessages.FeatureExportOperation_runningAssemblyScript);
-		for (String[] config : configs) {
-			setArchiveLocation(properties, config[0], config[1], config[2]);
-			runScript(getAssemblyScriptName(featureID, config[0], config[1], config[2], featureLocation), new String[] {"main"}, //$NON-NLS-1$
-					properties, subMonitor.split(2));
-		}
+		// the assembly scripts of all configurations publish into the same
+		// p2 repository, which must not be written to concurrently
+		if (fInfo.parallel && configs.length > 1 && !publishingP2Metadata()) {
+			runConfigurationScripts(featureID, featureLocation, configs, properties, subMonitor.split(configs.length * 4));
+		} else {
+			for (String[] config : configs) {
+				setArchiveLocation(properties, config[0], config[1], config[2]);
+				runScript(getAssemblyScriptName(featureID, config[0], config[1], config[2], featureLocation), new String[] {"main"}, //$NON-NLS-1$
+						properties, subMonitor.split(2));
+			}
 
-		subMonitor.setTaskName(PDECoreMessages.FeatureExportOperation_runningPackagerScript);
-		for (String[] config : configs) {
-			setArchiveLocation(properties, config[0], config[1], config[2]);
-			runScript(getPackagerScriptName(featureID, config[0], config[1], config[2], featureLocation), null, properties, subMonitor.split(2));
+			subMonitor.setTaskName(PDECoreMessages.FeatureExportOperation_runningPackagerScript);
+			for (String[] config : configs) {
+				setArchiveLocation(properties, config[0], config[1], config[2]);
+				runScript(getPackagerScriptName(featureID, config[0], config[1], config[2], featureLocation), null, properties, subMonitor.split(2));
+			}
 		}
 		properties.put("destination.temp.folder", fBuildTempLocation + "/pde.logs"); //$NON-NLS-1$ //$NON-NLS-2$
 		runScript(getBuildScriptName(featureLocation), new String[] {"gather.logs"}, properties, subMonitor.split(2)); //$NON-NLS-1$
 	}
 
+	/**
+	 * Runs the assembly and packager scripts of each configuration in a single
+	 * Ant build, assembling the configurations concurrently. As Ant user
+	 * properties cannot be overridden, the archive location and assembly
+	 * directory of each configuration are passed to its scripts instead. Each
+	 * configuration gets its own assembly directory so they do not share
+	 * temporary files. Must not be used when publishing p2 metadata, as all
+	 * configurations then publish into the same repository.
+	 */
+	private void runConfigurationScripts(String featureID, String featureLocation, String[][] configs, Map<String, String> properties, IProgressMonitor monitor) throws CoreException {
+		Map<String, String> buildProperties = new HashMap<>(properties);
+		buildProperties.remove(IXMLConstants.PROPERTY_ARCHIVE_FULLPATH);
+		buildProperties.remove(IXMLConstants.PROPERTY_ASSEMBLY_TMP);
+		File scriptFile = null;
+		try {
+			scriptFile = createScriptFile("configurations.xml"); //$NON-NLS-1$
+
+			@SuppressWarnings("restriction")
+			Document doc = org.eclipse.core.internal.runtime.XmlProcessorFactory.newDocumentWithErrorOnDOCTYPE();
+
+			Element root = doc.createElement("project"); //$NON-NLS-1$
+			root.setAttribute("name", "temp"); //$NON-NLS-1$ //$NON-NLS-2$
+			root.setAttribute("default", "main"); //$NON-NLS-1$ //$NON-NLS-2$
+			root.setAttribute("basedir", "."); //$NON-NLS-1$ //$NON-NLS-2$
+			doc.appendChild(root);
+
+			Element target = doc.createElement("target"); //$NON-NLS-1$
+			target.setAttribute("name", "main"); //$NON-NLS-1$ //$NON-NLS-2$
+			Element parallel = doc.createElement("parallel"); //$NON-NLS-1$
+			for (String[] config : configs) {
+				Map<String, String> configProperties = new HashMap<>(2);
+				setArchiveLocation(configProperties, config[0], config[1], config[2]);
+				configProperties.putIfAbsent(IXMLConstants.PROPERTY_ASSEMBLY_TMP, fBuildTempLocation + "/assembly." + config[0] + '.' + config[1] + '.' + config[2]); //$NON-NLS-1$
+				Element sequential = doc.createElement("sequential"); //$NON-NLS-1$
+				sequential.appendChild(createAntTask(doc, getAssemblyScriptName(featureID, config[0], config[1], config[2], featureLocation), "main", configProperties)); //$NON-NLS-1$
+				sequential.appendChild(createAntTask(doc, getPackagerScriptName(featureID, config[0], config[1], config[2], featureLocation), null, configProperties));
+				parallel.appendChild(sequential);
+			}
+			target.appendChild(parallel);
+			root.appendChild(target);
+
+			XMLPrintHandler.writeFile(doc, scriptFile);
+			runScript(scriptFile.getAbsolutePath(), new String[] {"main"}, buildProperties, monitor); //$NON-NLS-1$
+		} catch (FactoryConfigurationError | ParserConfigurationException | IOException e) {
+			throw new CoreException(Status.error(PDECoreMessages.FeatureBasedExportOperation_ProblemDuringExport, e));
+		} finally {
+			if (scriptFile != null && scriptFile.exists()) {
+				scriptFile.delete();
+			}
+		}
+	}
+
+	private Element createAntTask(Document doc, String script, String target, Map<String, String> properties) {
+		Element ant = doc.createElement("ant"); //$NON-NLS-1$
+		ant.setAttribute("antfile", script); //$NON-NLS-1$
+		if (target != null) {
+			ant.setAttribute("target", target); //$NON-NLS-1$
+		}
+		// the called script uses its own base directory
+		ant.setAttribute("inheritAll", "false"); //$NON-NLS-1$ //$NON-NLS-2$
+		properties.forEach((name, value) -> {
+			Element property = doc.createElement("property"); //$NON-NLS-1$
+			property.setAttribute("name", name); //$NON-NLS-1$
+			property.setAttribute("value", value); //$NON-NLS-1$
+			ant.appendChild(property);
+		});
+		return ant;
+	}
+
 	protected boolean groupedConfigurations() {
 		//feature export with p2 metadata results in a grouped repo
 		return publishingP2Metadata();
@@ -743,6 +818,7 @@ public class FeatureExportOperation extends Job {
 		generator.setSignJars(fInfo.signingInfo != null);
 		generator.setGenerateJnlp(fInfo.jnlpInfo != null);
 		generator.setFlattenDependencies(true);
+		generator.setParallel(fInfo.parallel);
 
 		AbstractScriptGenerator.setConfigInfo(getConfigInfo(configs)); //This needs to be set before we set the format
 		generator.setArchivesFormat(getArchivesFormat(configs));
@@ -763,6 +839,9 @@ public class FeatureExportOperation extends Job {
 		Properties properties = new Properties();
 		properties.put(IBuildPropertiesConstants.PROPERTY_ALLOW_BINARY_CYCLES, Boolean.toString(fInfo.allowBinaryCycles));
 		properties.put(IBuildPropertiesConstants.PROPERTY_P2_GATHERING, Boolean.toString(publishingP2Metadata()));
+		if (fInfo.parallel) {
+			properties.put(IBuildPropertiesConstants.PROPERTY_PARALLEL_SCRIPT_GENERATION, Boolean.TRUE.toString());
+		}
 		//TODO this is duplicate from createAntBuildProperties
 		IExecutionEnvironmentsManager manager = JavaRuntime.getExecutionEnvironmentsManager();
 		IExecutionEnvironment[] envs = manager.getExecutionEnvironments();
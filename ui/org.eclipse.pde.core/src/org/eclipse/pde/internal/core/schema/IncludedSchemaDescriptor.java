@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2013 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -29,8 +29,9 @@ import org.eclipse.pde.internal.core.ischema.ISchemaDescriptor;
 public class IncludedSchemaDescriptor implements ISchemaDescriptor {
 	private final URL fSchemaURL;
 	private String fSchemaLocation;
-	private Schema fSchema;
+	private final SchemaLoader fLoader = new SchemaLoader();
 	private long fLastModified;
+	private SchemaCache fCache;
 
 	public IncludedSchemaDescriptor(URL schemaURL) {
 		fSchemaURL = schemaURL;
@@ -139,6 +140,13 @@ public class IncludedSchemaDescriptor implements ISchemaDescriptor {
 		return url;
 	}
 
+	/**
+	 * Sets the cache abbreviated schemas are loaded from.
+	 */
+	void setSchemaCache(SchemaCache cache) {
+		fCache = cache;
+	}
+
 	public boolean isEnabled() {
 		return true;
 	}
@@ -159,11 +167,16 @@ public class IncludedSchemaDescriptor implements ISchemaDescriptor {
 
 	@Override
 	public ISchema getSchema(boolean abbreviated) {
-		if (fSchema == null && fSchemaURL != null) {
-			fSchema = new Schema(this, fSchemaURL, abbreviated);
-			fSchema.load();
+		if (fSchemaURL == null) {
+			return fLoader.getSchema();
 		}
-		return fSchema;
+		return fLoader.load(() -> new Schema(this, fSchemaURL, abbreviated), schema -> {
+			if (fCache != null && abbreviated) {
+				fCache.load(schema);
+			} else {
+				schema.load();
+			}
+		});
 	}
 
 	@Override
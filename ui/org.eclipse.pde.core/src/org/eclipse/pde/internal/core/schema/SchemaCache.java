@@ -0,0 +1,250 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.schema;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.Status;
+import org.eclipse.pde.internal.core.PDECore;
+
+/**
+ * Persistent cache of the abbreviated schemas loaded by the
+ * {@link SchemaRegistry}. An abbreviated schema omits all documentation, so
+ * the form written by {@link Schema#write(String, PrintWriter)} is usually a
+ * small fraction of the schema file and can be read without opening the
+ * archive containing the schema. Entries are keyed by the schema URL and
+ * reused as long as the size and modification time of the file or archive
+ * containing the schema are unchanged. Entries whose file or archive no
+ * longer exists or has changed are dropped when the cache is saved.
+ */
+public final class SchemaCache {
+
+	private static final String CACHE_FILE_NAME = "schemas.cache"; //$NON-NLS-1$
+
+	/** Must be incremented whenever the binary format changes */
+	private static final int FORMAT_VERSION = 1;
+
+	private record Entry(long size, long lastModified, String content) {
+	}
+
+	private final File fCacheFile;
+	private final Map<String, Entry> fEntries;
+	private volatile boolean fChanged;
+	private final AtomicInteger fHits = new AtomicInteger();
+	private final AtomicInteger fMisses = new AtomicInteger();
+
+	private SchemaCache(File cacheFile, Map<String, Entry> entries) {
+		fCacheFile = cacheFile;
+		fEntries = new ConcurrentHashMap<>(entries);
+	}
+
+	/**
+	 * Loads the cache persisted in the PDE state location. If it does not
+	 * exist or cannot be read an empty cache is returned.
+	 *
+	 * @return the schema cache, never {@code null}
+	 */
+	static SchemaCache load() {
+		return load(PDECore.getDefault().getStateLocation().append(CACHE_FILE_NAME).toFile());
+	}
+
+	/**
+	 * Loads the cache persisted in the given file. If it does not exist or
+	 * cannot be read an empty cache is returned.
+	 *
+	 * @param cacheFile the file the cache is persisted in
+	 * @return the schema cache, never {@code null}
+	 */
+	public static SchemaCache load(File cacheFile) {
+		Map<String, Entry> entries = new HashMap<>();
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(cacheFile)))) {
+			if (in.readInt() == FORMAT_VERSION) {
+				int count = in.readInt();
+				for (int i = 0; i < count; i++) {
+					String url = readString(in);
+					long size = in.readLong();
+					long lastModified = in.readLong();
+					entries.put(url, new Entry(size, lastModified, readString(in)));
+				}
+			}
+		} catch (FileNotFoundException e) {
+			// no cache yet
+		} catch (IOException e) {
+			entries.clear();
+			PDECore.log(Status.warning("Could not read schema cache " + cacheFile, e)); //$NON-NLS-1$
+		}
+		return new SchemaCache(cacheFile, entries);
+	}
+
+	/**
+	 * Loads the given abbreviated schema from the cache if it is up to date,
+	 * or from its URL otherwise, in which case the cache is updated. This
+	 * method may be called concurrently for different schemas.
+	 *
+	 * @param schema the abbreviated schema to load
+	 */
+	public void load(Schema schema) {
+		URL url = schema.getURL();
+		File file = getFile(url);
+		if (file == null) {
+			schema.load();
+			return;
+		}
+		String key = url.toExternalForm();
+		long size = file.length();
+		long lastModified = file.lastModified();
+		Entry entry = fEntries.get(key);
+		if (entry != null && entry.size() == size && entry.lastModified() == lastModified) {
+			schema.load(new ByteArrayInputStream(entry.content().getBytes(StandardCharsets.UTF_8)));
+			if (schema.isLoaded()) {
+				fHits.incrementAndGet();
+				return;
+			}
+			// parse errors leave the schema untouched, load the original
+			fEntries.remove(key);
+			fChanged = true;
+		}
+		fMisses.incrementAndGet();
+		schema.load();
+		if (schema.isLoaded() && schema.isValid()) {
+			StringWriter content = new StringWriter();
+			try (PrintWriter writer = new PrintWriter(content)) {
+				schema.write(Schema.INDENT, writer);
+			}
+			fEntries.put(key, new Entry(size, lastModified, content.toString()));
+			fChanged = true;
+		}
+	}
+
+	/**
+	 * Drops the entries whose file or archive no longer exists or has changed
+	 * and writes the cache to disk if it changed since it was loaded.
+	 */
+	public void save() {
+		fEntries.entrySet().removeIf(e -> {
+			File file;
+			try {
+				file = getFile(new URL(e.getKey()));
+			} catch (MalformedURLException ex) {
+				file = null;
+			}
+			Entry entry = e.getValue();
+			if (file == null || file.length() != entry.size() || file.lastModified() != entry.lastModified()) {
+				fChanged = true;
+				return true;
+			}
+			return false;
+		});
+		if (!fChanged) {
+			return;
+		}
+		fCacheFile.getParentFile().mkdirs();
+		try (DataOutputStream out = new DataOutputStream(
+				new BufferedOutputStream(new FileOutputStream(fCacheFile)))) {
+			out.writeInt(FORMAT_VERSION);
+			Map<String, Entry> entries = new TreeMap<>(fEntries);
+			out.writeInt(entries.size());
+			for (Map.Entry<String, Entry> e : entries.entrySet()) {
+				Entry entry = e.getValue();
+				writeString(out, e.getKey());
+				out.writeLong(entry.size());
+				out.writeLong(entry.lastModified());
+				writeString(out, entry.content());
+			}
+			fChanged = false;
+		} catch (IOException e) {
+			fCacheFile.delete();
+			PDECore.log(Status.warning("Could not write schema cache " + fCacheFile, e)); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * @return the number of schemas loaded from the cache
+	 */
+	public int getHits() {
+		return fHits.get();
+	}
+
+	/**
+	 * @return the number of schemas loaded from their URL
+	 */
+	public int getMisses() {
+		return fMisses.get();
+	}
+
+	/**
+	 * @return the number of cached schemas
+	 */
+	public int size() {
+		return fEntries.size();
+	}
+
+	/**
+	 * Returns the local file or archive containing the schema at the given
+	 * URL, or <code>null</code> if the schema is not stored locally.
+	 */
+	private static File getFile(URL url) {
+		String path;
+		if ("file".equals(url.getProtocol())) { //$NON-NLS-1$
+			path = url.getFile();
+		} else if ("jar".equals(url.getProtocol()) && url.getFile().startsWith("file:")) { //$NON-NLS-1$ //$NON-NLS-2$
+			path = url.getFile().substring("file:".length()); //$NON-NLS-1$
+			int separator = path.indexOf("!/"); //$NON-NLS-1$
+			if (separator < 0) {
+				return null;
+			}
+			path = path.substring(0, separator);
+		} else {
+			return null;
+		}
+		File file = new File(path);
+		return file.isFile() ? file : null;
+	}
+
+	// DataOutput.writeUTF is limited to 64k, which large schemas exceed
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length < 0) {
+			throw new IOException("Corrupt string length " + length); //$NON-NLS-1$
+		}
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2005, 2013 IBM Corporation and others.
+ *  Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -25,10 +25,11 @@ public class SchemaDescriptor implements ISchemaDescriptor {
 
 	private String fPoint;
 	private URL fSchemaURL;
-	private Schema fSchema;
+	private final SchemaLoader fLoader = new SchemaLoader();
 	private long fLastModified;
 	private boolean fEditable;
 	private SchemaProvider schemaProvider;
+	private SchemaCache fCache;
 
 	public SchemaDescriptor(String extPointID, URL schemaURL) {
 		this(extPointID, schemaURL, null);
@@ -69,26 +70,39 @@ public class SchemaDescriptor implements ISchemaDescriptor {
 		}
 	}
 
+	/**
+	 * Sets the cache abbreviated schemas are loaded from.
+	 */
+	void setSchemaCache(SchemaCache cache) {
+		fCache = cache;
+	}
+
 	@Override
 	public String getPointId() {
 		if (fPoint != null) {
 			return fPoint;
 		}
-		return (fSchema == null) ? null : fSchema.getQualifiedPointId();
+		Schema schema = fLoader.getSchema();
+		return (schema == null) ? null : schema.getQualifiedPointId();
 	}
 
 	@Override
 	public ISchema getSchema(boolean abbreviated) {
-		if (fSchema == null && fSchemaURL != null) {
-			if (fEditable) {
-				fSchema = new EditableSchema(this, fSchemaURL, abbreviated);
+		if (fSchemaURL == null) {
+			return fLoader.getSchema();
+		}
+		return fLoader.load(() -> {
+			Schema schema = fEditable ? new EditableSchema(this, fSchemaURL, abbreviated)
+					: new Schema(this, fSchemaURL, abbreviated);
+			schema.setSchemaProvider(schemaProvider);
+			return schema;
+		}, schema -> {
+			if (fCache != null && abbreviated && !fEditable) {
+				fCache.load(schema);
 			} else {
-				fSchema = new Schema(this, fSchemaURL, abbreviated);
+				schema.load();
 			}
-			fSchema.setSchemaProvider(schemaProvider);
-			fSchema.load();
-		}
-		return fSchema;
+		});
 	}
 
 	@Override
@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.schema;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Loads the schema of one schema descriptor at most once and publishes it
+ * only after it is fully loaded. Each descriptor has its own lock, so
+ * different schemas are loaded concurrently.
+ * <p>
+ * Loading a schema loads the schemas it includes, which may include it in
+ * turn. A schema including itself, directly or not, sees the schema being
+ * loaded by the current thread. Only threads that are not loading another
+ * schema wait for the lock of a schema. A thread loading a schema whose
+ * included schema is locked by another thread loads a copy of it instead, so
+ * threads never wait for each other in a cycle.
+ * </p>
+ */
+final class SchemaLoader {
+
+	/** The schemas being loaded by the current thread */
+	private static final ThreadLocal<Map<SchemaLoader, Schema>> LOADING = ThreadLocal.withInitial(HashMap::new);
+
+	private final ReentrantLock fLock = new ReentrantLock();
+
+	private volatile Schema fSchema;
+
+	/**
+	 * @return the loaded schema or <code>null</code> if it was not loaded yet
+	 */
+	Schema getSchema() {
+		return fSchema;
+	}
+
+	/**
+	 * Returns the loaded schema, loading it first if needed.
+	 *
+	 * @param factory creates the schema to load
+	 * @param loader loads the given schema
+	 * @return the schema, which is still being loaded if it includes itself
+	 */
+	Schema load(Supplier<Schema> factory, Consumer<Schema> loader) {
+		Schema schema = fSchema;
+		if (schema != null) {
+			return schema;
+		}
+		Map<SchemaLoader, Schema> loading = LOADING.get();
+		schema = loading.get(this);
+		if (schema != null) {
+			return schema;
+		}
+		boolean locked;
+		if (loading.isEmpty()) {
+			fLock.lock();
+			locked = true;
+		} else {
+			locked = fLock.tryLock();
+		}
+		try {
+			if (locked && fSchema != null) {
+				return fSchema;
+			}
+			schema = factory.get();
+			loading.put(this, schema);
+			try {
+				loader.accept(schema);
+			} finally {
+				loading.remove(this);
+			}
+			if (locked) {
+				fSchema = schema;
+			}
+			return schema;
+		} finally {
+			if (locked) {
+				fLock.unlock();
+			}
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2013 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,7 +16,8 @@ package org.eclipse.pde.internal.core.schema;
 import java.io.File;
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.pde.core.plugin.IFragment;
@@ -33,15 +34,34 @@ import org.eclipse.pde.internal.core.ischema.ISchemaDescriptor;
 import org.eclipse.pde.internal.core.text.plugin.PluginExtensionPointNode;
 import org.eclipse.pde.internal.core.util.CoreUtility;
 
+/**
+ * Registry of the abbreviated schemas of the extension points known to the
+ * plug-in registry and of the schemas they include. The registry may be used
+ * concurrently, for example by the builders of several projects. It keeps the
+ * most recently used schemas and loads the others from a persistent cache of
+ * their abbreviated form, see {@link SchemaCache}.
+ */
 public class SchemaRegistry {
 
-	private final HashMap<String, ISchemaDescriptor> fRegistry = new HashMap<>();
+	/** Maximum number of schemas kept in memory */
+	private static final int MAX_SCHEMAS = 500;
+
+	private final Map<String, ISchemaDescriptor> fRegistry = new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, ISchemaDescriptor> eldest) {
+			return size() > MAX_SCHEMAS;
+		}
+	};
+
+	private SchemaCache fCache;
 
 	public ISchema getSchema(String extPointID) {
 		IPluginExtensionPoint point = PDECore.getDefault().getExtensionsRegistry().findExtensionPoint(extPointID);
 		if (point == null) {
 			// if there is an old schema associated with this extension point, release it.
-			if (fRegistry.containsKey(extPointID)) {
+			synchronized (fRegistry) {
 				fRegistry.remove(extPointID);
 			}
 			return null;
@@ -52,10 +72,15 @@ public class SchemaRegistry {
 			return null;
 		}
 
-		ISchemaDescriptor desc = getExistingDescriptor(extPointID, url);
-		if (desc == null) {
-			desc = new SchemaDescriptor(extPointID, url);
-			fRegistry.put(extPointID, desc);
+		ISchemaDescriptor desc;
+		synchronized (fRegistry) {
+			desc = getExistingDescriptor(extPointID, url);
+			if (desc == null) {
+				SchemaDescriptor schemaDesc = new SchemaDescriptor(extPointID, url);
+				schemaDesc.setSchemaCache(getCache());
+				desc = schemaDesc;
+				fRegistry.put(extPointID, desc);
+			}
 		}
 
 		return desc.getSchema(true);
@@ -68,10 +93,15 @@ public class SchemaRegistry {
 				return null;
 			}
 
-			ISchemaDescriptor desc = getExistingDescriptor(url.toString(), url);
-			if (desc == null) {
-				desc = new IncludedSchemaDescriptor(url);
-				fRegistry.put(url.toString(), desc);
+			ISchemaDescriptor desc;
+			synchronized (fRegistry) {
+				desc = getExistingDescriptor(url.toString(), url);
+				if (desc == null) {
+					IncludedSchemaDescriptor includedDesc = new IncludedSchemaDescriptor(url);
+					includedDesc.setSchemaCache(getCache());
+					desc = includedDesc;
+					fRegistry.put(url.toString(), desc);
+				}
 			}
 			return desc.getSchema(true);
 		} catch (MalformedURLException e) {
@@ -79,17 +109,23 @@ public class SchemaRegistry {
 		return null;
 	}
 
+	/** Has to be called synchronized with fRegistry **/
 	private ISchemaDescriptor getExistingDescriptor(String key, URL url) {
-		ISchemaDescriptor desc = null;
-		if (fRegistry.containsKey(key)) {
-			desc = fRegistry.get(key);
-			if (hasSchemaChanged(desc, url)) {
-				desc = null;
-			}
+		ISchemaDescriptor desc = fRegistry.get(key);
+		if (desc != null && hasSchemaChanged(desc, url)) {
+			desc = null;
 		}
 		return desc;
 	}
 
+	/** Has to be called synchronized with fRegistry **/
+	private SchemaCache getCache() {
+		if (fCache == null) {
+			fCache = SchemaCache.load();
+		}
+		return fCache;
+	}
+
 	public static URL getSchemaURL(IPluginExtensionPoint point, IPluginModelBase base) {
 		URL url = getSchemaURL(point);
 		if (url != null) {
@@ -183,7 +219,13 @@ public class SchemaRegistry {
 	}
 
 	public void shutdown() {
-		fRegistry.clear();
+		synchronized (fRegistry) {
+			fRegistry.clear();
+			if (fCache != null) {
+				fCache.save();
+				fCache = null;
+			}
+		}
 	}
 
 	private static String getId(IPluginExtensionPoint point, IPluginModelBase base) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2018 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -28,10 +28,19 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import javax.xml.parsers.DocumentBuilder;
@@ -43,6 +52,7 @@ import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
@@ -118,7 +128,7 @@ public class TargetDefinition implements ITargetDefinition {
 	public static final int MODE_FEATURE = 1;
 
 	// cache of features found for a given location, maps a string path location to a array of IFeatureModels (IFeatureModel[])
-	private static Map<String, TargetFeature[]> fFeaturesInLocation = new HashMap<>();
+	private static Map<String, TargetFeature[]> fFeaturesInLocation = new ConcurrentHashMap<>();
 
 	// internal cache for features.  A target managed by features will contain a set of features as well as a set of plug-ins that don't belong to a feature
 	private TargetFeature[] fFeatures;
@@ -366,46 +376,50 @@ public class TargetDefinition implements ITargetDefinition {
 		SubMonitor subMonitor = SubMonitor.convert(monitor, Messages.TargetDefinition_1, targetLocations.length * 100);
 		try {
 			MultiStatus status = new MultiStatus(PDECore.PLUGIN_ID, 0, Messages.TargetDefinition_2);
-			Map<P2TargetUtils, List<ITargetLocation>> synchronizers = new HashMap<>();
+			Map<P2TargetUtils, List<ITargetLocation>> synchronizers = new LinkedHashMap<>();
+			List<ITargetLocation> usualLocations = new ArrayList<>(targetLocations.length);
 			// clear all previous maps
 			P2TargetUtils.fgTargetArtifactRepo.clear();
 			P2TargetUtils.fgArtifactKeyRepoFile.clear();
 			for (ITargetLocation location : targetLocations) {
-				subMonitor.checkCanceled();
-				subMonitor.subTask(Messages.TargetDefinition_4);
 				P2TargetUtils synchronizer = location.getAdapter(P2TargetUtils.class);
 				if (synchronizer == null) {
 					// a usual target definition location
-					IStatus s = location.resolve(this, subMonitor.split(100));
-					if (!s.isOK()) {
-						status.add(s);
-					}
+					usualLocations.add(location);
 				} else {
 					// has to be performed later on in a separate batch
 					synchronizers.computeIfAbsent(synchronizer, nil -> new ArrayList<>()).add(location);
 				}
 			}
-			if (!synchronizers.isEmpty()) {
-				List<ITargetLocation> delayedLocations = synchronizers.values().stream().flatMap(Collection::stream)
-						.toList();
-				subMonitor.setWorkRemaining(synchronizers.size() * 100 + delayedLocations.size());
-				synchronizers.forEach((synchronizer, locations) -> {
-					subMonitor.checkCanceled();
-					try {
-						synchronizer.synchronize(this, subMonitor.split(100));
-						locations.stream().map(ITargetLocation::getStatus).filter(s -> s != null && !s.isOK())
-								.forEach(status::add);
-					} catch (CoreException e) {
-						PDECore.log(e.getStatus());
-						status.add(e.getStatus());
-					}
-				});
-				for (ITargetLocation location : delayedLocations) {
-					subMonitor.checkCanceled();
-					IStatus s = location.resolve(this, subMonitor.split(1));
-					if (!s.isOK()) {
-						status.add(s);
-					}
+			List<ITargetLocation> delayedLocations = synchronizers.values().stream().flatMap(Collection::stream)
+					.toList();
+			subMonitor.setWorkRemaining((usualLocations.size() + synchronizers.size()) * 100 + delayedLocations.size());
+			subMonitor.subTask(Messages.TargetDefinition_4);
+			// usual locations and the p2 synchronizers do not depend on each
+			// other, the p2 locations are only resolved after synchronizing
+			List<ResolveTask> tasks = new ArrayList<>(usualLocations.size() + synchronizers.size());
+			for (ITargetLocation location : usualLocations) {
+				tasks.add(new ResolveTask(location.toString(), taskMonitor -> {
+					IStatus s = location.resolve(this, taskMonitor);
+					return s.isOK() ? List.of() : List.of(s);
+				}));
+			}
+			synchronizers.forEach((synchronizer, locations) -> tasks.add(new ResolveTask(locations.toString(), taskMonitor -> {
+				try {
+					synchronizer.synchronize(this, taskMonitor);
+					return locations.stream().map(ITargetLocation::getStatus).filter(s -> s != null && !s.isOK())
+							.toList();
+				} catch (CoreException e) {
+					PDECore.log(e.getStatus());
+					return List.of(e.getStatus());
+				}
+			})));
+			runResolveTasks(tasks, subMonitor).forEach(status::add);
+			for (ITargetLocation location : delayedLocations) {
+				subMonitor.checkCanceled();
+				IStatus s = location.resolve(this, subMonitor.split(1));
+				if (!s.isOK()) {
+					status.add(s);
 				}
 			}
 			if (status.isOK()) {
@@ -420,6 +434,221 @@ public class TargetDefinition implements ITargetDefinition {
 		}
 	}
 
+	/**
+	 * A unit of work of {@link #resolve(IProgressMonitor)} that does not
+	 * depend on any other one, either the resolution of a usual location or
+	 * the synchronization of the p2 locations sharing the same synchronizer.
+	 */
+	private record ResolveTask(String name, ResolveAction action) {
+	}
+
+	@FunctionalInterface
+	private interface ResolveAction {
+		/**
+		 * @return the statuses to add to the resolution status, never
+		 *         <code>null</code>
+		 */
+		List<IStatus> run(IProgressMonitor monitor);
+	}
+
+	/**
+	 * Runs the given tasks, concurrently if more than one thread may be used,
+	 * and returns the statuses of all tasks in the order of the tasks. Each
+	 * task consumes 100 ticks of the given monitor.
+	 *
+	 * @throws OperationCanceledException if the monitor is canceled
+	 */
+	private static List<IStatus> runResolveTasks(List<ResolveTask> tasks, SubMonitor subMonitor) {
+		List<IStatus> statuses = new ArrayList<>();
+		int threads = getResolveThreads(tasks.size());
+		if (threads <= 1) {
+			for (ResolveTask task : tasks) {
+				subMonitor.checkCanceled();
+				long start = System.currentTimeMillis();
+				statuses.addAll(task.action().run(subMonitor.split(100)));
+				traceResolveTime(task, start);
+			}
+			return statuses;
+		}
+		AtomicInteger threadCount = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(threads, r -> {
+			Thread thread = new Thread(r, "PDE Target Resolver " + threadCount.incrementAndGet()); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		List<ResolveTaskMonitor> taskMonitors = new ArrayList<>(tasks.size());
+		boolean completed = false;
+		try {
+			List<Future<List<IStatus>>> results = new ArrayList<>(tasks.size());
+			for (ResolveTask task : tasks) {
+				ResolveTaskMonitor taskMonitor = new ResolveTaskMonitor(subMonitor, 100);
+				taskMonitors.add(taskMonitor);
+				results.add(executor.submit(() -> {
+					long start = System.currentTimeMillis();
+					try {
+						return task.action().run(taskMonitor);
+					} finally {
+						taskMonitor.done();
+						traceResolveTime(task, start);
+					}
+				}));
+			}
+			for (Future<List<IStatus>> result : results) {
+				statuses.addAll(getResolveResult(result, subMonitor));
+			}
+			completed = true;
+			return statuses;
+		} finally {
+			if (!completed) {
+				// a task failed or the resolution was canceled, stop the others
+				taskMonitors.forEach(ResolveTaskMonitor::abort);
+			}
+			executor.shutdownNow();
+			awaitTermination(executor);
+		}
+	}
+
+	/**
+	 * Waits until all tasks of the given executor have ended, so no location
+	 * is still being resolved once the resolution returns
+	 */
+	private static void awaitTermination(ExecutorService executor) {
+		boolean interrupted = false;
+		while (true) {
+			try {
+				if (executor.awaitTermination(100, TimeUnit.MILLISECONDS)) {
+					break;
+				}
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static List<IStatus> getResolveResult(Future<List<IStatus>> result, SubMonitor subMonitor) {
+		try {
+			while (true) {
+				synchronized (subMonitor) {
+					subMonitor.checkCanceled();
+				}
+				try {
+					return result.get(100, TimeUnit.MILLISECONDS);
+				} catch (TimeoutException e) {
+					// check for cancellation again
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	private static int getResolveThreads(int taskCount) {
+		int threads = PDECore.getDefault().getPreferencesManager().getInt(ICoreConstants.TARGET_RESOLVE_THREADS);
+		if (threads <= 0) {
+			threads = Runtime.getRuntime().availableProcessors();
+		}
+		return Math.max(1, Math.min(threads, taskCount));
+	}
+
+	private static void traceResolveTime(ResolveTask task, long start) {
+		if (PDECore.DEBUG_MODEL) {
+			System.out.println("Time to resolve " + task.name() + ": " + (System.currentTimeMillis() - start) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+	}
+
+	/**
+	 * Progress monitor of a task that runs concurrently with others. The work
+	 * reported by the task is scaled to a fixed number of ticks of the shared
+	 * monitor, which is only accessed while holding its lock, and cancellation
+	 * of the shared monitor is forwarded to the task.
+	 */
+	private static final class ResolveTaskMonitor extends NullProgressMonitor {
+
+		private final SubMonitor fShared;
+		private final int fTicks;
+		private double fTotalWork;
+		private double fWorked;
+		private int fReported;
+
+		ResolveTaskMonitor(SubMonitor shared, int ticks) {
+			fShared = shared;
+			fTicks = ticks;
+		}
+
+		@Override
+		public void beginTask(String name, int totalWork) {
+			fTotalWork = totalWork;
+			fWorked = 0;
+		}
+
+		@Override
+		public void subTask(String name) {
+			synchronized (fShared) {
+				fShared.subTask(name);
+			}
+		}
+
+		@Override
+		public void worked(int work) {
+			internalWorked(work);
+		}
+
+		@Override
+		public void internalWorked(double work) {
+			if (fTotalWork <= 0) {
+				return;
+			}
+			fWorked += work;
+			report((int) Math.min(fTicks, fTicks * fWorked / fTotalWork));
+		}
+
+		@Override
+		public void done() {
+			report(fTicks);
+		}
+
+		private void report(int ticks) {
+			int delta = ticks - fReported;
+			if (delta > 0) {
+				fReported = ticks;
+				synchronized (fShared) {
+					fShared.worked(delta);
+				}
+			}
+		}
+
+		@Override
+		public boolean isCanceled() {
+			return super.isCanceled() || fShared.isCanceled();
+		}
+
+		@Override
+		public void setCanceled(boolean canceled) {
+			super.setCanceled(canceled);
+			if (canceled) {
+				synchronized (fShared) {
+					fShared.setCanceled(true);
+				}
+			}
+		}
+
+		/**
+		 * Cancels this task without canceling the shared monitor
+		 */
+		void abort() {
+			super.setCanceled(true);
+		}
+	}
+
 	@Override
 	public boolean isResolved() {
 		ITargetLocation[] containers = getTargetLocations();
@@ -0,0 +1,188 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.jar.JarFile;
+
+import org.eclipse.core.runtime.CoreException;
+
+/**
+ * In-memory cache of parsed bundle manifests shared by target resolution and
+ * the creation of the target state. Manifests read while the locations of a
+ * target are resolved are reused when the OSGi state of the target is built
+ * afterwards, so each bundle is only opened and parsed once.
+ * <p>
+ * Manifests are only cached while a target is loaded, between calls to
+ * {@link #open()} and {@link #close()}. All entries are dropped once the last
+ * load is done, outside of a load manifests are always read from the bundle.
+ * </p>
+ * <p>
+ * Entries are keyed by the canonical bundle location and are only used as
+ * long as the size and modification time of the bundle jar (or of the
+ * manifest file of a directory bundle) are unchanged. The least recently used
+ * entries are dropped once the cache is full.
+ * </p>
+ */
+public final class ManifestCache {
+
+	/**
+	 * Maximum number of cached manifests, large enough for the bundles of big
+	 * targets while bounding the memory held by the cache.
+	 */
+	private static final int MAX_ENTRIES = 10000;
+
+	private record Entry(long size, long lastModified, Map<String, String> manifest) {
+	}
+
+	private static final Map<String, Entry> fgEntries = new LinkedHashMap<>(256, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+			return size() > MAX_ENTRIES;
+		}
+	};
+
+	/** Number of loads in progress, guarded by {@link #fgEntries} */
+	private static int fgLoads;
+
+	private static final AtomicLong fgOpensAvoided = new AtomicLong();
+	private static final AtomicLong fgOpens = new AtomicLong();
+
+	private ManifestCache() {
+	}
+
+	/**
+	 * Returns the manifest of the given bundle location, either from the cache
+	 * if a target is being loaded and the bundle is unchanged or by reading it
+	 * with
+	 * {@link ManifestUtils#loadManifest(File)}. This method may be called
+	 * concurrently.
+	 *
+	 * @param bundleLocation root location of the bundle, an archive or a
+	 *            directory
+	 * @return a modifiable copy of the manifest headers
+	 * @throws CoreException see {@link ManifestUtils#loadManifest(File)}
+	 */
+	public static Map<String, String> loadManifest(File bundleLocation) throws CoreException {
+		boolean loading;
+		synchronized (fgEntries) {
+			loading = fgLoads > 0;
+		}
+		if (!loading) {
+			fgOpens.incrementAndGet();
+			return ManifestUtils.loadManifest(bundleLocation);
+		}
+		String key = getKey(bundleLocation);
+		boolean directory = bundleLocation.isDirectory();
+		File stampFile = directory ? new File(bundleLocation, JarFile.MANIFEST_NAME) : bundleLocation;
+		long size = stampFile.length();
+		long lastModified = stampFile.lastModified();
+
+		Entry entry;
+		synchronized (fgEntries) {
+			entry = fgEntries.get(key);
+		}
+		if (entry != null && entry.size() == size && entry.lastModified() == lastModified) {
+			fgOpensAvoided.incrementAndGet();
+			return copyOf(entry.manifest(), directory);
+		}
+		fgOpens.incrementAndGet();
+		Map<String, String> manifest = ManifestUtils.loadManifest(bundleLocation);
+		if (lastModified != 0) {
+			// callers may modify the returned manifest, keep a copy
+			Entry newEntry = new Entry(size, lastModified, Collections.unmodifiableMap(copyOf(manifest, directory)));
+			synchronized (fgEntries) {
+				// the load may have finished in the meantime
+				if (fgLoads > 0) {
+					fgEntries.put(key, newEntry);
+				}
+			}
+		}
+		return manifest;
+	}
+
+	/**
+	 * @return the number of manifests returned from the cache instead of
+	 *         opening the bundle
+	 */
+	public static long getOpensAvoided() {
+		return fgOpensAvoided.get();
+	}
+
+	/**
+	 * @return the number of manifests that had to be read from the bundle
+	 */
+	public static long getOpens() {
+		return fgOpens.get();
+	}
+
+	/**
+	 * Starts caching manifests for a target that is being loaded. Must be
+	 * followed by a call to {@link #close()} once the target state is created.
+	 */
+	public static void open() {
+		synchronized (fgEntries) {
+			fgLoads++;
+		}
+	}
+
+	/**
+	 * Ends a load started with {@link #open()}. Once no load is in progress
+	 * anymore all cached manifests are dropped.
+	 */
+	public static void close() {
+		synchronized (fgEntries) {
+			if (fgLoads > 0 && --fgLoads == 0) {
+				fgEntries.clear();
+			}
+		}
+	}
+
+	/**
+	 * @return the number of cached manifests
+	 */
+	public static int size() {
+		synchronized (fgEntries) {
+			return fgEntries.size();
+		}
+	}
+
+	private static String getKey(File bundleLocation) {
+		try {
+			return bundleLocation.getCanonicalPath();
+		} catch (IOException e) {
+			return bundleLocation.getAbsolutePath();
+		}
+	}
+
+	private static Map<String, String> copyOf(Map<String, String> manifest, boolean directory) {
+		if (directory) {
+			// manifests read from directories use case sensitive keys
+			return new HashMap<>(manifest);
+		}
+		// manifests read from jars use case insensitive keys
+		Map<String, String> copy = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+		copy.putAll(manifest);
+		return copy;
+	}
+}
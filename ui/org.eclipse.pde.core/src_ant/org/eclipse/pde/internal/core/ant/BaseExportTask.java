@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2015 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -35,6 +35,7 @@ public abstract class BaseExportTask extends Task {
 	protected String fQualifier;
 	protected boolean fAllowBinaryCycles;
 	protected boolean fUseWorkspaceCompiledClasses;
+	protected boolean fParallel;
 
 	public BaseExportTask() {
 	}
@@ -116,6 +117,18 @@ public abstract class BaseExportTask extends Task {
 		fUseWorkspaceCompiledClasses = Boolean.parseBoolean(useWorkspaceCompiledClasses);
 	}
 
+	/**
+	 * Whether the export may build independent plug-ins and assemble the
+	 * configurations of a product concurrently. This is <code>false</code> by
+	 * default. Configurations are still assembled one after the other when p2
+	 * metadata is published, as they share the same repository.
+	 *
+	 * @param parallel whether to export concurrently
+	 */
+	public void setParallel(String parallel) {
+		fParallel = Boolean.parseBoolean(parallel);
+	}
+
 	public boolean isAntRunner() {
 		String args[] = Platform.getCommandLineArgs();
 		for (int i = 0; i < args.length; i++) {
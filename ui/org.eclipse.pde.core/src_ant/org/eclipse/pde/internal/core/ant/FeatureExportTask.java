@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2013 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -38,6 +38,7 @@ public class FeatureExportTask extends BaseExportTask {
 		info.items = fFeatures;
 		info.qualifier = fQualifier;
 		info.allowBinaryCycles = fAllowBinaryCycles;
+		info.parallel = fParallel;
 		info.useWorkspaceCompiledClasses = fUseWorkspaceCompiledClasses;
 		// if destination is relative, then make it absolute
 		if (!new File(fDestination).isAbsolute()) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2013 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -37,6 +37,7 @@ public class PluginExportTask extends BaseExportTask {
 		info.items = fPlugins;
 		info.qualifier = fQualifier;
 		info.allowBinaryCycles = fAllowBinaryCycles;
+		info.parallel = fParallel;
 		info.useWorkspaceCompiledClasses = fUseWorkspaceCompiledClasses;
 		// if destination is relative, then make it absolute
 		if (!new File(fDestination).isAbsolute()) {
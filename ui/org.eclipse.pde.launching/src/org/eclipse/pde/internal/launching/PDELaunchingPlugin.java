@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2015 EclipseSource Corporation and others.
+ * Copyright (c) 2009, 2026 EclipseSource Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,7 @@
 package org.eclipse.pde.internal.launching;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.Hashtable;
 
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
@@ -24,7 +25,10 @@ import org.eclipse.core.runtime.Plugin;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.ILaunchConfigurationListener;
+import org.eclipse.osgi.service.debug.DebugOptions;
+import org.eclipse.osgi.service.debug.DebugOptionsListener;
 import org.eclipse.pde.internal.core.PDEPreferencesManager;
+import org.eclipse.pde.internal.launching.launcher.BundleLauncherHelper;
 import org.eclipse.pde.internal.launching.launcher.LaunchConfigurationListener;
 import org.eclipse.pde.internal.launching.launcher.LaunchListener;
 import org.eclipse.pde.internal.launching.launcher.LauncherUtils;
@@ -34,7 +38,12 @@ import org.osgi.framework.BundleContext;
 import org.osgi.framework.BundleEvent;
 import org.osgi.framework.BundleListener;
 
-public class PDELaunchingPlugin extends Plugin implements IPDEConstants {
+public class PDELaunchingPlugin extends Plugin implements IPDEConstants, DebugOptionsListener {
+
+	// Tracing options
+	public static boolean DEBUG_LAUNCH = false;
+	private static final String DEBUG_FLAG = PLUGIN_ID + "/debug"; //$NON-NLS-1$
+	private static final String LAUNCH_DEBUG = PLUGIN_ID + "/launch"; //$NON-NLS-1$
 
 	// Shared instance
 	private static PDELaunchingPlugin fInstance;
@@ -101,6 +110,17 @@ public class PDELaunchingPlugin extends Plugin implements IPDEConstants {
 		super.start(context);
 		fBundleContext = context;
 		setupLaunchConfigurationListener();
+
+		// Register the debug options listener service (tracing)
+		Hashtable<String, String> props = new Hashtable<>(2);
+		props.put(DebugOptions.LISTENER_SYMBOLICNAME, PLUGIN_ID);
+		context.registerService(DebugOptionsListener.class.getName(), this, props);
+	}
+
+	@Override
+	public void optionsChanged(DebugOptions options) {
+		boolean debug = options.getBooleanOption(DEBUG_FLAG, false);
+		DEBUG_LAUNCH = debug && options.getBooleanOption(LAUNCH_DEBUG, false);
 	}
 
 	/**
@@ -142,6 +162,7 @@ public class PDELaunchingPlugin extends Plugin implements IPDEConstants {
 			fDebugPluginUtil.removeListener();
 		}
 		LauncherUtils.shutdown();
+		BundleLauncherHelper.shutdown();
 		super.stop(context);
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2022 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -40,7 +40,6 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -51,9 +50,7 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.debug.core.ILaunchConfigurationWorkingCopy;
-import org.eclipse.osgi.service.resolver.BaseDescription;
 import org.eclipse.osgi.service.resolver.BundleDescription;
-import org.eclipse.osgi.service.resolver.State;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.core.plugin.IMatchRules;
 import org.eclipse.pde.core.plugin.IPluginBase;
@@ -62,12 +59,10 @@ import org.eclipse.pde.core.plugin.ModelEntry;
 import org.eclipse.pde.core.plugin.PluginRegistry;
 import org.eclipse.pde.core.target.ITargetDefinition;
 import org.eclipse.pde.core.target.ITargetPlatformService;
-import org.eclipse.pde.internal.build.BundleHelper;
 import org.eclipse.pde.internal.build.IPDEBuildConstants;
 import org.eclipse.pde.internal.core.DependencyManager;
 import org.eclipse.pde.internal.core.FeatureModelManager;
 import org.eclipse.pde.internal.core.PDECore;
-import org.eclipse.pde.internal.core.PluginModelManager;
 import org.eclipse.pde.internal.core.TargetPlatformHelper;
 import org.eclipse.pde.internal.core.ifeature.IFeature;
 import org.eclipse.pde.internal.core.ifeature.IFeatureChild;
@@ -558,69 +553,28 @@ public class BundleLauncherHelper {
 		if (includedPlugins.isEmpty()) {
 			return Stream.empty();
 		}
-		// Create and resolve the new 'launch'-state where bundles explicitly included in the launch are preferred. Then compute the requirement closure on that 'launch'-state.
-		Map<BundleDescription, IPluginModelBase> launchBundlePlugins = new HashMap<>(includedPlugins.size() * 4 / 3 + 1);
-		Set<BundleDescription> launchBundles = reresolveBundlesPreferringIncludedBundles(includedPlugins, launchBundlePlugins, preferWorkspaceBundles);
-		State launchState = launchBundles.iterator().next().getContainingState();
-
-		DependencyManager.getImplicitDependencies().stream().map(descriptor -> {
-			String versionStr = descriptor.getVersion();
-			Version version = versionStr != null ? Version.parseVersion(versionStr) : null;
-			return launchState.getBundle(descriptor.getId(), version);
-		}).forEach(launchBundles::add);
-		Set<BundleDescription> closure = DependencyManager.findRequirementsClosure(launchBundles, options.toArray(DependencyManager.Options[]::new));
-		return closure.stream().map(launchBundlePlugins::get).map(Objects::requireNonNull) //
-				.filter(p -> !includedPlugins.contains(p));
-	}
-
-	private static Set<BundleDescription> reresolveBundlesPreferringIncludedBundles(Set<IPluginModelBase> includedPlugins, Map<BundleDescription, IPluginModelBase> launchBundlePlugins, boolean preferWorkspaceBundles) {
-		PluginModelManager modelManager = PDECore.getDefault().getModelManager();
-		State tpState = modelManager.getState().getState();
-
-		State launchState = BundleHelper.getPlatformAdmin().getFactory().createState(true);
-		launchState.setPlatformProperties(tpState.getPlatformProperties());
-
-		// Collect all bundles explicitly included in the launch
-		AtomicLong id = new AtomicLong(1);
-		for (IPluginModelBase plugin : includedPlugins) {
-			addPluginBundle(plugin, launchState, launchBundlePlugins, tpState, id);
-		}
-		Set<BundleDescription> launchBundles = new HashSet<>(launchBundlePlugins.keySet());
-
-		// Iterate workspace- and TP-models separately to avoid shadowing of TP models by workspace models
-		Stream.of(modelManager.getWorkspaceModels(), modelManager.getExternalModels()).flatMap(Arrays::stream) //
-				.filter(IPluginModelBase::isEnabled).filter(p -> !includedPlugins.contains(p)) //
-				.forEach(plugin -> addPluginBundle(plugin, launchState, launchBundlePlugins, tpState, id));
-
-		launchState.getResolver().setSelectionPolicy(Comparator
-				// prefer bundles explicitly included in the launch
-				.comparing((BaseDescription d) -> !launchBundles.contains(d.getSupplier())) //false<true
-				.thenComparing(d -> { // choose bundles originating from the preferred location (workspace or TP)
-					boolean isWorkspaceBundle = launchBundlePlugins.get(d.getSupplier()).getUnderlyingResource() != null;
-					return isWorkspaceBundle != preferWorkspaceBundles; //false<true
-				}).thenComparing(tpState.getResolver().getSelectionPolicy()));
-
-		launchState.resolve(false);
-		return launchBundles;
-	}
-
-	private static void addPluginBundle(IPluginModelBase plugin, State launchState, Map<BundleDescription, IPluginModelBase> launchBundlePlugin, State tpState, AtomicLong id) {
-		BundleDescription bundle = plugin.getBundleDescription();
-		if (bundle != null) {
-			if (bundle.getContainingState() != tpState) { // consistency check
-				throw new IllegalStateException("Plugins have different TP state"); //$NON-NLS-1$
-			}
-			BundleDescription launchBundle = launchState.getFactory().createBundleDescription(id.getAndIncrement(), bundle);
-			launchBundle.setUserObject(plugin);
-			if (!launchState.addBundle(launchBundle)) {
-				throw new IllegalStateException("Failed to add bundle to launch state: " + launchBundle); //$NON-NLS-1$
-			}
-			if (launchBundlePlugin.put(launchBundle, plugin) != null) {
-				throw new IllegalStateException("Duplicated launch bundle for plugin: " + plugin); //$NON-NLS-1$
-			}
+		// Get the resolved 'launch'-state where bundles explicitly included in the launch are preferred. Then compute the requirement closure on that 'launch'-state.
+		LaunchStateCache.LaunchState launchState = LaunchStateCache.getLaunchState(includedPlugins, preferWorkspaceBundles);
+		synchronized (launchState) {
+			Set<BundleDescription> launchBundles = new HashSet<>(launchState.getIncludedBundles());
+			DependencyManager.getImplicitDependencies().stream().map(descriptor -> {
+				String versionStr = descriptor.getVersion();
+				Version version = versionStr != null ? Version.parseVersion(versionStr) : null;
+				return launchState.getState().getBundle(descriptor.getId(), version);
+			}).forEach(launchBundles::add);
+			Set<BundleDescription> closure = DependencyManager.findRequirementsClosure(launchBundles, options.toArray(DependencyManager.Options[]::new));
+			return closure.stream().map(launchState::getPlugin).map(Objects::requireNonNull) //
+					.filter(p -> !includedPlugins.contains(p)).toList().stream();
 		}
 	}
 
+	/**
+	 * Releases the cached state used to compute the requirements of launches.
+	 */
+	public static void shutdown() {
+		LaunchStateCache.dispose();
+	}
+
 	// -- start data ---
 
 	public static String getStartData(BundleDescription desc, String defaultStartData) {
@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.launching.launcher;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.variables.VariablesPlugin;
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.TargetPlatform;
+import org.eclipse.pde.internal.core.TargetPlatformHelper;
+import org.eclipse.pde.internal.core.ifeature.IFeature;
+import org.eclipse.pde.internal.launching.PDELaunchingPlugin;
+
+/**
+ * Fingerprint of everything the configuration files generated for a launch
+ * depend on: the attributes of the launch configuration with the current
+ * values of the string variables they refer to, the bundles launched with
+ * their start levels, locations and model time stamps, the features and the
+ * target platform. The fingerprint of the last generation is stored in the
+ * configuration area together with a hash of the bundles.info written, so
+ * unchanged files do not have to be generated again for the next launch.
+ */
+final class ConfigurationFingerprint {
+
+	private static final String FILE_NAME = ".pde.fingerprint"; //$NON-NLS-1$
+
+	/** Increment when the generated files or the fingerprint change */
+	private static final String VERSION = "2"; //$NON-NLS-1$
+
+	private ConfigurationFingerprint() {
+	}
+
+	/**
+	 * Computes the fingerprint of the configuration files generated for the
+	 * given launch.
+	 *
+	 * @param template the config.ini template used, may be <code>null</code>
+	 * @return the fingerprint
+	 */
+	static String compute(ILaunchConfiguration configuration, String productID, Map<String, List<IPluginModelBase>> bundles,
+			Map<IFeature, Boolean> features, Map<IPluginModelBase, String> bundlesWithStartLevels,
+			File configurationDirectory, File template) throws CoreException {
+		StringBuilder buffer = new StringBuilder(VERSION).append('\n');
+		buffer.append(configurationDirectory.getAbsolutePath()).append('\n');
+		buffer.append(productID).append('\n');
+		new TreeMap<>(configuration.getAttributes()).forEach((key, value) -> buffer.append(key).append('=')
+				.append(normalize(value)).append('\n'));
+
+		List<String> entries = new ArrayList<>();
+		bundlesWithStartLevels.forEach((model, startLevel) -> entries.add(getStamp(model) + '@' + startLevel));
+		bundles.forEach((id, models) -> models.forEach(model -> entries.add(id + '=' + getStamp(model))));
+		if (features != null) {
+			features.forEach((feature, install) -> entries.add(feature.getId() + '_' + feature.getVersion() + '=' + install));
+		}
+		entries.sort(null);
+		entries.forEach(entry -> buffer.append(entry).append('\n'));
+
+		buffer.append(TargetPlatform.getLocation()).append('\n');
+		Properties targetConfig = TargetPlatformHelper.getConfigIniProperties();
+		if (targetConfig != null) {
+			buffer.append(normalize(targetConfig)).append('\n');
+		}
+		if (template != null) {
+			buffer.append(template.getAbsolutePath()).append('_').append(template.length()).append('_')
+					.append(template.lastModified()).append('\n');
+		}
+		return hash(buffer.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * @param bundlesInfo the bundles.info referred to by the config.ini in the
+	 *            configuration area, may be <code>null</code>
+	 * @return whether the given fingerprint is the one stored in the given
+	 *         configuration area and the given bundles.info was not modified
+	 *         since
+	 */
+	static boolean matches(String fingerprint, File configurationDirectory, File bundlesInfo) {
+		if (fingerprint == null) {
+			return false;
+		}
+		File file = new File(configurationDirectory, FILE_NAME);
+		try {
+			return file.isFile() && getContent(fingerprint, bundlesInfo)
+					.equals(Files.readString(file.toPath(), StandardCharsets.UTF_8));
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Stores the given fingerprint and the hash of the given bundles.info in
+	 * the given configuration area, or removes the stored fingerprint if it is
+	 * <code>null</code>.
+	 */
+	static void store(String fingerprint, File configurationDirectory, File bundlesInfo) {
+		File file = new File(configurationDirectory, FILE_NAME);
+		try {
+			if (fingerprint == null) {
+				Files.deleteIfExists(file.toPath());
+			} else {
+				Files.writeString(file.toPath(), getContent(fingerprint, bundlesInfo), StandardCharsets.UTF_8);
+			}
+		} catch (IOException e) {
+			PDELaunchingPlugin.log(e);
+		}
+	}
+
+	private static String getContent(String fingerprint, File bundlesInfo) throws IOException {
+		if (bundlesInfo == null) {
+			return fingerprint;
+		}
+		return fingerprint + '\n' + hash(Files.readAllBytes(bundlesInfo.toPath()));
+	}
+
+	private static String hash(byte[] content) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+			return HexFormat.of().formatHex(digest.digest(content));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static String getStamp(IPluginModelBase model) {
+		return model.getInstallLocation() + '_' + model.getPluginBase().getVersion() + '_' + model.getTimeStamp();
+	}
+
+	/**
+	 * Returns a string representation of an attribute value that does not
+	 * depend on the iteration order of sets and maps. Strings referring to
+	 * string variables are followed by their current substituted value.
+	 */
+	private static String normalize(Object value) {
+		if (value instanceof Map<?, ?> map) {
+			TreeMap<String, String> sorted = new TreeMap<>();
+			map.forEach((k, v) -> sorted.put(String.valueOf(k), normalize(v)));
+			return sorted.toString();
+		}
+		if (value instanceof Collection<?> collection && !(value instanceof List)) {
+			List<String> sorted = new ArrayList<>();
+			collection.forEach(v -> sorted.add(normalize(v)));
+			sorted.sort(null);
+			return sorted.toString();
+		}
+		if (value instanceof String string && string.contains("${")) { //$NON-NLS-1$
+			try {
+				return string + "=>" //$NON-NLS-1$
+						+ VariablesPlugin.getDefault().getStringVariableManager().performStringSubstitution(string, false);
+			} catch (CoreException e) {
+				// a variable failing to resolve now may resolve next time
+				return string + "=>" + System.nanoTime(); //$NON-NLS-1$
+			}
+		}
+		return String.valueOf(value);
+	}
+}
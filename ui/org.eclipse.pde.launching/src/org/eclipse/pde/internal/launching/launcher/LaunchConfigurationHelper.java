@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2021 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,7 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.net.URISyntaxException;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -32,6 +33,7 @@ import org.eclipse.core.runtime.IConfigurationElement;
 import org.eclipse.core.runtime.IExtension;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.URIUtil;
 import org.eclipse.core.variables.IStringVariableManager;
 import org.eclipse.core.variables.VariablesPlugin;
 import org.eclipse.debug.core.ILaunchConfiguration;
@@ -46,6 +48,7 @@ import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.TargetPlatformHelper;
 import org.eclipse.pde.internal.core.ifeature.IFeature;
 import org.eclipse.pde.internal.launching.IPDEConstants;
+import org.eclipse.pde.internal.launching.PDELaunchingPlugin;
 import org.eclipse.pde.launching.IPDELauncherConstants;
 
 /**
@@ -77,7 +80,10 @@ public class LaunchConfigurationHelper {
 		}
 		File dir = new File(configDir, "org.eclipse.osgi/manifests"); //$NON-NLS-1$
 		if (dir.exists() && dir.isDirectory()) {
-			PDECore.getDefault().getJavaElementChangeListener().synchronizeManifests(dir);
+			boolean checked = PDECore.getDefault().getJavaElementChangeListener().synchronizeManifests(dir);
+			if (!checked && PDELaunchingPlugin.DEBUG_LAUNCH) {
+				System.out.println("Skipped synchronization of unchanged manifests in " + dir); //$NON-NLS-1$
+			}
 		}
 	}
 
@@ -145,6 +151,26 @@ public class LaunchConfigurationHelper {
 	 * @return a properties object containing the properties written out to config.ini
 	 */
 	public static Properties createConfigIniFile(ILaunchConfiguration configuration, String productID, Map<String, List<IPluginModelBase>> bundles, Map<IFeature, Boolean> features, Map<IPluginModelBase, String> bundlesWithStartLevels, File configurationDirectory) throws CoreException {
+		// a generated p2 profile may have been modified by the launched application, always generate it again
+		String fingerprint = null;
+		if (!configuration.getAttribute(IPDELauncherConstants.GENERATE_PROFILE, false)) {
+			File template = null;
+			if (!configuration.getAttribute(IPDELauncherConstants.CONFIG_GENERATE_DEFAULT, true)) {
+				String templateLoc = configuration.getAttribute(IPDELauncherConstants.CONFIG_TEMPLATE_LOCATION, (String) null);
+				template = templateLoc != null ? new File(getSubstitutedString(templateLoc)) : null;
+			}
+			fingerprint = ConfigurationFingerprint.compute(configuration, productID, bundles, features, bundlesWithStartLevels, configurationDirectory, template);
+			Properties existing = loadGeneratedConfigIni(configurationDirectory);
+			if (existing != null && ConfigurationFingerprint.matches(fingerprint, configurationDirectory, getBundlesInfo(existing))) {
+				if (PDELaunchingPlugin.DEBUG_LAUNCH) {
+					System.out.println("Skipped generation of unchanged config.ini in " + configurationDirectory); //$NON-NLS-1$
+				}
+				return existing;
+			}
+		}
+		// the configuration area no longer matches the fingerprint stored there
+		ConfigurationFingerprint.store(null, configurationDirectory, null);
+
 		Properties properties = null;
 		// if we are to generate a config.ini, start with the values in the target platform's config.ini - bug 141918
 		if (configuration.getAttribute(IPDELauncherConstants.CONFIG_GENERATE_DEFAULT, true)) {
@@ -238,9 +264,53 @@ public class LaunchConfigurationHelper {
 		setBundleLocations(bundles, properties, autostart);
 
 		save(new File(configurationDirectory, "config.ini"), properties); //$NON-NLS-1$
+		ConfigurationFingerprint.store(fingerprint, configurationDirectory, getBundlesInfo(properties));
 		return properties;
 	}
 
+	/**
+	 * Loads the config.ini generated for a previous launch into the given
+	 * configuration area, provided it and the bundles.info it refers to still
+	 * exist.
+	 *
+	 * @return the properties of the config.ini or <code>null</code>
+	 */
+	private static Properties loadGeneratedConfigIni(File configurationDirectory) {
+		File configIni = new File(configurationDirectory, "config.ini"); //$NON-NLS-1$
+		if (!configIni.isFile()) {
+			return null;
+		}
+		Properties properties = new Properties();
+		try (FileInputStream stream = new FileInputStream(configIni)) {
+			properties.load(stream);
+		} catch (IOException e) {
+			return null;
+		}
+		if (properties.getProperty("org.eclipse.equinox.simpleconfigurator.configUrl") != null) { //$NON-NLS-1$
+			File bundlesInfo = getBundlesInfo(properties);
+			if (bundlesInfo == null || !bundlesInfo.isFile()) {
+				return null;
+			}
+		}
+		return properties;
+	}
+
+	/**
+	 * @return the bundles.info the given config.ini properties refer to, or
+	 *         <code>null</code> if there is none or its location is invalid
+	 */
+	private static File getBundlesInfo(Properties properties) {
+		String bundlesTxt = properties.getProperty("org.eclipse.equinox.simpleconfigurator.configUrl"); //$NON-NLS-1$
+		if (bundlesTxt == null) {
+			return null;
+		}
+		try {
+			return URIUtil.toFile(URIUtil.fromString(bundlesTxt));
+		} catch (URISyntaxException | IllegalArgumentException e) {
+			return null;
+		}
+	}
+
 	private static void addRequiredProperties(Properties properties, String productID, Map<String, List<IPluginModelBase>> bundles, Map<IPluginModelBase, String> bundlesWithStartLevels, boolean autoStart) {
 		if (!properties.containsKey("osgi.install.area")) { //$NON-NLS-1$
 			properties.setProperty("osgi.install.area", "file:" + TargetPlatform.getLocation()); //$NON-NLS-1$ //$NON-NLS-2$
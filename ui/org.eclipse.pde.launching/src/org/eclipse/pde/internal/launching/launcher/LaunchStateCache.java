@@ -0,0 +1,308 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.launching.launcher;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.eclipse.osgi.service.resolver.BaseDescription;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.service.resolver.StateDelta;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.internal.build.BundleHelper;
+import org.eclipse.pde.internal.core.IStateDeltaListener;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PluginModelManager;
+import org.eclipse.pde.internal.launching.PDELaunchingPlugin;
+
+/**
+ * Cache of the resolved 'launch'-states used to compute the requirements of
+ * the bundles included in a launch.
+ * <p>
+ * A launch-state contains a copy of every enabled workspace and target bundle
+ * and prefers the bundles explicitly included in the launch. Creating and
+ * resolving it is expensive for large targets, so the launch-states of the
+ * most recent launches are kept per target state, set of included bundles and
+ * preferred bundle location. When the target state is resolved again, only
+ * the bundles whose description changed are replaced in a cached
+ * launch-state, which is then resolved incrementally. Cached launch-states
+ * are dropped when the target state is replaced.
+ * </p>
+ */
+public final class LaunchStateCache implements IStateDeltaListener {
+
+	/**
+	 * Maximum number of cached launch-states, each of them holds a copy of the
+	 * whole target.
+	 */
+	private static final int MAX_ENTRIES = 3;
+
+	private record Key(State tpState, Set<IPluginModelBase> includedPlugins, boolean preferWorkspaceBundles) {
+	}
+
+	/**
+	 * A resolved launch-state. Instances must only be used while holding
+	 * their monitor.
+	 */
+	public static final class LaunchState {
+
+		private final State fState;
+
+		private final Set<IPluginModelBase> fIncludedPlugins;
+
+		/** The launch bundles of the plug-ins explicitly included */
+		private final Set<BundleDescription> fIncludedBundles = new HashSet<>();
+
+		/** Maps all launch bundles to their plug-ins */
+		private final Map<BundleDescription, IPluginModelBase> fLaunchBundlePlugins = new HashMap<>();
+
+		/** Maps all plug-ins to their bundle in the target state */
+		private final Map<IPluginModelBase, BundleDescription> fSourceBundles = new HashMap<>();
+
+		/** Maps all plug-ins to their launch bundle */
+		private final Map<IPluginModelBase, BundleDescription> fLaunchBundles = new HashMap<>();
+
+		private long fNextId = 1;
+
+		/** Whether the target state was resolved since this state was updated */
+		private boolean fStale;
+
+		private LaunchState(State tpState, Set<IPluginModelBase> includedPlugins, boolean preferWorkspaceBundles) {
+			fIncludedPlugins = includedPlugins;
+			fState = BundleHelper.getPlatformAdmin().getFactory().createState(true);
+			fState.setPlatformProperties(tpState.getPlatformProperties());
+
+			// Collect all bundles explicitly included in the launch
+			for (IPluginModelBase plugin : includedPlugins) {
+				addPluginBundle(plugin, tpState);
+			}
+			// Iterate workspace- and TP-models separately to avoid shadowing of TP models by workspace models
+			getLaunchPlugins().filter(p -> !includedPlugins.contains(p)).forEach(plugin -> addPluginBundle(plugin, tpState));
+
+			fState.getResolver().setSelectionPolicy(Comparator
+					// prefer bundles explicitly included in the launch
+					.comparing((BaseDescription d) -> !fIncludedBundles.contains(d.getSupplier())) //false<true
+					.thenComparing(d -> { // choose bundles originating from the preferred location (workspace or TP)
+						boolean isWorkspaceBundle = fLaunchBundlePlugins.get(d.getSupplier()).getUnderlyingResource() != null;
+						return isWorkspaceBundle != preferWorkspaceBundles; //false<true
+					}).thenComparing(tpState.getResolver().getSelectionPolicy()));
+
+			fState.resolve(false);
+		}
+
+		/**
+		 * @return the resolved launch-state
+		 */
+		public State getState() {
+			return fState;
+		}
+
+		/**
+		 * @return the launch bundles of the plug-ins explicitly included in the
+		 *         launch, must not be modified
+		 */
+		public Set<BundleDescription> getIncludedBundles() {
+			return fIncludedBundles;
+		}
+
+		/**
+		 * @return the plug-in of the given launch bundle
+		 */
+		public IPluginModelBase getPlugin(BundleDescription launchBundle) {
+			return fLaunchBundlePlugins.get(launchBundle);
+		}
+
+		/**
+		 * Replaces the launch bundles whose plug-in was added, removed or has
+		 * a new bundle description in the target state and resolves the
+		 * replaced bundles again.
+		 *
+		 * @return the number of bundles replaced
+		 */
+		private int update(State tpState) {
+			Set<IPluginModelBase> current = new HashSet<>(fIncludedPlugins);
+			List<BundleDescription> changed = new ArrayList<>();
+			Stream.concat(fIncludedPlugins.stream(), getLaunchPlugins().filter(p -> !fIncludedPlugins.contains(p))).forEach(plugin -> {
+				current.add(plugin);
+				BundleDescription bundle = plugin.getBundleDescription();
+				if (bundle != fSourceBundles.get(plugin)) {
+					removePluginBundle(plugin);
+					BundleDescription launchBundle = addPluginBundle(plugin, tpState);
+					if (launchBundle != null) {
+						changed.add(launchBundle);
+					}
+				}
+			});
+			int removed = 0;
+			for (Iterator<IPluginModelBase> iterator = fSourceBundles.keySet().iterator(); iterator.hasNext();) {
+				IPluginModelBase plugin = iterator.next();
+				if (!current.contains(plugin)) {
+					BundleDescription launchBundle = fLaunchBundles.remove(plugin);
+					iterator.remove();
+					fLaunchBundlePlugins.remove(launchBundle);
+					fState.removeBundle(launchBundle);
+					removed++;
+				}
+			}
+			if (!changed.isEmpty() || removed > 0) {
+				// dependents of removed bundles are resolved again as well
+				fState.resolve(changed.toArray(BundleDescription[]::new));
+			}
+			fStale = false;
+			return changed.size() + removed;
+		}
+
+		private BundleDescription addPluginBundle(IPluginModelBase plugin, State tpState) {
+			BundleDescription bundle = plugin.getBundleDescription();
+			if (bundle == null) {
+				return null;
+			}
+			if (bundle.getContainingState() != tpState) { // consistency check
+				throw new IllegalStateException("Plugins have different TP state"); //$NON-NLS-1$
+			}
+			BundleDescription launchBundle = fState.getFactory().createBundleDescription(fNextId++, bundle);
+			launchBundle.setUserObject(plugin);
+			if (!fState.addBundle(launchBundle)) {
+				throw new IllegalStateException("Failed to add bundle to launch state: " + launchBundle); //$NON-NLS-1$
+			}
+			if (fLaunchBundlePlugins.put(launchBundle, plugin) != null) {
+				throw new IllegalStateException("Duplicated launch bundle for plugin: " + plugin); //$NON-NLS-1$
+			}
+			fSourceBundles.put(plugin, bundle);
+			fLaunchBundles.put(plugin, launchBundle);
+			if (fIncludedPlugins.contains(plugin)) {
+				fIncludedBundles.add(launchBundle);
+			}
+			return launchBundle;
+		}
+
+		private void removePluginBundle(IPluginModelBase plugin) {
+			fSourceBundles.remove(plugin);
+			BundleDescription launchBundle = fLaunchBundles.remove(plugin);
+			if (launchBundle != null) {
+				fLaunchBundlePlugins.remove(launchBundle);
+				fIncludedBundles.remove(launchBundle);
+				fState.removeBundle(launchBundle);
+			}
+		}
+	}
+
+	private static final Map<Key, LaunchState> fgStates = new LinkedHashMap<>(MAX_ENTRIES, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, LaunchState> eldest) {
+			return size() > MAX_ENTRIES;
+		}
+	};
+
+	private static LaunchStateCache fgListener;
+
+	private LaunchStateCache() {
+	}
+
+	/**
+	 * Returns the resolved launch-state for the given plug-ins, which is
+	 * either taken from the cache and updated or created. The returned state
+	 * must only be used while holding its monitor.
+	 *
+	 * @param includedPlugins the plug-ins explicitly included in the launch
+	 * @param preferWorkspaceBundles whether bundles from the workspace are
+	 *            preferred over those of the target platform
+	 * @return the resolved launch-state
+	 */
+	public static LaunchState getLaunchState(Set<IPluginModelBase> includedPlugins, boolean preferWorkspaceBundles) {
+		long start = System.currentTimeMillis();
+		State tpState = PDECore.getDefault().getModelManager().getState().getState();
+		Key key = new Key(tpState, Set.copyOf(includedPlugins), preferWorkspaceBundles);
+		LaunchState launchState;
+		synchronized (fgStates) {
+			if (fgListener == null) {
+				fgListener = new LaunchStateCache();
+				PDECore.getDefault().getModelManager().addStateDeltaListener(fgListener);
+			}
+			launchState = fgStates.get(key);
+		}
+		if (launchState != null) {
+			synchronized (launchState) {
+				int updated = launchState.fStale ? launchState.update(tpState) : 0;
+				if (PDELaunchingPlugin.DEBUG_LAUNCH) {
+					System.out.println("Reused launch state of " + includedPlugins.size() + " included bundles, " //$NON-NLS-1$ //$NON-NLS-2$
+							+ updated + " bundles updated in " + (System.currentTimeMillis() - start) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+			}
+			return launchState;
+		}
+		launchState = new LaunchState(tpState, key.includedPlugins(), preferWorkspaceBundles);
+		synchronized (fgStates) {
+			fgStates.put(key, launchState);
+		}
+		if (PDELaunchingPlugin.DEBUG_LAUNCH) {
+			System.out.println("Created launch state of " + includedPlugins.size() + " included bundles in " //$NON-NLS-1$ //$NON-NLS-2$
+					+ (System.currentTimeMillis() - start) + " ms"); //$NON-NLS-1$
+		}
+		return launchState;
+	}
+
+	/**
+	 * Drops all cached launch-states and stops listening to target state
+	 * changes.
+	 */
+	public static void dispose() {
+		synchronized (fgStates) {
+			fgStates.clear();
+			if (fgListener != null) {
+				PluginModelManager modelManager = PDECore.getDefault().getModelManager();
+				modelManager.removeStateDeltaListener(fgListener);
+				fgListener = null;
+			}
+		}
+	}
+
+	@Override
+	public void stateResolved(StateDelta delta) {
+		List<LaunchState> states;
+		synchronized (fgStates) {
+			states = new ArrayList<>(fgStates.values());
+		}
+		for (LaunchState state : states) {
+			synchronized (state) {
+				state.fStale = true;
+			}
+		}
+	}
+
+	@Override
+	public void stateChanged(State newState) {
+		synchronized (fgStates) {
+			fgStates.clear();
+		}
+	}
+
+	private static Stream<IPluginModelBase> getLaunchPlugins() {
+		PluginModelManager modelManager = PDECore.getDefault().getModelManager();
+		return Stream.of(modelManager.getWorkspaceModels(), modelManager.getExternalModels()).flatMap(Arrays::stream) //
+				.filter(IPluginModelBase::isEnabled);
+	}
+}
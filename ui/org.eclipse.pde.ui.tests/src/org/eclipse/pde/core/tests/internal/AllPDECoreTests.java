@@ -8,6 +8,9 @@ import org.junit.platform.suite.api.Suite;
 @SelectClasses({ //
 	DependencyManagerTest.class, //
 	DependencyLoopFinderTest.class, //
+	PDEExtensionRegistryTest.class, //
+	PDEStateTest.class, //
+	TargetManifestCacheTest.class, //
 	WorkspaceModelManagerTest.class, //
 	WorkspaceProductModelManagerTest.class, //
 })
@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PDEExtensionRegistry;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+/**
+ * Tests that the index of extension points kept by the
+ * {@link PDEExtensionRegistry} follows the contributions of workspace plug-ins.
+ */
+public class PDEExtensionRegistryTest {
+	@ClassRule
+	public static final TestRule CLEAR_WORKSPACE = ProjectUtils.DELETE_ALL_WORKSPACE_PROJECTS_BEFORE_AND_AFTER;
+
+	@Rule
+	public final TestRule deleteCreatedTestProjectsAfter = ProjectUtils.DELETE_CREATED_WORKSPACE_PROJECTS_AFTER;
+
+	private static final String POINT_ID = "registry.host.point";
+
+	@Test
+	public void testRemovedContributorIsNotFound() throws CoreException {
+		createPluginWithExtensions("registry.host",
+				"<extension-point id=\"point\" name=\"Point\"/><extension point=\"" + POINT_ID + "\"/>");
+		IProject client = createPluginWithExtensions("registry.client", "<extension point=\"" + POINT_ID + "\"/>");
+
+		PDEExtensionRegistry registry = PDECore.getDefault().getExtensionsRegistry();
+		// fill the index
+		assertThat(getIds(registry.findExtensionPlugins(POINT_ID, false))).containsExactlyInAnyOrder("registry.host",
+				"registry.client");
+		assertThat(registry.findExtensions(POINT_ID, false)).hasSize(2);
+
+		client.delete(true, null);
+
+		assertThat(getIds(registry.findExtensionPlugins(POINT_ID, false))).containsExactly("registry.host");
+		assertThat(registry.findExtensions(POINT_ID, false)).hasSize(1);
+		assertThat(registry.findExtensions(POINT_ID, false)[0].getContributor().getName()).isEqualTo("registry.host");
+	}
+
+	private static IProject createPluginWithExtensions(String id, String extensions) throws CoreException {
+		IProject project = ProjectUtils.createPluginProject(id, id, "1.0.0",
+				(description, service) -> description.setSingleton(true));
+		String content = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<?eclipse version=\"3.4\"?>\n<plugin>"
+				+ extensions + "</plugin>\n";
+		project.getFile("plugin.xml").create(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), true,
+				null);
+		return project;
+	}
+
+	private static String[] getIds(IPluginModelBase[] models) {
+		return Arrays.stream(models).map(model -> model.getPluginBase().getId()).toArray(String[]::new);
+	}
+}
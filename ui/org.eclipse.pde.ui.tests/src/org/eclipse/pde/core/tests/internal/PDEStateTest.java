@@ -0,0 +1,65 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 IBM Corporation and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.eclipse.core.runtime.FileLocator;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.pde.internal.core.ICoreConstants;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PDEPreferencesManager;
+import org.eclipse.pde.internal.core.PDEState;
+import org.junit.After;
+import org.junit.Test;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.FrameworkUtil;
+
+public class PDEStateTest {
+
+	@After
+	public void restorePreference() {
+		PDEPreferencesManager preferences = PDECore.getDefault().getPreferencesManager();
+		preferences.setToDefault(ICoreConstants.TARGET_STATE_LOAD_THREADS);
+	}
+
+	@Test
+	public void testParallelManifestLoadingCreatesSameState() {
+		URI[] bundles = Arrays.stream(FrameworkUtil.getBundle(PDEStateTest.class).getBundleContext().getBundles())
+				.map(FileLocator::getBundleFileLocation) //
+				.flatMap(Optional::stream) //
+				.map(File::toURI).toArray(URI[]::new);
+		assertTrue(bundles.length > 1);
+
+		PDEPreferencesManager preferences = PDECore.getDefault().getPreferencesManager();
+		preferences.setValue(ICoreConstants.TARGET_STATE_LOAD_THREADS, 1);
+		BundleDescription[] sequential = new PDEState(bundles, true, false, null).getState().getBundles();
+		preferences.setValue(ICoreConstants.TARGET_STATE_LOAD_THREADS, 4);
+		BundleDescription[] parallel = new PDEState(bundles, true, false, null).getState().getBundles();
+
+		assertArrayEquals(describe(sequential), describe(parallel));
+	}
+
+	private static String[] describe(BundleDescription[] bundles) {
+		return Arrays.stream(bundles)
+				.map(b -> b.getBundleId() + ":" + b.getSymbolicName() + "_" + b.getVersion() + "@" + b.getLocation())
+				.toArray(String[]::new);
+	}
+}
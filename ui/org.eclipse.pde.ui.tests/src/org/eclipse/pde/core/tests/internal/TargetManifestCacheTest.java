@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.internal.core.TargetManifestCache;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.osgi.framework.Constants;
+
+public class TargetManifestCacheTest {
+
+	@Rule
+	public TemporaryFolder tempFolder = new TemporaryFolder();
+
+	private File cacheFile;
+
+	@Before
+	public void setUp() {
+		cacheFile = new File(tempFolder.getRoot(), "targetManifests.cache");
+	}
+
+	@Test
+	public void testManifestsAreRestored() throws Exception {
+		File jar = createJarBundle("a.jar", "a.bundle", "1.0.0");
+		File directory = createDirectoryBundle("b.dir", "b.bundle", "1.0.0");
+		File notABundle = createJarBundle("c.jar", null, "1.0.0");
+
+		TargetManifestCache cache = TargetManifestCache.load(cacheFile);
+		cache.loadManifest(jar);
+		cache.loadManifest(directory);
+		assertThrows(CoreException.class, () -> cache.loadManifest(notABundle));
+		assertEquals(3, cache.getMisses());
+		cache.save();
+		assertTrue(cacheFile.isFile());
+
+		TargetManifestCache restored = TargetManifestCache.load(cacheFile);
+		Map<String, String> jarManifest = restored.loadManifest(jar);
+		assertEquals("a.bundle", jarManifest.get(Constants.BUNDLE_SYMBOLICNAME));
+		assertEquals("a.bundle", jarManifest.get(Constants.BUNDLE_SYMBOLICNAME.toLowerCase()));
+		Map<String, String> directoryManifest = restored.loadManifest(directory);
+		assertEquals("b.bundle", directoryManifest.get(Constants.BUNDLE_SYMBOLICNAME));
+		// directory manifests are case sensitive as when read from disk
+		assertNull(directoryManifest.get(Constants.BUNDLE_SYMBOLICNAME.toLowerCase()));
+		assertThrows(CoreException.class, () -> restored.loadManifest(notABundle));
+		assertEquals(3, restored.getHits());
+		assertEquals(0, restored.getMisses());
+	}
+
+	@Test
+	public void testChangedBundleIsReadAgain() throws Exception {
+		File jar = createJarBundle("a.jar", "a.bundle", "1.0.0");
+		TargetManifestCache cache = TargetManifestCache.load(cacheFile);
+		cache.loadManifest(jar);
+		cache.save();
+
+		createJarBundle("a.jar", "a.bundle", "2.0.0.qualifier");
+		jar.setLastModified(jar.lastModified() + 2000);
+		TargetManifestCache restored = TargetManifestCache.load(cacheFile);
+		assertEquals("2.0.0.qualifier", restored.loadManifest(jar).get(Constants.BUNDLE_VERSION));
+		assertEquals(0, restored.getHits());
+		assertEquals(1, restored.getMisses());
+	}
+
+	@Test
+	public void testCacheIsOnlyWrittenIfChanged() throws Exception {
+		File jar = createJarBundle("a.jar", "a.bundle", "1.0.0");
+		File directory = createDirectoryBundle("b.dir", "b.bundle", "1.0.0");
+		TargetManifestCache cache = TargetManifestCache.load(cacheFile);
+		cache.loadManifest(jar);
+		cache.loadManifest(directory);
+		cache.save();
+		long written = cacheFile.lastModified() - 10000;
+		cacheFile.setLastModified(written);
+
+		TargetManifestCache unchanged = TargetManifestCache.load(cacheFile);
+		unchanged.loadManifest(jar);
+		unchanged.loadManifest(directory);
+		unchanged.save();
+		assertEquals(written, cacheFile.lastModified());
+
+		// the directory bundle was removed from the target
+		TargetManifestCache removed = TargetManifestCache.load(cacheFile);
+		removed.loadManifest(jar);
+		removed.save();
+		assertNotEquals(written, cacheFile.lastModified());
+		TargetManifestCache restored = TargetManifestCache.load(cacheFile);
+		restored.loadManifest(directory);
+		assertEquals(1, restored.getMisses());
+	}
+
+	private File createJarBundle(String fileName, String symbolicName, String version) throws IOException {
+		File jar = new File(tempFolder.getRoot(), fileName);
+		try (JarOutputStream out = new JarOutputStream(new FileOutputStream(jar), createManifest(symbolicName, version))) {
+			// only the manifest is needed
+		}
+		return jar;
+	}
+
+	private File createDirectoryBundle(String directoryName, String symbolicName, String version) throws IOException {
+		File directory = new File(tempFolder.getRoot(), directoryName);
+		File manifestFile = new File(directory, JarFile.MANIFEST_NAME);
+		Files.createDirectories(manifestFile.getParentFile().toPath());
+		try (OutputStream out = new FileOutputStream(manifestFile)) {
+			createManifest(symbolicName, version).write(out);
+		}
+		return directory;
+	}
+
+	private static Manifest createManifest(String symbolicName, String version) {
+		Manifest manifest = new Manifest();
+		Attributes attributes = manifest.getMainAttributes();
+		attributes.put(Attributes.Name.MANIFEST_VERSION, "1.0");
+		attributes.putValue(Constants.BUNDLE_MANIFESTVERSION, "2");
+		if (symbolicName != null) {
+			attributes.putValue(Constants.BUNDLE_SYMBOLICNAME, symbolicName);
+		}
+		attributes.putValue(Constants.BUNDLE_VERSION, version);
+		return manifest;
+	}
+}
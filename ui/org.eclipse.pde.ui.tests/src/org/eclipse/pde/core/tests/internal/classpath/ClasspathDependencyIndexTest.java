@@ -0,0 +1,176 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal.classpath;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.service.resolver.StateObjectFactory;
+import org.eclipse.pde.internal.core.ClasspathDependencyIndex;
+import org.eclipse.pde.internal.core.ClasspathDependencyIndex.StateChanges;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.osgi.framework.BundleException;
+import org.osgi.framework.Constants;
+import org.osgi.framework.FrameworkUtil;
+
+public class ClasspathDependencyIndexTest {
+
+	private static final Map<String, String> BUNDLE_A = Map.of(Constants.BUNDLE_SYMBOLICNAME, "a",
+			Constants.BUNDLE_VERSION, "1.0.0", Constants.EXPORT_PACKAGE, "a.api");
+	private static final Map<String, String> BUNDLE_B = Map.of(Constants.BUNDLE_SYMBOLICNAME, "b",
+			Constants.BUNDLE_VERSION, "1.0.0", Constants.IMPORT_PACKAGE, "a.api");
+	private static final Map<String, String> BUNDLE_C = Map.of(Constants.BUNDLE_SYMBOLICNAME, "c",
+			Constants.BUNDLE_VERSION, "1.0.0");
+
+	private IProject fProjectB;
+	private IProject fProjectC;
+	private State fState;
+
+	@Before
+	public void setUp() throws BundleException {
+		fProjectB = ResourcesPlugin.getWorkspace().getRoot().getProject("ClasspathDependencyIndexTest.b");
+		fProjectC = ResourcesPlugin.getWorkspace().getRoot().getProject("ClasspathDependencyIndexTest.c");
+		fState = createState(BUNDLE_A, BUNDLE_B, BUNDLE_C);
+		ClasspathDependencyIndex.record(fProjectB, getBundle(fState, "b"), List.of(getBundle(fState, "a")),
+				List.of());
+		ClasspathDependencyIndex.record(fProjectC, getBundle(fState, "c"), List.of(), List.of("secondary"));
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		ClasspathDependencyIndex.forget(fProjectB);
+		ClasspathDependencyIndex.forget(fProjectC);
+		IProject project = ResourcesPlugin.getWorkspace().getRoot().getProject("ClasspathDependencyIndexTest.closed");
+		if (project.exists()) {
+			project.delete(true, null);
+		}
+	}
+
+	@Test
+	public void testOnlyDependentProjectsAreUpdated() {
+		assertEquals(Set.of(fProjectB), getDependentProjects("a"));
+		assertEquals(Set.of(fProjectC), getDependentProjects("secondary"));
+		assertEquals(Set.of(), getDependentProjects("unrelated"));
+
+		// the closure of a project is replaced when it is computed again
+		ClasspathDependencyIndex.record(fProjectB, getBundle(fState, "b"), List.of(), List.of());
+		assertEquals(Set.of(), getDependentProjects("a"));
+	}
+
+	@Test
+	public void testUnchangedStateAffectsNoProject() throws BundleException {
+		State newState = createState(BUNDLE_A, BUNDLE_B, BUNDLE_C);
+		StateChanges changes = ClasspathDependencyIndex.compare(fState, newState);
+		assertFalse(ClasspathDependencyIndex.isAffected(fProjectB, getBundle(newState, "b"), changes));
+		assertFalse(ClasspathDependencyIndex.isAffected(fProjectC, getBundle(newState, "c"), changes));
+	}
+
+	@Test
+	public void testChangedBundleAffectsItsDependents() throws BundleException {
+		Map<String, String> bundleA2 = Map.of(Constants.BUNDLE_SYMBOLICNAME, "a", Constants.BUNDLE_VERSION,
+				"2.0.0", Constants.EXPORT_PACKAGE, "a.api");
+		State newState = createState(bundleA2, BUNDLE_B, BUNDLE_C);
+		StateChanges changes = ClasspathDependencyIndex.compare(fState, newState);
+		assertTrue(ClasspathDependencyIndex.isAffected(fProjectB, getBundle(newState, "b"), changes));
+		assertFalse(ClasspathDependencyIndex.isAffected(fProjectC, getBundle(newState, "c"), changes));
+	}
+
+	@Test
+	public void testNewFragmentAffectsDependentsOfItsHost() throws BundleException {
+		Map<String, String> fragment = Map.of(Constants.BUNDLE_SYMBOLICNAME, "a.fragment",
+				Constants.BUNDLE_VERSION, "1.0.0", Constants.FRAGMENT_HOST, "a");
+		State newState = createState(BUNDLE_A, BUNDLE_B, BUNDLE_C, fragment);
+		StateChanges changes = ClasspathDependencyIndex.compare(fState, newState);
+		assertTrue(ClasspathDependencyIndex.isAffected(fProjectB, getBundle(newState, "b"), changes));
+		assertFalse(ClasspathDependencyIndex.isAffected(fProjectC, getBundle(newState, "c"), changes));
+	}
+
+	@Test
+	public void testNewSecondaryDependencyAffectsItsDependents() throws BundleException {
+		Map<String, String> secondary = Map.of(Constants.BUNDLE_SYMBOLICNAME, "secondary",
+				Constants.BUNDLE_VERSION, "1.0.0");
+		State newState = createState(BUNDLE_A, BUNDLE_B, BUNDLE_C, secondary);
+		StateChanges changes = ClasspathDependencyIndex.compare(fState, newState);
+		assertFalse(ClasspathDependencyIndex.isAffected(fProjectB, getBundle(newState, "b"), changes));
+		assertTrue(ClasspathDependencyIndex.isAffected(fProjectC, getBundle(newState, "c"), changes));
+	}
+
+	@Test
+	public void testUnrecordedProjectIsAffected() throws BundleException {
+		ClasspathDependencyIndex.forget(fProjectB);
+		assertFalse(ClasspathDependencyIndex.isRecorded(fProjectB));
+		assertEquals(Set.of(), getDependentProjects("a"));
+
+		State newState = createState(BUNDLE_A, BUNDLE_B, BUNDLE_C);
+		StateChanges changes = ClasspathDependencyIndex.compare(fState, newState);
+		assertTrue(ClasspathDependencyIndex.isAffected(fProjectB, getBundle(newState, "b"), changes));
+	}
+
+	@Test
+	public void testClosedAndDeletedProjectsAreForgotten() throws Exception {
+		IProject project = ResourcesPlugin.getWorkspace().getRoot().getProject("ClasspathDependencyIndexTest.closed");
+		project.create(null);
+		project.open(null);
+		ClasspathDependencyIndex.record(project, getBundle(fState, "b"), List.of(getBundle(fState, "a")), List.of());
+		project.close(null);
+		assertFalse(ClasspathDependencyIndex.isRecorded(project));
+		assertEquals(Set.of(fProjectB), getDependentProjects("a"));
+
+		project.open(null);
+		ClasspathDependencyIndex.record(project, getBundle(fState, "b"), List.of(getBundle(fState, "a")), List.of());
+		project.delete(true, null);
+		assertFalse(ClasspathDependencyIndex.isRecorded(project));
+		assertEquals(Set.of(fProjectB), getDependentProjects("a"));
+	}
+
+	private static Set<IProject> getDependentProjects(String symbolicName) {
+		Set<IProject> projects = new HashSet<>();
+		ClasspathDependencyIndex.addDependentProjects(symbolicName, projects);
+		return projects;
+	}
+
+	@SafeVarargs
+	private static State createState(Map<String, String>... manifests) throws BundleException {
+		StateObjectFactory factory = StateObjectFactory.defaultFactory;
+		State state = factory.createState(true);
+		long id = 1;
+		for (Map<String, String> headers : manifests) {
+			Map<String, String> manifest = new HashMap<>(headers);
+			manifest.put(Constants.BUNDLE_MANIFESTVERSION, "2");
+			String location = "/bundles/" + manifest.get(Constants.BUNDLE_SYMBOLICNAME) + '_'
+					+ manifest.get(Constants.BUNDLE_VERSION);
+			state.addBundle(factory.createBundleDescription(state, FrameworkUtil.asDictionary(manifest), location,
+					id++));
+		}
+		state.resolve(false);
+		return state;
+	}
+
+	private static BundleDescription getBundle(State state, String symbolicName) {
+		return state.getBundles(symbolicName)[0];
+	}
+}
@@ -31,11 +31,14 @@ import org.eclipse.core.resources.IncrementalProjectBuilder;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.jdt.core.IAccessRule;
 import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.launching.JavaRuntime;
 import org.eclipse.jdt.launching.environments.IExecutionEnvironment;
+import org.eclipse.pde.core.project.IBundleProjectDescription;
+import org.eclipse.pde.core.project.IPackageExportDescription;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.internal.core.ClasspathComputer;
 import org.eclipse.pde.internal.core.MinimalState;
@@ -164,8 +167,52 @@ public class ClasspathResolutionTest {
 		assertThat(requiredPluginContainers).noneMatch(containerName -> containerName.contains("capabilities.provider"));
 	}
 
+	@Test
+	public void testAccessRulesOfRequiredBundleDependOnRequiringBundle() throws CoreException {
+		ProjectUtils.createPluginProject("rules.exporter", "rules.exporter", "1.0.0", (description, service) -> {
+			description.setPackageExports(new IPackageExportDescription[] {
+					service.newPackageExport("rules.api", null, true, List.of()),
+					service.newPackageExport("rules.internal", null, false, List.of()),
+					service.newPackageExport("rules.friend", null, false, List.of("rules.friend")) });
+			description.setNatureIds(new String[] { JavaCore.NATURE_ID, IBundleProjectDescription.PLUGIN_NATURE });
+		});
+		IProject friend = ProjectUtils.createPluginProject("rules.friend", "1.0.0",
+				Map.of(Constants.REQUIRE_BUNDLE, "rules.exporter"));
+		IProject other = ProjectUtils.createPluginProject("rules.other", "1.0.0",
+				Map.of(Constants.REQUIRE_BUNDLE, "rules.exporter"));
+		IProject importer = ProjectUtils.createPluginProject("rules.importer", "1.0.0",
+				Map.of(Constants.IMPORT_PACKAGE, "rules.api,rules.internal,rules.friend"));
+
+		TestUtils.waitForJobs("ClasspathResolutionTest.testAccessRulesOfRequiredBundleDependOnRequiringBundle", 200,
+				30_000);
+
+		// the exports of rules.exporter are shared by the computations, the
+		// access to them is not
+		assertThat(getAccessRules(friend, "rules.exporter")).containsExactly("rules/api/*=ACCESSIBLE",
+				"rules/internal/*=DISCOURAGED", "rules/friend/*=ACCESSIBLE", "**/*=NON_ACCESSIBLE");
+		List<String> otherRules = List.of("rules/api/*=ACCESSIBLE", "rules/internal/*=DISCOURAGED",
+				"rules/friend/*=DISCOURAGED", "**/*=NON_ACCESSIBLE");
+		assertThat(getAccessRules(other, "rules.exporter")).containsExactlyElementsOf(otherRules);
+		assertThat(getAccessRules(importer, "rules.exporter")).containsExactlyElementsOf(otherRules);
+	}
+
 	// --- utilitiy methods ---
 
+	/**
+	 * Returns the access rules of the entry of the given bundle in the
+	 * required plug-ins container of the given project as pattern=kind
+	 */
+	private List<String> getAccessRules(IProject project, String bundleName) throws CoreException {
+		IPluginModelBase model = PDECore.getDefault().getModelManager().findModel(project);
+		IClasspathEntry entry = Arrays.stream(ClasspathComputer.computeClasspathEntries(model, project))
+				.filter(e -> e.getPath().lastSegment().startsWith(bundleName)).findFirst().orElseThrow();
+		return Arrays.stream(entry.getAccessRules()).map(rule -> rule.getPattern() + "=" + switch (rule.getKind()) {
+		case IAccessRule.K_ACCESSIBLE -> "ACCESSIBLE";
+		case IAccessRule.K_DISCOURAGED -> "DISCOURAGED";
+		default -> "NON_ACCESSIBLE";
+		}).toList();
+	}
+
 	private List<String> getRequiredPluginContainerEntries(IProject project) throws CoreException {
 		project.build(IncrementalProjectBuilder.FULL_BUILD, new NullProgressMonitor());
 		IPluginModelBase model = PDECore.getDefault().getModelManager().findModel(project);
@@ -16,7 +16,9 @@ package org.eclipse.pde.core.tests.internal.core.builders;
 import static java.util.Map.entry;
 import static org.eclipse.pde.ui.tests.util.TargetPlatformUtil.bundle;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.osgi.framework.Constants.REQUIRE_BUNDLE;
 
 import java.io.IOException;
@@ -24,12 +26,17 @@ import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
+import org.eclipse.pde.core.IModel;
+import org.eclipse.pde.core.IModelProviderEvent;
 import org.eclipse.pde.core.plugin.IPlugin;
 import org.eclipse.pde.core.plugin.IPluginBase;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.target.NameVersionDescriptor;
+import org.eclipse.pde.internal.core.ModelProviderEvent;
 import org.eclipse.pde.internal.core.PluginModelManager;
 import org.eclipse.pde.internal.core.builders.DependencyLoop;
 import org.eclipse.pde.internal.core.builders.DependencyLoopFinder;
@@ -182,6 +189,55 @@ public class DependencyLoopFinderTest {
 		assertEquals(List.of("loop.r -> loop.a"), loopSignatures("loop.r"));
 	}
 
+	/**
+	 * Lookups run on the UI thread while the registry notifies its listeners
+	 * of model changes from other threads, so neither may wait for the other.
+	 */
+	@Test
+	public void testModelChangesDuringLookupDoNotDeadlock() throws Exception {
+		setTargetPlatform( //
+				bundle("loop.a", "1.0.0", entry(REQUIRE_BUNDLE, "loop.b")), //
+				bundle("loop.b", "1.0.0", entry(REQUIRE_BUNDLE, "loop.a")));
+		IPlugin root = plugin("loop.a");
+		IModel changed = plugin("loop.b").getPluginModel();
+
+		AtomicBoolean done = new AtomicBoolean();
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		Thread lookups = new Thread(() -> {
+			try {
+				while (!done.get()) {
+					DependencyLoopFinder.findLoops(root);
+				}
+			} catch (Throwable e) {
+				failure.set(e);
+			}
+		}, "Dependency loop lookups");
+		Thread changes = new Thread(() -> {
+			try {
+				PluginModelManager manager = PluginModelManager.getInstance();
+				for (int i = 0; i < 50; i++) {
+					manager.modelsChanged(new ModelProviderEvent(this, IModelProviderEvent.MODELS_CHANGED, null,
+							null, new IModel[] { changed }));
+				}
+			} catch (Throwable e) {
+				failure.set(e);
+			} finally {
+				done.set(true);
+			}
+		}, "Plug-in model changes");
+		lookups.setDaemon(true);
+		changes.setDaemon(true);
+		lookups.start();
+		changes.start();
+		changes.join(60000);
+		lookups.join(10000);
+
+		assertFalse("model changes did not complete", changes.isAlive());
+		assertFalse("lookups did not complete", lookups.isAlive());
+		assertNull(failure.get());
+		assertEquals(List.of("loop.a -> loop.b"), loopSignatures("loop.a"));
+	}
+
 	// --- utility methods ---
 
 	@SafeVarargs
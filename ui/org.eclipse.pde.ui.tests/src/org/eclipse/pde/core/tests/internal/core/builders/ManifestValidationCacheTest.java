@@ -0,0 +1,132 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 IBM Corporation and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal.core.builders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jdt.launching.IVMInstall;
+import org.eclipse.jdt.launching.IVMInstallChangedListener;
+import org.eclipse.jdt.launching.JavaRuntime;
+import org.eclipse.jdt.launching.PropertyChangeEvent;
+import org.eclipse.pde.core.IBaseModel;
+import org.eclipse.pde.internal.core.builders.ManifestValidationCache;
+import org.eclipse.pde.internal.core.builders.PDEMarkerFactory;
+import org.eclipse.pde.internal.core.ibundle.IBundle;
+import org.eclipse.pde.internal.core.ibundle.IBundlePluginModelBase;
+import org.eclipse.pde.internal.ui.util.ModelModification;
+import org.eclipse.pde.internal.ui.util.PDEModelUtility;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.osgi.framework.Constants;
+
+/**
+ * Tests that the problems found in a manifest are cached, replayed as markers
+ * and dropped when the inputs of the validation change.
+ */
+public class ManifestValidationCacheTest {
+
+	private IProject project;
+	private IFile manifest;
+
+	@Before
+	public void setup() throws Exception {
+		String name = getClass().getName();
+		project = ProjectUtils.createPluginProject(name,
+				JavaRuntime.getExecutionEnvironmentsManager().getEnvironment("JavaSE-17")).getProject();
+		manifest = project.getFile("META-INF/MANIFEST.MF");
+		// a missing activator is reported without affecting resolution
+		PDEModelUtility.modifyModel(new ModelModification(manifest) {
+			@Override
+			protected void modifyModel(IBaseModel model, IProgressMonitor monitor) throws CoreException {
+				IBundle bundle = ((IBundlePluginModelBase) model).getBundleModel().getBundle();
+				bundle.setHeader(Constants.BUNDLE_ACTIVATOR, "missing.Activator");
+			}
+		}, null);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		if (project.exists()) {
+			project.delete(true, null);
+		}
+	}
+
+	@Test
+	public void testMarkersAreReplayedFromCache() throws Exception {
+		List<String> markers = buildAndGetMarkers();
+		assertThat(markers).isNotEmpty();
+		assertThat(ManifestValidationCache.isCached(project)).isTrue();
+
+		assertThat(buildAndGetMarkers()).isEqualTo(markers);
+		assertThat(ManifestValidationCache.isCached(project)).isTrue();
+	}
+
+	@Test
+	public void testCacheIsDroppedWhenProjectChanges() throws Exception {
+		buildAndGetMarkers();
+		assertThat(ManifestValidationCache.isCached(project)).isTrue();
+
+		project.getFile("changed.txt").create(new ByteArrayInputStream(new byte[0]), true, null);
+		assertThat(ManifestValidationCache.isCached(project)).isFalse();
+	}
+
+	@Test
+	public void testCacheIsDroppedWhenManifestChanges() throws Exception {
+		List<String> markers = buildAndGetMarkers();
+		PDEModelUtility.modifyModel(new ModelModification(manifest) {
+			@Override
+			protected void modifyModel(IBaseModel model, IProgressMonitor monitor) throws CoreException {
+				IBundle bundle = ((IBundlePluginModelBase) model).getBundleModel().getBundle();
+				bundle.setHeader(Constants.BUNDLE_ACTIVATOR, null);
+			}
+		}, null);
+		assertThat(buildAndGetMarkers()).isNotEqualTo(markers);
+	}
+
+	@Test
+	public void testCacheIsDroppedWhenJREsChange() throws Exception {
+		buildAndGetMarkers();
+		assertThat(ManifestValidationCache.isCached(project)).isTrue();
+
+		IVMInstall vm = JavaRuntime.getDefaultVMInstall();
+		JavaRuntime.fireVMChanged(new PropertyChangeEvent(vm, IVMInstallChangedListener.PROPERTY_NAME,
+				vm.getName(), vm.getName()));
+		assertThat(ManifestValidationCache.isCached(project)).isFalse();
+	}
+
+	/**
+	 * Builds the project and returns the message, line and severity of each
+	 * marker reported in its manifest
+	 */
+	private List<String> buildAndGetMarkers() throws CoreException {
+		project.build(IncrementalProjectBuilder.FULL_BUILD, null);
+		return Arrays.stream(manifest.findMarkers(PDEMarkerFactory.MARKER_ID, false, 0))
+				.map(m -> m.getAttribute(IMarker.MESSAGE, "") + ':' + m.getAttribute(IMarker.LINE_NUMBER, -1) + ':'
+						+ m.getAttribute(IMarker.SEVERITY, -1))
+				.sorted().toList();
+	}
+}
@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal.core.schema;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.eclipse.pde.internal.core.schema.IncludedSchemaDescriptor;
+import org.eclipse.pde.internal.core.schema.Schema;
+import org.eclipse.pde.internal.core.schema.SchemaCache;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class SchemaCacheTest {
+
+	@Rule
+	public TemporaryFolder tempFolder = new TemporaryFolder();
+
+	private File fCacheFile;
+	private File fSchemaFile;
+
+	@Before
+	public void setUp() throws IOException {
+		fCacheFile = new File(tempFolder.getRoot(), "schemas.cache");
+		fSchemaFile = new File(tempFolder.getRoot(), "point.exsd");
+		writeSchema("value");
+	}
+
+	@Test
+	public void testCachedSchemaIsReused() throws Exception {
+		SchemaCache cache = SchemaCache.load(fCacheFile);
+		assertEquals("value", loadSchema(cache));
+		assertEquals(0, cache.getHits());
+		assertEquals(1, cache.getMisses());
+		assertEquals(1, cache.size());
+
+		assertEquals("value", loadSchema(cache));
+		assertEquals(1, cache.getHits());
+		assertEquals(1, cache.getMisses());
+
+		// the cache survives a restart
+		cache.save();
+		cache = SchemaCache.load(fCacheFile);
+		assertEquals(1, cache.size());
+		assertEquals("value", loadSchema(cache));
+		assertEquals(1, cache.getHits());
+		assertEquals(0, cache.getMisses());
+	}
+
+	@Test
+	public void testChangedSchemaIsLoadedAgain() throws Exception {
+		SchemaCache cache = SchemaCache.load(fCacheFile);
+		loadSchema(cache);
+
+		writeSchema("changedValue");
+		fSchemaFile.setLastModified(fSchemaFile.lastModified() + 2000);
+		assertEquals("changedValue", loadSchema(cache));
+		assertEquals(0, cache.getHits());
+		assertEquals(2, cache.getMisses());
+
+		assertEquals("changedValue", loadSchema(cache));
+		assertEquals(1, cache.getHits());
+	}
+
+	@Test
+	public void testMissingSchemasArePrunedOnSave() throws Exception {
+		SchemaCache cache = SchemaCache.load(fCacheFile);
+		loadSchema(cache);
+		cache.save();
+		assertEquals(1, cache.size());
+
+		assertTrue(fSchemaFile.delete());
+		cache.save();
+		assertEquals(0, cache.size());
+		assertEquals(0, SchemaCache.load(fCacheFile).size());
+	}
+
+	@Test
+	public void testChangedSchemasArePrunedOnSave() throws Exception {
+		SchemaCache cache = SchemaCache.load(fCacheFile);
+		loadSchema(cache);
+
+		writeSchema("changedValue");
+		fSchemaFile.setLastModified(fSchemaFile.lastModified() + 2000);
+		cache.save();
+		assertEquals(0, SchemaCache.load(fCacheFile).size());
+	}
+
+	/**
+	 * Loads the abbreviated schema with the given cache.
+	 *
+	 * @return the name of the only attribute of its extension element
+	 */
+	private String loadSchema(SchemaCache cache) throws Exception {
+		URL url = fSchemaFile.toURI().toURL();
+		Schema schema = new Schema(new IncludedSchemaDescriptor(url), url, true);
+		cache.load(schema);
+		assertTrue(schema.isLoaded());
+		assertTrue(schema.isValid());
+		assertNotNull(schema.findElement("extension"));
+		return schema.findElement("extension").getAttributes()[0].getName();
+	}
+
+	private void writeSchema(String attribute) throws IOException {
+		String schema = """
+				<?xml version='1.0' encoding='UTF-8'?>
+				<schema targetNamespace="test.plugin" xmlns="http://www.w3.org/2001/XMLSchema">
+				<annotation>
+				<appInfo>
+				<meta.schema plugin="test.plugin" id="point" name="Point"/>
+				</appInfo>
+				</annotation>
+				<element name="extension">
+				<complexType>
+				<attribute name="%s" type="string"/>
+				</complexType>
+				</element>
+				</schema>
+				""".formatted(attribute);
+		Files.writeString(fSchemaFile.toPath(), schema, StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.jar.Attributes;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+import org.eclipse.pde.core.target.TargetBundle;
+import org.eclipse.pde.internal.core.util.ManifestCache;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.osgi.framework.Constants;
+
+public class ManifestCacheTest {
+
+	@Rule
+	public TemporaryFolder tempFolder = new TemporaryFolder();
+
+	@Before
+	public void startLoad() {
+		ManifestCache.open();
+	}
+
+	@After
+	public void endLoad() {
+		ManifestCache.close();
+	}
+
+	@Test
+	public void testManifestReadByTargetBundleIsReused() throws Exception {
+		File jar = createBundle("a.jar", "a.bundle", "1.0.0");
+		new TargetBundle(jar);
+		long opens = ManifestCache.getOpens();
+		long opensAvoided = ManifestCache.getOpensAvoided();
+
+		Map<String, String> manifest = ManifestCache.loadManifest(jar);
+		assertEquals("a.bundle", manifest.get(Constants.BUNDLE_SYMBOLICNAME));
+		assertEquals(opens, ManifestCache.getOpens());
+		assertEquals(opensAvoided + 1, ManifestCache.getOpensAvoided());
+
+		// returned manifests are copies
+		manifest.put(Constants.BUNDLE_SYMBOLICNAME, "modified");
+		assertEquals("a.bundle", ManifestCache.loadManifest(jar).get(Constants.BUNDLE_SYMBOLICNAME));
+	}
+
+	@Test
+	public void testChangedBundleIsReadAgain() throws Exception {
+		File jar = createBundle("b.jar", "b.bundle", "1.0.0");
+		assertEquals("1.0.0", ManifestCache.loadManifest(jar).get(Constants.BUNDLE_VERSION));
+
+		createBundle("b.jar", "b.bundle", "2.0.0.qualifier");
+		jar.setLastModified(jar.lastModified() + 2000);
+		long opens = ManifestCache.getOpens();
+		assertEquals("2.0.0.qualifier", ManifestCache.loadManifest(jar).get(Constants.BUNDLE_VERSION));
+		assertEquals(opens + 1, ManifestCache.getOpens());
+	}
+
+	@Test
+	public void testManifestsAreDroppedAfterLoad() throws Exception {
+		File jar = createBundle("c.jar", "c.bundle", "1.0.0");
+		ManifestCache.open();
+		ManifestCache.loadManifest(jar);
+		ManifestCache.close();
+		assertTrue(ManifestCache.size() > 0);
+
+		// the load started by the test is still in progress
+		ManifestCache.close();
+		try {
+			assertEquals(0, ManifestCache.size());
+			long opens = ManifestCache.getOpens();
+			ManifestCache.loadManifest(jar);
+			ManifestCache.loadManifest(jar);
+			assertEquals(opens + 2, ManifestCache.getOpens());
+			assertEquals(0, ManifestCache.size());
+		} finally {
+			ManifestCache.open();
+		}
+	}
+
+	private File createBundle(String fileName, String symbolicName, String version) throws IOException {
+		Manifest manifest = new Manifest();
+		Attributes attributes = manifest.getMainAttributes();
+		attributes.put(Attributes.Name.MANIFEST_VERSION, "1.0");
+		attributes.putValue(Constants.BUNDLE_MANIFESTVERSION, "2");
+		attributes.putValue(Constants.BUNDLE_SYMBOLICNAME, symbolicName);
+		attributes.putValue(Constants.BUNDLE_VERSION, version);
+		File jar = new File(tempFolder.getRoot(), fileName);
+		try (JarOutputStream out = new JarOutputStream(new FileOutputStream(jar), manifest)) {
+			// only the manifest is needed
+		}
+		return jar;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2023 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,10 +15,14 @@ package org.eclipse.pde.ui.tests;
 
 import org.eclipse.pde.core.tests.internal.AllPDECoreTests;
 import org.eclipse.pde.core.tests.internal.classpath.ChainedReexportPerformanceTest;
+import org.eclipse.pde.core.tests.internal.classpath.ClasspathDependencyIndexTest;
 import org.eclipse.pde.core.tests.internal.classpath.ClasspathResolutionTest;
 import org.eclipse.pde.core.tests.internal.classpath.ClasspathResolutionTest2;
 import org.eclipse.pde.core.tests.internal.classpath.RequiredPluginsClasspathContainerPerformanceTest;
 import org.eclipse.pde.core.tests.internal.core.builders.BundleErrorReporterTest;
+import org.eclipse.pde.core.tests.internal.core.builders.ManifestValidationCacheTest;
+import org.eclipse.pde.core.tests.internal.core.schema.SchemaCacheTest;
+import org.eclipse.pde.core.tests.internal.util.ManifestCacheTest;
 import org.eclipse.pde.core.tests.internal.util.PDESchemaHelperTest;
 import org.eclipse.pde.ui.tests.build.properties.AllValidatorTests;
 import org.eclipse.pde.ui.tests.classpathcontributor.ClasspathContributorTest;
@@ -66,11 +70,15 @@ import org.junit.platform.suite.api.Suite;
 	ChainedReexportPerformanceTest.class, //
 	ClasspathUpdaterTest.class, //
 	PDESchemaHelperTest.class, //
+	ManifestCacheTest.class, //
 	ClasspathContributorTest.class, //
 	DynamicPluginProjectReferencesTest.class, //
 	ClasspathResolutionTest.class, //
 	ClasspathResolutionTest2.class, //
+	ClasspathDependencyIndexTest.class, //
 	BundleErrorReporterTest.class, //
+	ManifestValidationCacheTest.class, //
+	SchemaCacheTest.class, //
 	AllPDECoreTests.class, //
 	ProjectSmartImportTest.class, //
 	GatherUnusedDependenciesOperationTest.class, //
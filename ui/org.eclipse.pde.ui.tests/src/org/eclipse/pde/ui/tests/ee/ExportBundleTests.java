@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2023 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,6 +21,14 @@ import static org.junit.Assert.fail;
 import java.io.File;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.ResourcesPlugin;
@@ -33,7 +41,11 @@ import org.eclipse.jdt.internal.compiler.classfmt.ClassFileConstants;
 import org.eclipse.jdt.launching.JavaRuntime;
 import org.eclipse.jdt.launching.environments.IExecutionEnvironment;
 import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.core.plugin.TargetPlatform;
+import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.exports.FeatureExportInfo;
+import org.eclipse.pde.internal.core.exports.FeatureExportOperation;
+import org.eclipse.pde.internal.core.ifeature.IFeatureModel;
 import org.eclipse.pde.internal.core.exports.PluginExportOperation;
 import org.eclipse.pde.ui.tests.PDETestCase;
 import org.eclipse.pde.ui.tests.runtime.TestUtils;
@@ -240,6 +252,158 @@ public class ExportBundleTests extends PDETestCase {
 		}
 	}
 
+	/**
+	 * Exports the same plug-in projects sequentially and in parallel and
+	 * validates that both exports contain the same files.
+	 */
+	@Test
+	public void testParallelExportMatchesSequential() throws Exception {
+		Path sequentialPath = EXPORT_PATH.resolve("sequential");
+		Path parallelPath = EXPORT_PATH.resolve("parallel");
+		try {
+			IExecutionEnvironment env = JavaRuntime.getExecutionEnvironmentsManager().getEnvironment("JavaSE-1.8");
+			List<Object> models = new ArrayList<>();
+			for (String name : List.of("parallel.export.a", "parallel.export.b", "parallel.export.c")) {
+				IJavaProject project = ProjectUtils.createPluginProject(name, env);
+				assertTrue("Project was not created", project.exists());
+				models.add(PluginRegistry.findModel(project.getProject()));
+			}
+
+			exportPlugins(models.toArray(), sequentialPath, false);
+			exportPlugins(models.toArray(), parallelPath, true);
+
+			Map<String, List<String>> sequential = getContents(sequentialPath);
+			assertEquals("Missing exported bundles", 3, sequential.size());
+			assertEquals("Parallel export differs", sequential, getContents(parallelPath));
+		} finally {
+			TestUtils.waitForJobs(name.getMethodName(), 10, 5000);
+			deleteProject("parallel.export.a");
+			deleteProject("parallel.export.b");
+			deleteProject("parallel.export.c");
+			delete(EXPORT_PATH.toFile());
+		}
+	}
+
+	/**
+	 * Exports a feature for two platforms without p2 metadata sequentially and
+	 * in parallel, so the configurations are assembled concurrently in the
+	 * parallel export, and validates that both exports contain the same files.
+	 */
+	@Test
+	public void testParallelMultiConfigurationExportMatchesSequential() throws Exception {
+		Path sequentialPath = EXPORT_PATH.resolve("sequential");
+		Path parallelPath = EXPORT_PATH.resolve("parallel");
+		List<String> plugins = List.of("parallel.configs.a", "parallel.configs.b");
+		String featureId = "parallel.configs.feature";
+		try {
+			IExecutionEnvironment env = JavaRuntime.getExecutionEnvironmentsManager().getEnvironment("JavaSE-1.8");
+			for (String plugin : plugins) {
+				assertTrue("Project was not created", ProjectUtils.createPluginProject(plugin, env).exists());
+			}
+			ProjectUtils.createFeatureProject(featureId, "1.0.0", feature -> {
+				for (String plugin : plugins) {
+					ProjectUtils.addIncludedPlugin(feature, plugin, "1.0.0");
+				}
+			});
+			IFeatureModel feature = PDECore.getDefault().getFeatureModelManager().findFeatureModel(featureId, "1.0.0");
+			String[][] targets = { { "linux", "gtk", "x86_64", TargetPlatform.getNL() },
+					{ "win32", "win32", "x86_64", TargetPlatform.getNL() } };
+
+			exportFeature(feature, targets, sequentialPath, false);
+			exportFeature(feature, targets, parallelPath, true);
+
+			Map<String, List<String>> sequential = getContents(sequentialPath);
+			for (String config : List.of("linux.gtk.x86_64", "win32.win32.x86_64")) {
+				for (String plugin : plugins) {
+					Path bundle = Path.of(config, "plugins", plugin + "_1.0.0.jar");
+					assertTrue("Missing exported bundle " + bundle, sequential.containsKey(bundle.toString()));
+				}
+			}
+			assertEquals("Parallel export differs", sequential, getContents(parallelPath));
+		} finally {
+			TestUtils.waitForJobs(name.getMethodName(), 10, 5000);
+			for (String plugin : plugins) {
+				deleteProject(plugin);
+			}
+			deleteProject(featureId + "_1_0_0");
+			delete(EXPORT_PATH.toFile());
+		}
+	}
+
+	private void exportFeature(IFeatureModel feature, String[][] targets, Path destination, boolean parallel)
+			throws Exception {
+		FeatureExportInfo info = new FeatureExportInfo();
+		info.toDirectory = true;
+		info.useJarFormat = true;
+		info.exportMetadata = false;
+		info.exportSource = false;
+		info.allowBinaryCycles = false;
+		info.useWorkspaceCompiledClasses = false;
+		info.destinationDirectory = destination.toString();
+		info.zipFileName = null;
+		info.items = new Object[] { feature };
+		info.targets = targets;
+		info.signingInfo = null;
+		info.qualifier = "vXYZ";
+		info.parallel = parallel;
+
+		FeatureExportOperation job = new FeatureExportOperation(info, "Test-Export");
+		job.schedule();
+		job.join();
+		assertFalse("Export job had ant errors", job.hasAntErrors());
+		assertTrue("Export job had errors", job.getResult().isOK());
+
+		TestUtils.processUIEvents(100);
+		TestUtils.waitForJobs(name.getMethodName(), 100, 10000);
+	}
+
+	private void exportPlugins(Object[] models, Path destination, boolean parallel) throws Exception {
+		FeatureExportInfo info = new FeatureExportInfo();
+		info.toDirectory = true;
+		info.useJarFormat = true;
+		info.exportSource = false;
+		info.allowBinaryCycles = false;
+		info.useWorkspaceCompiledClasses = false;
+		info.destinationDirectory = destination.toString();
+		info.zipFileName = null;
+		info.items = models;
+		info.signingInfo = null;
+		info.qualifier = "vXYZ";
+		info.parallel = parallel;
+
+		PluginExportOperation job = new PluginExportOperation(info, "Test-Export");
+		job.schedule();
+		job.join();
+		assertFalse("Export job had ant errors", job.hasAntErrors());
+		assertTrue("Export job had errors", job.getResult().isOK());
+
+		TestUtils.processUIEvents(100);
+		TestUtils.waitForJobs(name.getMethodName(), 100, 10000);
+	}
+
+	/**
+	 * Returns the sorted entries of each archive of an export by its path
+	 * relative to the export directory.
+	 */
+	private static Map<String, List<String>> getContents(Path exportPath) throws Exception {
+		Map<String, List<String>> contents = new TreeMap<>();
+		try (Stream<Path> files = Files.walk(exportPath)) {
+			for (Path file : files.filter(Files::isRegularFile).toList()) {
+				List<String> entries = new ArrayList<>();
+				if (file.toString().endsWith(".jar")) {
+					try (ZipFile zip = new ZipFile(file.toFile())) {
+						for (ZipEntry entry : Collections.list(zip.entries())) {
+							entries.add(entry.getName());
+						}
+					}
+					Collections.sort(entries);
+				}
+				contents.put(exportPath.relativize(file).toString(), entries);
+			}
+		}
+		return contents;
+	}
+
 	private void printContents(File dir) {
 		System.out.println("First 2 levels of: " + dir);
 		File[] children = dir.listFiles();
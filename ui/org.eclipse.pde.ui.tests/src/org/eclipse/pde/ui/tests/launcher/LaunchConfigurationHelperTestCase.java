@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2017 EclipseSource Corporation and others.
+ * Copyright (c) 2009, 2026 EclipseSource Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,15 +14,43 @@
 package org.eclipse.pde.ui.tests.launcher;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
+import java.io.File;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.eclipse.core.variables.IStringVariableManager;
+import org.eclipse.core.variables.IValueVariable;
+import org.eclipse.core.variables.VariablesPlugin;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.ILaunchConfigurationWorkingCopy;
+import org.eclipse.jdt.launching.IJavaLaunchConfigurationConstants;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.PluginRegistry;
 import org.eclipse.pde.internal.launching.launcher.LaunchConfigurationHelper;
+import org.eclipse.pde.launching.IPDELauncherConstants;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 /**
  * Tests LaunchConfigurationHelper convenience methods
  * @since 3.5
  */
 public class LaunchConfigurationHelperTestCase {
+
+	private static final String SIMPLE_CONFIGURATOR = "org.eclipse.equinox.simpleconfigurator";
+
+	@Rule
+	public TemporaryFolder tempFolder = new TemporaryFolder();
+
 	@Test
 	public void testgetStartData() {
 		assertEquals(LaunchConfigurationHelper.getStartData("", false), "");
@@ -41,4 +69,68 @@ public class LaunchConfigurationHelperTestCase {
 		assertEquals(LaunchConfigurationHelper.getStartData("default", true), "@start");
 	}
 
+	@Test
+	public void testConfigIniIsOnlyGeneratedWhenChanged() throws Exception {
+		IStringVariableManager manager = VariablesPlugin.getDefault().getStringVariableManager();
+		IValueVariable variable = manager.newValueVariable("pde_test_config_ini", null);
+		manager.addVariables(new IValueVariable[] { variable });
+		try {
+			variable.setValue("first");
+			File configurationDirectory = tempFolder.newFolder("configuration");
+			File template = tempFolder.newFile("template.ini");
+			Files.writeString(template.toPath(), "osgi.bundles=" + SIMPLE_CONFIGURATOR + "@1:start\n");
+			ILaunchConfigurationWorkingCopy configuration = DebugPlugin.getDefault().getLaunchManager()
+					.getLaunchConfigurationType("org.eclipse.pde.ui.RuntimeWorkbench").newInstance(null, "configIni");
+			configuration.setAttribute(IPDELauncherConstants.CONFIG_GENERATE_DEFAULT, false);
+			configuration.setAttribute(IPDELauncherConstants.CONFIG_TEMPLATE_LOCATION, template.getAbsolutePath());
+			configuration.setAttribute(IJavaLaunchConfigurationConstants.ATTR_VM_ARGUMENTS,
+					"-Dtest=${pde_test_config_ini}");
+			IPluginModelBase simpleConfigurator = PluginRegistry.findModel(SIMPLE_CONFIGURATOR);
+			assertNotNull(simpleConfigurator);
+			Map<String, List<IPluginModelBase>> bundles = Map.of(SIMPLE_CONFIGURATOR, List.of(simpleConfigurator));
+			Map<IPluginModelBase, String> startLevels = Map.of(simpleConfigurator, "1:true");
+
+			Properties properties = LaunchConfigurationHelper.createConfigIniFile(configuration, null, bundles,
+					startLevels, configurationDirectory);
+			String configUrl = properties.getProperty("org.eclipse.equinox.simpleconfigurator.configUrl");
+			assertNotNull(configUrl);
+			File bundlesInfo = new File(new URI(configUrl));
+			assertTrue(bundlesInfo.isFile());
+
+			// an unchanged launch reuses the generated config.ini
+			markConfigIni(configurationDirectory);
+			properties = LaunchConfigurationHelper.createConfigIniFile(configuration, null, bundles, startLevels,
+					configurationDirectory);
+			assertEquals("true", properties.getProperty("pde.test.marker"));
+
+			// a modified bundles.info is generated again
+			Files.writeString(bundlesInfo.toPath(), "#modified\n", StandardOpenOption.APPEND);
+			properties = LaunchConfigurationHelper.createConfigIniFile(configuration, null, bundles, startLevels,
+					configurationDirectory);
+			assertNull(properties.getProperty("pde.test.marker"));
+
+			markConfigIni(configurationDirectory);
+			properties = LaunchConfigurationHelper.createConfigIniFile(configuration, null, bundles, startLevels,
+					configurationDirectory);
+			assertEquals("true", properties.getProperty("pde.test.marker"));
+
+			// so is a launch whose string variables have another value
+			variable.setValue("second");
+			properties = LaunchConfigurationHelper.createConfigIniFile(configuration, null, bundles, startLevels,
+					configurationDirectory);
+			assertNull(properties.getProperty("pde.test.marker"));
+		} finally {
+			manager.removeVariables(new IValueVariable[] { variable });
+		}
+	}
+
+	/**
+	 * Adds a property to the generated config.ini, which is only kept if it is
+	 * not generated again.
+	 */
+	private static void markConfigIni(File configurationDirectory) throws Exception {
+		File configIni = new File(configurationDirectory, "config.ini");
+		Files.writeString(configIni.toPath(), "pde.test.marker=true\n", StandardOpenOption.APPEND);
+	}
+
 }
@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.launcher;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.ExportPackageDescription;
+import org.eclipse.osgi.service.resolver.HostSpecification;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.internal.launching.launcher.LaunchStateCache;
+import org.eclipse.pde.internal.launching.launcher.LaunchStateCache.LaunchState;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.After;
+import org.junit.Test;
+import org.osgi.framework.Constants;
+
+public class LaunchStateCacheTest extends AbstractLaunchTest {
+
+	@After
+	public void disposeLaunchStates() {
+		LaunchStateCache.dispose();
+	}
+
+	@Test
+	public void testUpdatedLaunchStateMatchesNewLaunchState() throws Exception {
+		IProject projectA = ProjectUtils.createPluginProject("launch.state.a", "1.0.0",
+				Map.of(Constants.EXPORT_PACKAGE, "launch.state.a"));
+		ProjectUtils.createPluginProject("launch.state.b", "1.0.0",
+				Map.of(Constants.REQUIRE_BUNDLE, "launch.state.a"));
+		ProjectUtils.createPluginProject("launch.state.c", "1.0.0",
+				Map.of(Constants.IMPORT_PACKAGE, "launch.state.a"));
+		Set<IPluginModelBase> includedPlugins = Set.of(findWorkspaceModel("launch.state.b", "1.0.0"),
+				findWorkspaceModel("launch.state.c", "1.0.0"));
+		LaunchState cached = LaunchStateCache.getLaunchState(includedPlugins, true);
+		Map<String, String> before = describe(cached);
+
+		// replace a bundle and add one depending on an included bundle
+		projectA.delete(true, true, null);
+		ProjectUtils.createPluginProject("launch.state.a", "2.0.0",
+				Map.of(Constants.EXPORT_PACKAGE, "launch.state.a"));
+		ProjectUtils.createPluginProject("launch.state.d", "1.0.0",
+				Map.of(Constants.REQUIRE_BUNDLE, "launch.state.c"));
+		findWorkspaceModel("launch.state.d", "1.0.0");
+
+		LaunchState updated = LaunchStateCache.getLaunchState(includedPlugins, true);
+		assertSame(cached, updated);
+		Map<String, String> after = describe(updated);
+		assertTrue(after.keySet().stream().anyMatch(k -> k.startsWith("launch.state.a_2.0.0@")));
+		assertTrue(after.keySet().stream().anyMatch(k -> k.startsWith("launch.state.d_1.0.0@")));
+		assertTrue(after.keySet().stream().noneMatch(k -> k.startsWith("launch.state.a_1.0.0@")));
+		assertNotEquals(before, after);
+
+		LaunchStateCache.dispose();
+		LaunchState created = LaunchStateCache.getLaunchState(includedPlugins, true);
+		assertNotSame(updated, created);
+		assertEquals(describe(created), after);
+	}
+
+	/**
+	 * Describes every bundle of the given launch-state with whether it is
+	 * resolved and included and the bundles it is wired to.
+	 */
+	private static Map<String, String> describe(LaunchState launchState) {
+		synchronized (launchState) {
+			Map<String, String> bundles = new TreeMap<>();
+			for (BundleDescription bundle : launchState.getState().getBundles()) {
+				List<String> wires = new ArrayList<>();
+				for (BundleDescription required : bundle.getResolvedRequires()) {
+					wires.add("require " + getKey(launchState, required));
+				}
+				for (ExportPackageDescription imported : bundle.getResolvedImports()) {
+					wires.add("import " + imported.getName() + " from " + getKey(launchState, imported.getExporter()));
+				}
+				HostSpecification host = bundle.getHost();
+				if (host != null && host.getHosts() != null) {
+					for (BundleDescription hostBundle : host.getHosts()) {
+						wires.add("host " + getKey(launchState, hostBundle));
+					}
+				}
+				wires.sort(null);
+				bundles.put(getKey(launchState, bundle), "resolved=" + bundle.isResolved() + " included="
+						+ launchState.getIncludedBundles().contains(bundle) + " " + wires);
+			}
+			return bundles;
+		}
+	}
+
+	private static String getKey(LaunchState launchState, BundleDescription bundle) {
+		IPluginModelBase plugin = launchState.getPlugin(bundle);
+		return plugin.getPluginBase().getId() + '_' + plugin.getPluginBase().getVersion() + '@'
+				+ plugin.getInstallLocation();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2025 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,6 +22,7 @@ import static org.junit.Assert.assertTrue;
 import java.io.File;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -35,6 +36,9 @@ import org.eclipse.pde.core.target.ITargetLocation;
 import org.eclipse.pde.core.target.ITargetPlatformService;
 import org.eclipse.pde.core.target.NameVersionDescriptor;
 import org.eclipse.pde.core.target.TargetBundle;
+import org.eclipse.pde.internal.core.ICoreConstants;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PDEPreferencesManager;
 import org.eclipse.pde.internal.core.target.IUBundleContainer;
 import org.eclipse.pde.ui.tests.PDETestCase;
 import org.junit.Test;
@@ -172,6 +176,45 @@ public class TargetDefinitionResolutionTests extends AbstractTargetTest {
 
 	}
 
+	/**
+	 * Tests that resolving the locations of a target concurrently reports
+	 * the same bundles and the same statuses, in the order of the locations,
+	 * as resolving them sequentially.
+	 */
+	@Test
+	public void testParallelResolution() throws Exception {
+		Path dirPath = extractAbcdePlugins().resolve("plugins");
+		PDEPreferencesManager preferences = PDECore.getDefault().getPreferencesManager();
+		try {
+			preferences.setValue(ICoreConstants.TARGET_RESOLVE_THREADS, 1);
+			ITargetDefinition sequential = newParallelResolutionTarget(dirPath);
+			IStatus sequentialStatus = sequential.resolve(null);
+			preferences.setValue(ICoreConstants.TARGET_RESOLVE_THREADS, 4);
+			ITargetDefinition parallel = newParallelResolutionTarget(dirPath);
+			IStatus parallelStatus = parallel.resolve(null);
+
+			assertEquals("Incorrect severity", IStatus.ERROR, parallelStatus.getSeverity());
+			assertEquals("Wrong number of children", 3, parallelStatus.getChildren().length);
+			assertEquals(Arrays.toString(sequentialStatus.getChildren()), Arrays.toString(parallelStatus.getChildren()));
+			assertTrue(parallel.isResolved());
+			assertEquals(20, parallel.getAllBundles().length);
+			assertEquals(Arrays.toString(sequential.getAllBundles()), Arrays.toString(parallel.getAllBundles()));
+		} finally {
+			preferences.setToDefault(ICoreConstants.TARGET_RESOLVE_THREADS);
+		}
+	}
+
+	private ITargetDefinition newParallelResolutionTarget(Path dirPath) throws Exception {
+		ITargetDefinition definition = getNewTarget();
+		definition.setTargetLocations(new ITargetLocation[] { //
+				getTargetService().newDirectoryLocation("***SHOULD NOT EXIST 1***"),
+				getTargetService().newDirectoryLocation(dirPath.toString()),
+				getTargetService().newDirectoryLocation("***SHOULD NOT EXIST 2***"),
+				getTargetService().newDirectoryLocation(dirPath.toString()),
+				getTargetService().newDirectoryLocation("***SHOULD NOT EXIST 3***") });
+		return definition;
+	}
+
 	/**
 	 * Tests that a target definition is in synch with the target platform.
 	 */
@@ -2178,6 +2178,8 @@ public class PDEUIMessages extends NLS {
 	public static String ProductExportWizardPage_syncText;
 	public static String ProductExportWizardPage_syncButton;
 	public static String ProductExportWizardPage_noProduct;
+	public static String ProductExportWizardPage_parallel;
+	public static String ProductExportWizardPage_parallelTooltip;
 	public static String Product_OverviewPage_testing;
 	public static String Product_PluginSection_desc;
 	public static String Product_FeatureSection_add;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2015 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -41,6 +41,7 @@ public class ProductExportWizardPage extends AbstractExportWizardPage {
 	private static final String S_ALLOW_BINARY_CYCLES = "allowBinaryCycles"; //$NON-NLS-1$
 	private static final String S_MULTI_PLATFORM = "multiplatform"; //$NON-NLS-1$
 	private static final String S_EXPORT_METADATA = "p2metadata"; //$NON-NLS-1$
+	private static final String S_PARALLEL = "parallel"; //$NON-NLS-1$
 
 	private Button fSyncButton;
 	private final IStructuredSelection fSelection;
@@ -51,6 +52,7 @@ public class ProductExportWizardPage extends AbstractExportWizardPage {
 	private Button fMultiPlatform;
 	private Button fExportMetadata;
 	private Button fAllowBinaryCycles;
+	private Button fParallel;
 	private boolean fPageInitialized = false;
 
 	public ProductExportWizardPage(IStructuredSelection selection) {
@@ -143,6 +145,10 @@ public class ProductExportWizardPage extends AbstractExportWizardPage {
 
 		fAllowBinaryCycles = new Button(group, SWT.CHECK);
 		fAllowBinaryCycles.setText(PDEUIMessages.ExportOptionsTab_allowBinaryCycles);
+
+		fParallel = new Button(group, SWT.CHECK);
+		fParallel.setText(PDEUIMessages.ProductExportWizardPage_parallel);
+		fParallel.setToolTipText(PDEUIMessages.ProductExportWizardPage_parallelTooltip);
 	}
 
 	protected void initialize() {
@@ -166,6 +172,8 @@ public class ProductExportWizardPage extends AbstractExportWizardPage {
 		selected = settings.get(S_ALLOW_BINARY_CYCLES);
 		fAllowBinaryCycles.setSelection(selected == null || Boolean.parseBoolean(selected));
 
+		fParallel.setSelection(settings.getBoolean(S_PARALLEL));
+
 		if (fMultiPlatform != null) {
 			fMultiPlatform.setSelection(settings.getBoolean(S_MULTI_PLATFORM));
 		}
@@ -216,6 +224,7 @@ public class ProductExportWizardPage extends AbstractExportWizardPage {
 		settings.put(S_EXPORT_SOURCE_FORMAT, fExportSourceCombo.getItem(fExportSourceCombo.getSelectionIndex()));
 		settings.put(S_EXPORT_METADATA, doExportMetadata());
 		settings.put(S_ALLOW_BINARY_CYCLES, doBinaryCycles());
+		settings.put(S_PARALLEL, doParallel());
 
 		if (fMultiPlatform != null) {
 			settings.put(S_MULTI_PLATFORM, fMultiPlatform.getSelection());
@@ -242,6 +251,13 @@ public class ProductExportWizardPage extends AbstractExportWizardPage {
 		return fAllowBinaryCycles.getSelection();
 	}
 
+	/**
+	 * @return whether to build plug-ins and platforms in parallel
+	 */
+	protected boolean doParallel() {
+		return fParallel.getSelection();
+	}
+
 	/**
 	 * @return whether to generate p2 metadata on export
 	 */